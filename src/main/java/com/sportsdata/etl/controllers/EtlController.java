@@ -1,8 +1,7 @@
 package com.sportsdata.etl.controllers;
 
-import com.sportsdata.etl.services.loaders.S3DataLoader;
 import com.sportsdata.etl.services.pipeline.EtlPipeline;
-import com.sportsdata.etl.services.quality.S3QualityChecker;
+import com.sportsdata.etl.services.quality.QualitySnapshotService;
 import com.sportsdata.etl.services.quality.QualityReport;
 
 import org.slf4j.Logger;
@@ -25,10 +24,7 @@ public class EtlController {
     private EtlPipeline etlPipeline;
     
     @Autowired
-    private S3QualityChecker qualityChecker;
-    
-    @Autowired
-    private S3DataLoader s3DataLoader;
+    private QualitySnapshotService qualitySnapshotService;
     
     @PostMapping("/execute")
     public ResponseEntity<EtlPipeline.PipelineResult> executePipeline(
@@ -73,7 +69,7 @@ public class EtlController {
         logger.info("Data quality report requested via REST API");
         
         try {
-            QualityReport report = qualityChecker.generateQualityReport();
+            QualityReport report = qualitySnapshotService.getSnapshot().getQualityReport();
             return ResponseEntity.ok(report);
         } catch (Exception e) {
             logger.error("Error generating quality report", e);
@@ -88,9 +84,10 @@ public class EtlController {
         try {
             Map<String, Object> status = new HashMap<>();
             
-            // Check S3 connection
-            boolean s3Connected = s3DataLoader.checkS3Connection();
-            QualityReport report = qualityChecker.generateQualityReport();
+            // S3 connection and quality come from the cached snapshot rather than live S3 calls
+            QualitySnapshotService.Snapshot snapshot = qualitySnapshotService.getSnapshot();
+            boolean s3Connected = snapshot.isS3Connected();
+            QualityReport report = snapshot.getQualityReport();
             
             status.put("status", s3Connected ? "READY" : "S3_CONNECTION_ERROR");
             status.put("s3Storage", Map.of(
@@ -100,7 +97,8 @@ public class EtlController {
                 "games", report.getGameCount(),
                 "total", report.getTeamCount() + report.getPlayerCount() + report.getGameCount(),
                 "qualityScore", report.getOverallQualityScore(),
-                "qualityStatus", report.getQualityStatus()
+                "qualityStatus", report.getQualityStatus(),
+                "refreshedAt", snapshot.getRefreshedAt().toString()
             ));
             
             // Add system info
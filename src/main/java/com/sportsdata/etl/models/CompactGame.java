@@ -0,0 +1,142 @@
+package com.sportsdata.etl.models;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Immutable, primitive-backed form of {@link Game}. Scores are plain ints with
+ * {@link #NO_SCORE} for a missing value and the date is held as epoch seconds of the
+ * unzoned timestamp, so a game carries no boxed or date objects. The {@link GameView}
+ * getters box on demand and serialize to the same JSON as {@link Game}.
+ */
+@JsonPropertyOrder({"gameId", "homeTeamId", "awayTeamId", "date", "homeScore", "awayScore", "status"})
+public final class CompactGame implements GameView {
+    
+    public static final int NO_SCORE = Integer.MIN_VALUE;
+    public static final long NO_DATE = Long.MIN_VALUE;
+    
+    private final String gameId;
+    private final String homeTeamId;
+    private final String awayTeamId;
+    private final long dateEpochSeconds;
+    private final int homeScore;
+    private final int awayScore;
+    private final String status;
+    
+    public CompactGame(String gameId, String homeTeamId, String awayTeamId, long dateEpochSeconds,
+                       int homeScore, int awayScore, String status) {
+        this.gameId = gameId;
+        this.homeTeamId = homeTeamId;
+        this.awayTeamId = awayTeamId;
+        this.dateEpochSeconds = dateEpochSeconds;
+        this.homeScore = homeScore;
+        this.awayScore = awayScore;
+        this.status = status;
+    }
+    
+    public static CompactGame from(GameView game) {
+        if (game instanceof CompactGame) {
+            return (CompactGame) game;
+        }
+        LocalDateTime date = game.getDate();
+        return new CompactGame(game.getGameId(), game.getHomeTeamId(), game.getAwayTeamId(),
+            date != null ? date.toEpochSecond(ZoneOffset.UTC) : NO_DATE,
+            game.getHomeScore() != null ? game.getHomeScore() : NO_SCORE,
+            game.getAwayScore() != null ? game.getAwayScore() : NO_SCORE,
+            game.getStatus());
+    }
+    
+    public Game toGame() {
+        return new Game(gameId, homeTeamId, awayTeamId, getDate(), getHomeScore(), getAwayScore(), status);
+    }
+    
+    // Primitive accessors; not bean getters, so Jackson only sees the GameView properties
+    public long dateEpochSeconds() {
+        return dateEpochSeconds;
+    }
+    
+    public boolean hasDate() {
+        return dateEpochSeconds != NO_DATE;
+    }
+    
+    public int homeScore() {
+        return homeScore;
+    }
+    
+    public int awayScore() {
+        return awayScore;
+    }
+    
+    public boolean hasHomeScore() {
+        return homeScore != NO_SCORE;
+    }
+    
+    public boolean hasAwayScore() {
+        return awayScore != NO_SCORE;
+    }
+    
+    @Override
+    public String getGameId() {
+        return gameId;
+    }
+    
+    @Override
+    public String getHomeTeamId() {
+        return homeTeamId;
+    }
+    
+    @Override
+    public String getAwayTeamId() {
+        return awayTeamId;
+    }
+    
+    @Override
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    public LocalDateTime getDate() {
+        return hasDate() ? LocalDateTime.ofEpochSecond(dateEpochSeconds, 0, ZoneOffset.UTC) : null;
+    }
+    
+    @Override
+    public Integer getHomeScore() {
+        return hasHomeScore() ? homeScore : null;
+    }
+    
+    @Override
+    public Integer getAwayScore() {
+        return hasAwayScore() ? awayScore : null;
+    }
+    
+    @Override
+    public String getStatus() {
+        return status;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CompactGame game = (CompactGame) o;
+        return Objects.equals(gameId, game.gameId);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(gameId);
+    }
+    
+    @Override
+    public String toString() {
+        return "CompactGame{" +
+                "gameId='" + gameId + '\'' +
+                ", homeTeamId='" + homeTeamId + '\'' +
+                ", awayTeamId='" + awayTeamId + '\'' +
+                ", date=" + getDate() +
+                ", homeScore=" + getHomeScore() +
+                ", awayScore=" + getAwayScore() +
+                ", status='" + status + '\'' +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+package com.sportsdata.etl.models;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.util.Objects;
+
+/**
+ * Immutable, primitive-backed form of {@link Player} with the statistics flattened into
+ * ints. {@link #NO_VALUE} marks a missing age or counter. The primitive statistics accessors
+ * read the fields directly; the {@link PlayerView} getters box on demand and serialize to the
+ * same JSON as {@link Player}.
+ */
+@JsonPropertyOrder({"playerId", "name", "teamId", "position", "age", "statistics"})
+public final class CompactPlayer implements PlayerView {
+    
+    private final String playerId;
+    private final String name;
+    private final String teamId;
+    private final String position;
+    private final int age;
+    private final boolean hasStatistics;
+    private final int gamesPlayed;
+    private final int points;
+    private final int assists;
+    
+    public CompactPlayer(String playerId, String name, String teamId, String position, int age,
+                         boolean hasStatistics, int gamesPlayed, int points, int assists) {
+        this.playerId = playerId;
+        this.name = name;
+        this.teamId = teamId;
+        this.position = position;
+        this.age = age;
+        this.hasStatistics = hasStatistics;
+        this.gamesPlayed = gamesPlayed;
+        this.points = points;
+        this.assists = assists;
+    }
+    
+    public static CompactPlayer from(PlayerView player) {
+        if (player instanceof CompactPlayer) {
+            return (CompactPlayer) player;
+        }
+        return new CompactPlayer(player.getPlayerId(), player.getName(), player.getTeamId(), player.getPosition(),
+            orNoValue(player.getAge()), player.hasStatistics(), player.gamesPlayed(), player.points(), player.assists());
+    }
+    
+    public Player toPlayer() {
+        Player player = new Player(playerId, name, teamId, position, getAge(), null);
+        player.setStatistics(getStatistics());
+        return player;
+    }
+    
+    // Primitive accessors; not bean getters, so Jackson only sees the PlayerView properties
+    public int age() {
+        return age;
+    }
+    
+    @Override
+    public boolean hasStatistics() {
+        return hasStatistics;
+    }
+    
+    @Override
+    public int gamesPlayed() {
+        return gamesPlayed;
+    }
+    
+    @Override
+    public int points() {
+        return points;
+    }
+    
+    @Override
+    public int assists() {
+        return assists;
+    }
+    
+    @Override
+    public String getPlayerId() {
+        return playerId;
+    }
+    
+    @Override
+    public String getName() {
+        return name;
+    }
+    
+    @Override
+    public String getTeamId() {
+        return teamId;
+    }
+    
+    @Override
+    public String getPosition() {
+        return position;
+    }
+    
+    @Override
+    public Integer getAge() {
+        return boxed(age);
+    }
+    
+    // Builds a detached copy; changes to it do not affect this player
+    @Override
+    public Player.PlayerStatistics getStatistics() {
+        return hasStatistics ? new Player.PlayerStatistics(boxed(gamesPlayed), boxed(points), boxed(assists)) : null;
+    }
+    
+    private static int orNoValue(Integer value) {
+        return value != null ? value : NO_VALUE;
+    }
+    
+    private static Integer boxed(int value) {
+        return value != NO_VALUE ? value : null;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CompactPlayer player = (CompactPlayer) o;
+        return Objects.equals(playerId, player.playerId);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(playerId);
+    }
+    
+    @Override
+    public String toString() {
+        return "CompactPlayer{" +
+                "playerId='" + playerId + '\'' +
+                ", name='" + name + '\'' +
+                ", teamId='" + teamId + '\'' +
+                ", position='" + position + '\'' +
+                ", age=" + getAge() +
+                ", statistics=" + getStatistics() +
+                '}';
+    }
+}
\ No newline at end of file
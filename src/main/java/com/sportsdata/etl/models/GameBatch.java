@@ -0,0 +1,178 @@
+package com.sportsdata.etl.models;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Struct-of-arrays batch of games: one array per field, using the {@link CompactGame} sentinels
+ * for missing scores and dates. Rules that look at one field scan a single contiguous array
+ * instead of dereferencing every game. Column accessors return the backing arrays, which are
+ * valid up to {@link #size()} and may be updated in place by transformation steps.
+ */
+public final class GameBatch {
+    
+    private static final int DEFAULT_CAPACITY = 1024;
+    
+    private String[] gameIds;
+    private String[] homeTeamIds;
+    private String[] awayTeamIds;
+    private long[] dates;
+    private int[] homeScores;
+    private int[] awayScores;
+    private String[] statuses;
+    private int size;
+    
+    public GameBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    public GameBatch(int capacity) {
+        int initial = Math.max(capacity, 1);
+        gameIds = new String[initial];
+        homeTeamIds = new String[initial];
+        awayTeamIds = new String[initial];
+        dates = new long[initial];
+        homeScores = new int[initial];
+        awayScores = new int[initial];
+        statuses = new String[initial];
+    }
+    
+    // Null entries are skipped; a batch only holds actual games
+    public static GameBatch of(Collection<? extends GameView> games) {
+        GameBatch batch = new GameBatch(games.size());
+        for (GameView game : games) {
+            if (game != null) {
+                batch.add(game);
+            }
+        }
+        return batch;
+    }
+    
+    public void add(GameView game) {
+        ensureCapacity(size + 1);
+        gameIds[size] = game.getGameId();
+        homeTeamIds[size] = game.getHomeTeamId();
+        awayTeamIds[size] = game.getAwayTeamId();
+        statuses[size] = game.getStatus();
+        
+        if (game instanceof CompactGame) {
+            CompactGame compact = (CompactGame) game;
+            dates[size] = compact.dateEpochSeconds();
+            homeScores[size] = compact.homeScore();
+            awayScores[size] = compact.awayScore();
+        } else {
+            LocalDateTime date = game.getDate();
+            dates[size] = date != null ? date.toEpochSecond(ZoneOffset.UTC) : CompactGame.NO_DATE;
+            homeScores[size] = game.getHomeScore() != null ? game.getHomeScore() : CompactGame.NO_SCORE;
+            awayScores[size] = game.getAwayScore() != null ? game.getAwayScore() : CompactGame.NO_SCORE;
+        }
+        size++;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public String[] gameIds() { return gameIds; }
+    public String[] homeTeamIds() { return homeTeamIds; }
+    public String[] awayTeamIds() { return awayTeamIds; }
+    public long[] dates() { return dates; }
+    public int[] homeScores() { return homeScores; }
+    public int[] awayScores() { return awayScores; }
+    public String[] statuses() { return statuses; }
+    
+    public CompactGame row(int index) {
+        checkIndex(index);
+        return new CompactGame(gameIds[index], homeTeamIds[index], awayTeamIds[index], dates[index],
+            homeScores[index], awayScores[index], statuses[index]);
+    }
+    
+    // Row view for code that works on records, such as the loaders; rows are built on access
+    public List<CompactGame> rows() {
+        return new AbstractList<>() {
+            @Override
+            public CompactGame get(int index) {
+                return row(index);
+            }
+            
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+    
+    // Game view of the rows for callers that take a List<Game>, such as the pipeline result; converted on access
+    public List<Game> toGames() {
+        return new AbstractList<>() {
+            @Override
+            public Game get(int index) {
+                return row(index).toGame();
+            }
+            
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+    
+    // Returns a new batch with the rows whose keep flag is set, in their original order
+    public GameBatch select(boolean[] keep) {
+        GameBatch selected = new GameBatch(size);
+        for (int i = 0; i < size; i++) {
+            if (keep[i]) {
+                int target = selected.size++;
+                selected.gameIds[target] = gameIds[i];
+                selected.homeTeamIds[target] = homeTeamIds[i];
+                selected.awayTeamIds[target] = awayTeamIds[i];
+                selected.dates[target] = dates[i];
+                selected.homeScores[target] = homeScores[i];
+                selected.awayScores[target] = awayScores[i];
+                selected.statuses[target] = statuses[i];
+            }
+        }
+        return selected;
+    }
+    
+    // Returns a new batch with the given rows, in the order listed
+    public GameBatch select(int[] rows) {
+        GameBatch selected = new GameBatch(rows.length);
+        for (int i : rows) {
+            checkIndex(i);
+            int target = selected.size++;
+            selected.gameIds[target] = gameIds[i];
+            selected.homeTeamIds[target] = homeTeamIds[i];
+            selected.awayTeamIds[target] = awayTeamIds[i];
+            selected.dates[target] = dates[i];
+            selected.homeScores[target] = homeScores[i];
+            selected.awayScores[target] = awayScores[i];
+            selected.statuses[target] = statuses[i];
+        }
+        return selected;
+    }
+    
+    private void ensureCapacity(int required) {
+        if (required <= gameIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, gameIds.length * 2);
+        gameIds = Arrays.copyOf(gameIds, capacity);
+        homeTeamIds = Arrays.copyOf(homeTeamIds, capacity);
+        awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+        dates = Arrays.copyOf(dates, capacity);
+        homeScores = Arrays.copyOf(homeScores, capacity);
+        awayScores = Arrays.copyOf(awayScores, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+    }
+    
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for batch of " + size);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.sportsdata.etl.models;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only access to a game, implemented by both {@link Game} and the primitive-backed
+ * {@link CompactGame} so validation, profiling and loading accept either form.
+ */
+public interface GameView {
+    
+    String getGameId();
+    
+    String getHomeTeamId();
+    
+    String getAwayTeamId();
+    
+    LocalDateTime getDate();
+    
+    Integer getHomeScore();
+    
+    Integer getAwayScore();
+    
+    String getStatus();
+}
\ No newline at end of file
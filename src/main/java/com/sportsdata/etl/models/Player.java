@@ -6,7 +6,7 @@ import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import java.util.Objects;
 
-public class Player {
+public class Player implements PlayerView {
     
     private String playerId;
     
@@ -0,0 +1,158 @@
+package com.sportsdata.etl.models;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Struct-of-arrays batch of players with the statistics flattened into int columns, using
+ * {@link PlayerView#NO_VALUE} for missing values. Column accessors return the backing
+ * arrays, which are valid up to {@link #size()} and may be updated in place.
+ */
+public final class PlayerBatch {
+    
+    private static final int DEFAULT_CAPACITY = 1024;
+    
+    private String[] playerIds;
+    private String[] names;
+    private String[] teamIds;
+    private String[] positions;
+    private int[] ages;
+    private boolean[] hasStatistics;
+    private int[] gamesPlayed;
+    private int[] points;
+    private int[] assists;
+    private int size;
+    
+    public PlayerBatch() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    public PlayerBatch(int capacity) {
+        int initial = Math.max(capacity, 1);
+        playerIds = new String[initial];
+        names = new String[initial];
+        teamIds = new String[initial];
+        positions = new String[initial];
+        ages = new int[initial];
+        hasStatistics = new boolean[initial];
+        gamesPlayed = new int[initial];
+        points = new int[initial];
+        assists = new int[initial];
+    }
+    
+    // Null entries are skipped; a batch only holds actual players
+    public static PlayerBatch of(Collection<? extends PlayerView> players) {
+        PlayerBatch batch = new PlayerBatch(players.size());
+        for (PlayerView player : players) {
+            if (player != null) {
+                batch.add(player);
+            }
+        }
+        return batch;
+    }
+    
+    public void add(PlayerView player) {
+        CompactPlayer compact = CompactPlayer.from(player);
+        ensureCapacity(size + 1);
+        playerIds[size] = compact.getPlayerId();
+        names[size] = compact.getName();
+        teamIds[size] = compact.getTeamId();
+        positions[size] = compact.getPosition();
+        ages[size] = compact.age();
+        hasStatistics[size] = compact.hasStatistics();
+        gamesPlayed[size] = compact.gamesPlayed();
+        points[size] = compact.points();
+        assists[size] = compact.assists();
+        size++;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public String[] playerIds() { return playerIds; }
+    public String[] names() { return names; }
+    public String[] teamIds() { return teamIds; }
+    public String[] positions() { return positions; }
+    public int[] ages() { return ages; }
+    public boolean[] hasStatistics() { return hasStatistics; }
+    public int[] gamesPlayed() { return gamesPlayed; }
+    public int[] points() { return points; }
+    public int[] assists() { return assists; }
+    
+    public CompactPlayer row(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for batch of " + size);
+        }
+        return new CompactPlayer(playerIds[index], names[index], teamIds[index], positions[index], ages[index],
+            hasStatistics[index], gamesPlayed[index], points[index], assists[index]);
+    }
+    
+    // Row view for code that works on records, such as the loaders; rows are built on access
+    public List<CompactPlayer> rows() {
+        return new AbstractList<>() {
+            @Override
+            public CompactPlayer get(int index) {
+                return row(index);
+            }
+            
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+    
+    // Player view of the rows for callers that take a List<Player>, such as the pipeline result; converted on access
+    public List<Player> toPlayers() {
+        return new AbstractList<>() {
+            @Override
+            public Player get(int index) {
+                return row(index).toPlayer();
+            }
+            
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+    
+    // Returns a new batch with the rows whose keep flag is set, in their original order
+    public PlayerBatch select(boolean[] keep) {
+        PlayerBatch selected = new PlayerBatch(size);
+        for (int i = 0; i < size; i++) {
+            if (keep[i]) {
+                int target = selected.size++;
+                selected.playerIds[target] = playerIds[i];
+                selected.names[target] = names[i];
+                selected.teamIds[target] = teamIds[i];
+                selected.positions[target] = positions[i];
+                selected.ages[target] = ages[i];
+                selected.hasStatistics[target] = hasStatistics[i];
+                selected.gamesPlayed[target] = gamesPlayed[i];
+                selected.points[target] = points[i];
+                selected.assists[target] = assists[i];
+            }
+        }
+        return selected;
+    }
+    
+    private void ensureCapacity(int required) {
+        if (required <= playerIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, playerIds.length * 2);
+        playerIds = Arrays.copyOf(playerIds, capacity);
+        names = Arrays.copyOf(names, capacity);
+        teamIds = Arrays.copyOf(teamIds, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        hasStatistics = Arrays.copyOf(hasStatistics, capacity);
+        gamesPlayed = Arrays.copyOf(gamesPlayed, capacity);
+        points = Arrays.copyOf(points, capacity);
+        assists = Arrays.copyOf(assists, capacity);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.sportsdata.etl.models;
+
+/**
+ * Read-only access to a player, implemented by both {@link Player} and the primitive-backed
+ * {@link CompactPlayer} so validation, profiling and loading accept either form. Readers of the
+ * statistics should prefer the primitive accessors, which {@link CompactPlayer} answers without
+ * building a {@link Player.PlayerStatistics}.
+ */
+public interface PlayerView {
+    
+    // Returned by the primitive accessors for a missing counter
+    int NO_VALUE = Integer.MIN_VALUE;
+    
+    String getPlayerId();
+    
+    String getName();
+    
+    String getTeamId();
+    
+    String getPosition();
+    
+    Integer getAge();
+    
+    Player.PlayerStatistics getStatistics();
+    
+    default boolean hasStatistics() {
+        return getStatistics() != null;
+    }
+    
+    default int gamesPlayed() {
+        Player.PlayerStatistics statistics = getStatistics();
+        return statistics != null && statistics.getGamesPlayed() != null ? statistics.getGamesPlayed() : NO_VALUE;
+    }
+    
+    default int points() {
+        Player.PlayerStatistics statistics = getStatistics();
+        return statistics != null && statistics.getPoints() != null ? statistics.getPoints() : NO_VALUE;
+    }
+    
+    default int assists() {
+        Player.PlayerStatistics statistics = getStatistics();
+        return statistics != null && statistics.getAssists() != null ? statistics.getAssists() : NO_VALUE;
+    }
+}
\ No newline at end of file
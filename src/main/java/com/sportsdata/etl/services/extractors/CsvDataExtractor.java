@@ -1,10 +1,11 @@
 package com.sportsdata.etl.services.extractors;
 
 import com.opencsv.CSVReader;
-import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvValidationException;
 import com.sportsdata.etl.models.Team;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.io.FileReader;
@@ -13,7 +14,13 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Component
 public class CsvDataExtractor {
@@ -21,55 +28,76 @@ public class CsvDataExtractor {
     private static final Logger logger = LoggerFactory.getLogger(CsvDataExtractor.class);
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     
+    // Replaced by the shared dictionary under Spring; a private one otherwise
+    @Autowired
+    private StringDictionary stringDictionary = new StringDictionary();
+    
     public List<Team> extractTeams(String filePath) {
         List<Team> teams = new ArrayList<>();
         
-        try (CSVReader csvReader = new CSVReader(new FileReader(filePath))) {
-            List<String[]> records = csvReader.readAll();
+        try (Stream<Team> teamStream = streamTeams(filePath)) {
+            teamStream.forEach(teams::add);
+        }
+        
+        logger.info("Successfully extracted {} teams from CSV file: {}", teams.size(), filePath);
+        
+        return teams;
+    }
+    
+    /**
+     * Streams teams from the CSV file one row at a time using {@link CSVReader#readNext()},
+     * so memory stays flat regardless of file size. The returned stream holds the file open
+     * and must be closed by the caller (e.g. with try-with-resources).
+     */
+    public Stream<Team> streamTeams(String filePath) {
+        CSVReader csvReader = null;
+        
+        try {
+            csvReader = new CSVReader(new FileReader(filePath));
+            String[] headers = csvReader.readNext();
             
             // Skip header row
-            if (records.isEmpty()) {
+            if (headers == null) {
                 logger.warn("CSV file is empty: {}", filePath);
-                return teams;
+                closeQuietly(csvReader, filePath);
+                return Stream.empty();
             }
             
-            String[] headers = records.get(0);
             logger.info("Processing CSV file: {} with headers: {}", filePath, String.join(", ", headers));
             
-            for (int i = 1; i < records.size(); i++) {
-                String[] record = records.get(i);
-                try {
-                    Team team = parseTeamRecord(record, i + 1);
-                    if (team != null) {
-                        teams.add(team);
-                    }
-                } catch (Exception e) {
-                    logger.error("Error parsing team record at line {}: {}", i + 1, e.getMessage());
-                }
-            }
-            
-            logger.info("Successfully extracted {} teams from CSV file: {}", teams.size(), filePath);
-            
         } catch (IOException e) {
             logger.error("Error reading CSV file: {}", filePath, e);
-        } catch (CsvException e) {
+            closeQuietly(csvReader, filePath);
+            return Stream.empty();
+        } catch (CsvValidationException e) {
             logger.error("Error parsing CSV file: {}", filePath, e);
+            closeQuietly(csvReader, filePath);
+            return Stream.empty();
         }
         
-        return teams;
+        CSVReader reader = csvReader;
+        StringDictionary.Usage dictionary = stringDictionary.newUsage();
+        TeamRecordIterator iterator = new TeamRecordIterator(reader, filePath, dictionary);
+        
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> {
+                closeQuietly(reader, filePath);
+                logger.info("String dictionary for {}: {}", filePath, dictionary.describe());
+            });
     }
     
-    private Team parseTeamRecord(String[] record, int lineNumber) {
+    private Team parseTeamRecord(String[] record, int lineNumber, StringDictionary.Usage dictionary) {
         if (record.length < 6) {
             logger.warn("Insufficient columns in record at line {}: expected 6, got {}", lineNumber, record.length);
             return null;
         }
         
         try {
-            String teamId = record[0].trim();
+            String teamId = dictionary.canonicalize(record[0].trim());
             String name = record[1].trim();
-            String city = record[2].trim();
-            String league = record[3].trim();
+            String city = dictionary.canonicalize(record[2].trim());
+            String league = dictionary.canonicalize(record[3].trim());
             String foundedStr = record[4].trim();
             String venue = record[5].trim();
             
@@ -97,16 +125,26 @@ public class CsvDataExtractor {
         }
     }
     
+    private void closeQuietly(CSVReader csvReader, String filePath) {
+        if (csvReader == null) {
+            return;
+        }
+        try {
+            csvReader.close();
+        } catch (IOException e) {
+            logger.warn("Error closing CSV file: {}", filePath, e);
+        }
+    }
+    
     public boolean validateCsvStructure(String filePath) {
         try (CSVReader csvReader = new CSVReader(new FileReader(filePath))) {
-            List<String[]> records = csvReader.readAll();
+            String[] headers = csvReader.readNext();
             
-            if (records.isEmpty()) {
+            if (headers == null) {
                 logger.error("CSV file is empty: {}", filePath);
                 return false;
             }
             
-            String[] headers = records.get(0);
             if (headers.length < 6) {
                 logger.error("Invalid CSV structure: expected at least 6 columns, got {}", headers.length);
                 return false;
@@ -114,9 +152,66 @@ public class CsvDataExtractor {
             
             return true;
             
-        } catch (IOException | CsvException e) {
+        } catch (IOException | CsvValidationException e) {
             logger.error("Error validating CSV file structure: {}", filePath, e);
             return false;
         }
     }
-} 
\ No newline at end of file
+    
+    // Pulls one CSV row at a time and yields only rows that parse into a Team
+    private class TeamRecordIterator implements Iterator<Team> {
+        private final CSVReader csvReader;
+        private final String filePath;
+        private final StringDictionary.Usage dictionary;
+        private int lineNumber = 1;
+        private Team next;
+        private boolean finished;
+        
+        TeamRecordIterator(CSVReader csvReader, String filePath, StringDictionary.Usage dictionary) {
+            this.csvReader = csvReader;
+            this.filePath = filePath;
+            this.dictionary = dictionary;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            while (next == null && !finished) {
+                String[] record;
+                try {
+                    record = csvReader.readNext();
+                } catch (IOException e) {
+                    logger.error("Error reading CSV file: {}", filePath, e);
+                    finished = true;
+                    break;
+                } catch (CsvValidationException e) {
+                    logger.error("Error parsing CSV file: {} at line {}", filePath, lineNumber + 1, e);
+                    finished = true;
+                    break;
+                }
+                
+                if (record == null) {
+                    finished = true;
+                    break;
+                }
+                
+                lineNumber++;
+                try {
+                    next = parseTeamRecord(record, lineNumber, dictionary);
+                } catch (Exception e) {
+                    logger.error("Error parsing team record at line {}: {}", lineNumber, e.getMessage());
+                }
+            }
+            return next != null;
+        }
+        
+        @Override
+        public Team next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Team team = next;
+            next = null;
+            return team;
+        }
+    }
+}
\ No newline at end of file
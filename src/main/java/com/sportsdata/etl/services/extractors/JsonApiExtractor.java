@@ -1,16 +1,27 @@
 package com.sportsdata.etl.services.extractors;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.PlayerBatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Component
 public class JsonApiExtractor {
@@ -18,62 +29,88 @@ public class JsonApiExtractor {
     private static final Logger logger = LoggerFactory.getLogger(JsonApiExtractor.class);
     private final ObjectMapper objectMapper;
     
+    // Replaced by the shared dictionary under Spring; a private one otherwise
+    @Autowired
+    private StringDictionary stringDictionary = new StringDictionary();
+    
     public JsonApiExtractor() {
         this.objectMapper = new ObjectMapper();
     }
     
+    // Fills a columnar batch straight from the stream, without keeping a list of Player objects
+    public PlayerBatch extractPlayerBatch(String filePath) {
+        PlayerBatch batch = new PlayerBatch();
+        
+        try (Stream<Player> playerStream = streamPlayers(filePath)) {
+            playerStream.forEach(batch::add);
+        } catch (Exception e) {
+            logger.error("Unexpected error processing JSON file: {}", filePath, e);
+        }
+        
+        logger.info("Successfully extracted {} players from JSON file: {}", batch.size(), filePath);
+        
+        return batch;
+    }
+    
     public List<Player> extractPlayers(String filePath) {
         List<Player> players = new ArrayList<>();
         
+        try (Stream<Player> playerStream = streamPlayers(filePath)) {
+            playerStream.forEach(players::add);
+        } catch (Exception e) {
+            logger.error("Unexpected error processing JSON file: {}", filePath, e);
+        }
+        
+        logger.info("Successfully extracted {} players from JSON file: {}", players.size(), filePath);
+        
+        return players;
+    }
+    
+    /**
+     * Streams players from the JSON file with a {@link JsonParser}, building one small tree per
+     * player instead of one for the whole document. Accepts the same layouts as
+     * {@link #extractPlayers(String)}: a top-level array, a {@code {"players": [...]}} wrapper,
+     * or a single player object. The returned stream must be closed by the caller.
+     */
+    public Stream<Player> streamPlayers(String filePath) {
+        JsonParser parser = null;
+        
         try {
-            JsonNode rootNode = objectMapper.readTree(new File(filePath));
+            parser = objectMapper.createParser(new File(filePath));
+            JsonToken rootToken = parser.nextToken();
             logger.info("Processing JSON file: {}", filePath);
             
-            if (rootNode.isArray()) {
-                // Handle array of players
-                for (JsonNode playerNode : rootNode) {
-                    Player player = parsePlayerNode(playerNode);
-                    if (player != null) {
-                        players.add(player);
-                    }
-                }
-            } else if (rootNode.has("players")) {
-                // Handle object with players array
-                JsonNode playersNode = rootNode.get("players");
-                if (playersNode.isArray()) {
-                    for (JsonNode playerNode : playersNode) {
-                        Player player = parsePlayerNode(playerNode);
-                        if (player != null) {
-                            players.add(player);
-                        }
-                    }
-                }
-            } else {
-                // Handle single player object
-                Player player = parsePlayerNode(rootNode);
-                if (player != null) {
-                    players.add(player);
-                }
+            if (rootToken != JsonToken.START_ARRAY && rootToken != JsonToken.START_OBJECT) {
+                logger.warn("JSON file does not contain an array or object: {}", filePath);
+                closeQuietly(parser, filePath);
+                return Stream.empty();
             }
             
-            logger.info("Successfully extracted {} players from JSON file: {}", players.size(), filePath);
-            
         } catch (IOException e) {
             logger.error("Error reading JSON file: {}", filePath, e);
-        } catch (Exception e) {
-            logger.error("Unexpected error processing JSON file: {}", filePath, e);
+            closeQuietly(parser, filePath);
+            return Stream.empty();
         }
         
-        return players;
+        JsonParser openParser = parser;
+        StringDictionary.Usage dictionary = stringDictionary.newUsage();
+        PlayerNodeIterator iterator = new PlayerNodeIterator(openParser, filePath, dictionary);
+        
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> {
+                closeQuietly(openParser, filePath);
+                logger.info("String dictionary for {}: {}", filePath, dictionary.describe());
+            });
     }
     
-    private Player parsePlayerNode(JsonNode playerNode) {
+    private Player parsePlayerNode(JsonNode playerNode, StringDictionary.Usage dictionary) {
         try {
             // Extract basic player information
             String playerId = getTextValue(playerNode, "playerId");
             String name = getTextValue(playerNode, "name");
-            String teamId = getTextValue(playerNode, "teamId");
-            String position = getTextValue(playerNode, "position");
+            String teamId = dictionary.canonicalize(getTextValue(playerNode, "teamId"));
+            String position = dictionary.canonicalize(getTextValue(playerNode, "position"));
             Integer age = getIntValue(playerNode, "age");
             
             // Validate required fields
@@ -137,6 +174,17 @@ public class JsonApiExtractor {
         return fieldNode.asInt(defaultValue);
     }
     
+    private void closeQuietly(JsonParser parser, String filePath) {
+        if (parser == null) {
+            return;
+        }
+        try {
+            parser.close();
+        } catch (IOException e) {
+            logger.warn("Error closing JSON file: {}", filePath, e);
+        }
+    }
+    
     public boolean validateJsonStructure(String filePath) {
         try {
             JsonNode rootNode = objectMapper.readTree(new File(filePath));
@@ -157,4 +205,109 @@ public class JsonApiExtractor {
             return false;
         }
     }
-} 
\ No newline at end of file
+    
+    // Walks the token stream and yields one Player per player object, whichever layout the file uses
+    private class PlayerNodeIterator implements Iterator<Player> {
+        private final JsonParser parser;
+        private final String filePath;
+        private final StringDictionary.Usage dictionary;
+        private boolean inPlayersArray;
+        private boolean inRootObject;
+        private boolean sawPlayersField;
+        private ObjectNode singlePlayerNode;
+        private Player next;
+        private boolean finished;
+        
+        PlayerNodeIterator(JsonParser parser, String filePath, StringDictionary.Usage dictionary) {
+            this.parser = parser;
+            this.filePath = filePath;
+            this.dictionary = dictionary;
+            if (parser.currentToken() == JsonToken.START_ARRAY) {
+                this.inPlayersArray = true;
+            } else {
+                this.inRootObject = true;
+                this.singlePlayerNode = objectMapper.createObjectNode();
+            }
+        }
+        
+        @Override
+        public boolean hasNext() {
+            while (next == null && !finished) {
+                JsonNode playerNode;
+                try {
+                    playerNode = nextPlayerNode();
+                } catch (IOException e) {
+                    logger.error("Error reading JSON file: {}", filePath, e);
+                    finished = true;
+                    break;
+                }
+                
+                if (playerNode == null) {
+                    finished = true;
+                    break;
+                }
+                
+                next = parsePlayerNode(playerNode, dictionary);
+            }
+            return next != null;
+        }
+        
+        @Override
+        public Player next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Player player = next;
+            next = null;
+            return player;
+        }
+        
+        private JsonNode nextPlayerNode() throws IOException {
+            while (true) {
+                if (inPlayersArray) {
+                    JsonToken token = parser.nextToken();
+                    if (token == null || token == JsonToken.END_ARRAY) {
+                        inPlayersArray = false;
+                        continue;
+                    }
+                    JsonNode playerNode = parser.readValueAsTree();
+                    if (playerNode != null) {
+                        return playerNode;
+                    }
+                    continue;
+                }
+                
+                if (!inRootObject) {
+                    return null;
+                }
+                
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_OBJECT) {
+                    // Handle single player object
+                    inRootObject = false;
+                    JsonNode playerNode = sawPlayersField ? null : singlePlayerNode;
+                    singlePlayerNode = null;
+                    return playerNode;
+                }
+                
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                
+                if (sawPlayersField) {
+                    parser.skipChildren();
+                } else if ("players".equals(fieldName)) {
+                    // Handle object with players array
+                    sawPlayersField = true;
+                    singlePlayerNode = null;
+                    if (valueToken == JsonToken.START_ARRAY) {
+                        inPlayersArray = true;
+                    } else {
+                        parser.skipChildren();
+                    }
+                } else {
+                    singlePlayerNode.set(fieldName, parser.readValueAsTree());
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
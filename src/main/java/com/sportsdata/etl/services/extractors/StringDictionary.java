@@ -0,0 +1,135 @@
+package com.sportsdata.etl.services.extractors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canonical instances for low-cardinality field values (leagues, cities, positions, team IDs,
+ * statuses) so records extracted with equal values share one String. Values that already went
+ * through the dictionary can be compared by reference; see {@link #sameValue(String, String)}.
+ * The dictionary lives as long as the application, so its counters are lifetime totals; each
+ * extracted file canonicalizes through its own {@link Usage} to report what that file added.
+ */
+@Component
+public class StringDictionary {
+    
+    // String header plus byte[] header on a 64-bit JVM with compressed oops
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    
+    // Stops growing once this many distinct values are held, so a high-cardinality field cannot bloat it
+    @Value("${etl.extraction.dictionary.max-entries:100000}")
+    private int maxEntries = 100_000;
+    
+    private final ConcurrentMap<String, String> values = new ConcurrentHashMap<>();
+    private final LongAdder sharedCount = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+    
+    /**
+     * Returns the canonical instance equal to value, registering value as canonical if it is new.
+     */
+    public String canonicalize(String value) {
+        return canonicalize(value, null);
+    }
+    
+    /**
+     * Starts counting the values one caller adds and shares, separately from the lifetime totals.
+     */
+    public Usage newUsage() {
+        return new Usage();
+    }
+    
+    private String canonicalize(String value, Usage usage) {
+        if (value == null) {
+            return null;
+        }
+        
+        String canonical = values.get(value);
+        if (canonical == null) {
+            if (values.size() >= maxEntries) {
+                return value;
+            }
+            canonical = values.putIfAbsent(value, value);
+            if (canonical == null) {
+                if (usage != null) {
+                    usage.distinctAdded++;
+                }
+                return value;
+            }
+        }
+        
+        if (canonical != value) {
+            long size = estimateSize(value);
+            sharedCount.increment();
+            bytesSaved.add(size);
+            if (usage != null) {
+                usage.sharedCount++;
+                usage.bytesSaved += size;
+            }
+        }
+        return canonical;
+    }
+    
+    // Reference check first, which settles every comparison between canonicalized values
+    public boolean sameValue(String a, String b) {
+        return a == b || (a != null && a.equals(b));
+    }
+    
+    public int getDistinctCount() {
+        return values.size();
+    }
+    
+    public long getSharedCount() {
+        return sharedCount.sum();
+    }
+    
+    public long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+    
+    public String describe() {
+        return String.format("%d distinct values, %d duplicates shared, ~%d KB saved",
+            getDistinctCount(), getSharedCount(), getBytesSaved() / 1024);
+    }
+    
+    /**
+     * Canonicalizes through the dictionary while keeping counts for one caller, such as one file
+     * being extracted. Not thread-safe; use one per thread of extraction.
+     */
+    public final class Usage {
+        private long distinctAdded;
+        private long sharedCount;
+        private long bytesSaved;
+        
+        private Usage() {}
+        
+        public String canonicalize(String value) {
+            return StringDictionary.this.canonicalize(value, this);
+        }
+        
+        public long getDistinctAdded() {
+            return distinctAdded;
+        }
+        
+        public long getSharedCount() {
+            return sharedCount;
+        }
+        
+        public long getBytesSaved() {
+            return bytesSaved;
+        }
+        
+        public String describe() {
+            return String.format("%d new distinct values, %d duplicates shared, ~%d KB saved (%d distinct values held)",
+                distinctAdded, sharedCount, bytesSaved / 1024, getDistinctCount());
+        }
+    }
+    
+    // Compact strings store Latin-1 text in one byte per char; arrays are padded to 8 bytes
+    private static long estimateSize(String value) {
+        return STRING_OVERHEAD_BYTES + ((value.length() + 7L) & ~7L);
+    }
+}
\ No newline at end of file
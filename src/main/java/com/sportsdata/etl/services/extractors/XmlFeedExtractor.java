@@ -1,81 +1,135 @@
 package com.sportsdata.etl.services.extractors;
 
 import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.GameBatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import java.io.File;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Component
 public class XmlFeedExtractor {
     
     private static final Logger logger = LoggerFactory.getLogger(XmlFeedExtractor.class);
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String GAME_ELEMENT = "game";
+    private static final Set<String> GAME_FIELDS = Set.of(
+        "gameId", "homeTeamId", "awayTeamId", "date", "homeScore", "awayScore", "status"
+    );
+    
+    private final XMLInputFactory xmlInputFactory;
+    
+    // Replaced by the shared dictionary under Spring; a private one otherwise
+    @Autowired
+    private StringDictionary stringDictionary = new StringDictionary();
+    
+    public XmlFeedExtractor() {
+        this.xmlInputFactory = XMLInputFactory.newInstance();
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+    
+    // Fills a columnar batch straight from the stream, without keeping a list of Game objects
+    public GameBatch extractGameBatch(String filePath) {
+        GameBatch batch = new GameBatch();
+        
+        try (Stream<Game> gameStream = streamGames(filePath)) {
+            gameStream.forEach(batch::add);
+        } catch (Exception e) {
+            logger.error("Unexpected error processing XML file: {}", filePath, e);
+            return new GameBatch();
+        }
+        
+        logger.info("Successfully extracted {} games from XML file: {}", batch.size(), filePath);
+        
+        return batch;
+    }
     
     public List<Game> extractGames(String filePath) {
         List<Game> games = new ArrayList<>();
         
+        try (Stream<Game> gameStream = streamGames(filePath)) {
+            gameStream.forEach(games::add);
+        } catch (Exception e) {
+            // A feed that breaks off part way yields no games, not the ones read before the error
+            logger.error("Unexpected error processing XML file: {}", filePath, e);
+            return new ArrayList<>();
+        }
+        
+        logger.info("Successfully extracted {} games from XML file: {}", games.size(), filePath);
+        
+        return games;
+    }
+    
+    /**
+     * Streams games from the XML feed in a single forward pass with an {@link XMLStreamReader},
+     * holding only the fields of the current game in memory. The returned stream must be
+     * closed by the caller. Malformed XML fails the stream with an exception when it is reached,
+     * so a truncated feed is never taken for a complete one.
+     */
+    public Stream<Game> streamGames(String filePath) {
+        InputStream inputStream = null;
+        XMLStreamReader xmlReader = null;
+        
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document document = builder.parse(new File(filePath));
-            document.getDocumentElement().normalize();
-            
+            inputStream = new FileInputStream(filePath);
+            xmlReader = xmlInputFactory.createXMLStreamReader(inputStream);
             logger.info("Processing XML file: {}", filePath);
             
-            NodeList gameNodes = document.getElementsByTagName("game");
-            
-            for (int i = 0; i < gameNodes.getLength(); i++) {
-                Node gameNode = gameNodes.item(i);
-                
-                if (gameNode.getNodeType() == Node.ELEMENT_NODE) {
-                    Element gameElement = (Element) gameNode;
-                    Game game = parseGameElement(gameElement, i + 1);
-                    if (game != null) {
-                        games.add(game);
-                    }
-                }
-            }
-            
-            logger.info("Successfully extracted {} games from XML file: {}", games.size(), filePath);
-            
-        } catch (ParserConfigurationException e) {
-            logger.error("Parser configuration error for XML file: {}", filePath, e);
-        } catch (SAXException e) {
-            logger.error("SAX parsing error for XML file: {}", filePath, e);
         } catch (IOException e) {
             logger.error("IO error reading XML file: {}", filePath, e);
-        } catch (Exception e) {
-            logger.error("Unexpected error processing XML file: {}", filePath, e);
+            closeQuietly(xmlReader, inputStream, filePath);
+            return Stream.empty();
+        } catch (XMLStreamException e) {
+            logger.error("StAX parsing error for XML file: {}", filePath, e);
+            closeQuietly(xmlReader, inputStream, filePath);
+            return Stream.empty();
         }
         
-        return games;
+        XMLStreamReader reader = xmlReader;
+        InputStream input = inputStream;
+        StringDictionary.Usage dictionary = stringDictionary.newUsage();
+        GameElementIterator iterator = new GameElementIterator(reader, filePath, dictionary);
+        
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(() -> {
+                closeQuietly(reader, input, filePath);
+                logger.info("String dictionary for {}: {}", filePath, dictionary.describe());
+            });
     }
     
-    private Game parseGameElement(Element gameElement, int gameNumber) {
+    private Game parseGameFields(Map<String, String> fields, int gameNumber, StringDictionary.Usage dictionary) {
         try {
-            String gameId = getElementTextContent(gameElement, "gameId");
-            String homeTeamId = getElementTextContent(gameElement, "homeTeamId");
-            String awayTeamId = getElementTextContent(gameElement, "awayTeamId");
-            String dateStr = getElementTextContent(gameElement, "date");
-            String homeScoreStr = getElementTextContent(gameElement, "homeScore");
-            String awayScoreStr = getElementTextContent(gameElement, "awayScore");
-            String status = getElementTextContent(gameElement, "status");
+            String gameId = fields.get("gameId");
+            String homeTeamId = dictionary.canonicalize(fields.get("homeTeamId"));
+            String awayTeamId = dictionary.canonicalize(fields.get("awayTeamId"));
+            String dateStr = fields.get("date");
+            String homeScoreStr = fields.get("homeScore");
+            String awayScoreStr = fields.get("awayScore");
+            String status = dictionary.canonicalize(fields.get("status"));
             
             // Validate required fields
             if (gameId == null || homeTeamId == null || awayTeamId == null || 
@@ -86,7 +140,7 @@ public class XmlFeedExtractor {
             }
             
             // Validate that home and away teams are different
-            if (homeTeamId.equals(awayTeamId)) {
+            if (stringDictionary.sameValue(homeTeamId, awayTeamId)) {
                 logger.warn("Game {} has same home and away team: {}", gameNumber, homeTeamId);
                 return null;
             }
@@ -138,50 +192,156 @@ public class XmlFeedExtractor {
         }
     }
     
-    private String getElementTextContent(Element parent, String tagName) {
-        NodeList nodeList = parent.getElementsByTagName(tagName);
-        if (nodeList.getLength() > 0) {
-            String content = nodeList.item(0).getTextContent();
-            return content != null && !content.trim().isEmpty() ? content.trim() : null;
-        }
-        return null;
-    }
-    
+    /**
+     * Reads the feed up to the end of its first game element and checks that the required
+     * fields are present, without parsing the rest of the file.
+     */
     public boolean validateXmlStructure(String filePath) {
-        try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document document = builder.parse(new File(filePath));
-            document.getDocumentElement().normalize();
+        XMLStreamReader xmlReader = null;
+        
+        try (InputStream inputStream = new FileInputStream(filePath)) {
+            xmlReader = xmlInputFactory.createXMLStreamReader(inputStream);
             
             // Check if the document has game elements
-            NodeList gameNodes = document.getElementsByTagName("game");
+            Map<String, String> firstGame = readNextGameFields(xmlReader);
             
-            if (gameNodes.getLength() == 0) {
+            if (firstGame == null) {
                 logger.error("XML file has no game elements: {}", filePath);
                 return false;
             }
             
-            // Validate first game element structure
-            Node firstGame = gameNodes.item(0);
-            if (firstGame.getNodeType() == Node.ELEMENT_NODE) {
-                Element gameElement = (Element) firstGame;
-                
-                // Check for required elements
-                String[] requiredElements = {"gameId", "homeTeamId", "awayTeamId", "date", "status"};
-                for (String elementName : requiredElements) {
-                    if (getElementTextContent(gameElement, elementName) == null) {
-                        logger.error("XML game element missing required field: {}", elementName);
-                        return false;
-                    }
+            // Check for required elements
+            String[] requiredElements = {"gameId", "homeTeamId", "awayTeamId", "date", "status"};
+            for (String elementName : requiredElements) {
+                if (firstGame.get(elementName) == null) {
+                    logger.error("XML game element missing required field: {}", elementName);
+                    return false;
                 }
             }
             
             return true;
             
-        } catch (ParserConfigurationException | SAXException | IOException e) {
+        } catch (XMLStreamException | IOException e) {
             logger.error("Error validating XML file structure: {}", filePath, e);
             return false;
+        } finally {
+            closeQuietly(xmlReader, null, filePath);
+        }
+    }
+    
+    // Advances to the next <game> element and collects its field values; returns null at end of document
+    private Map<String, String> readNextGameFields(XMLStreamReader xmlReader) throws XMLStreamException {
+        while (xmlReader.hasNext()) {
+            if (xmlReader.next() == XMLStreamConstants.START_ELEMENT
+                    && GAME_ELEMENT.equals(xmlReader.getLocalName())) {
+                return readGameFields(xmlReader);
+            }
+        }
+        return null;
+    }
+    
+    private Map<String, String> readGameFields(XMLStreamReader xmlReader) throws XMLStreamException {
+        Map<String, String> fields = new HashMap<>();
+        int depth = 1;
+        
+        while (depth > 0 && xmlReader.hasNext()) {
+            int event = xmlReader.next();
+            
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = xmlReader.getLocalName();
+                if (GAME_FIELDS.contains(name) && !fields.containsKey(name)) {
+                    // First occurrence wins; the reader is left on the field's END_ELEMENT
+                    fields.put(name, readFieldText(xmlReader));
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        
+        return fields;
+    }
+    
+    private String readFieldText(XMLStreamReader xmlReader) throws XMLStreamException {
+        StringBuilder content = new StringBuilder();
+        int depth = 1;
+        
+        while (depth > 0 && xmlReader.hasNext()) {
+            int event = xmlReader.next();
+            
+            if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                    || event == XMLStreamConstants.SPACE) {
+                content.append(xmlReader.getText());
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        
+        String value = content.toString().trim();
+        return value.isEmpty() ? null : value;
+    }
+    
+    private void closeQuietly(XMLStreamReader xmlReader, InputStream inputStream, String filePath) {
+        try {
+            if (xmlReader != null) {
+                xmlReader.close();
+            }
+            if (inputStream != null) {
+                inputStream.close();
+            }
+        } catch (XMLStreamException | IOException e) {
+            logger.warn("Error closing XML file: {}", filePath, e);
+        }
+    }
+    
+    // Pulls one <game> element at a time and yields only games that pass parsing validation
+    private class GameElementIterator implements Iterator<Game> {
+        private final XMLStreamReader xmlReader;
+        private final String filePath;
+        private final StringDictionary.Usage dictionary;
+        private int gameNumber;
+        private Game next;
+        private boolean finished;
+        
+        GameElementIterator(XMLStreamReader xmlReader, String filePath, StringDictionary.Usage dictionary) {
+            this.xmlReader = xmlReader;
+            this.filePath = filePath;
+            this.dictionary = dictionary;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            while (next == null && !finished) {
+                Map<String, String> fields;
+                try {
+                    fields = readNextGameFields(xmlReader);
+                } catch (XMLStreamException e) {
+                    finished = true;
+                    throw new RuntimeException("StAX parsing error for XML file: " + filePath, e);
+                }
+                
+                if (fields == null) {
+                    finished = true;
+                    break;
+                }
+                
+                gameNumber++;
+                next = parseGameFields(fields, gameNumber, dictionary);
+            }
+            return next != null;
+        }
+        
+        @Override
+        public Game next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Game game = next;
+            next = null;
+            return game;
         }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.sportsdata.etl.services.loaders;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Fails with an IOException once more than {@code limit} bytes have been written, so a spool
+ * file cannot fill the local disk. A limit of 0 or less disables the check.
+ */
+class BoundedOutputStream extends FilterOutputStream {
+    
+    private final long limit;
+    private final String description;
+    private long written;
+    
+    BoundedOutputStream(OutputStream target, long limit, String description) {
+        super(target);
+        this.limit = limit;
+        this.description = description;
+    }
+    
+    @Override
+    public void write(int b) throws IOException {
+        reserve(1);
+        out.write(b);
+    }
+    
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        reserve(length);
+        out.write(bytes, offset, length);
+    }
+    
+    private void reserve(int length) throws IOException {
+        written += length;
+        if (limit > 0 && written > limit) {
+            throw new IOException(description + " exceeded its limit of " + limit + " bytes");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.sportsdata.etl.services.loaders;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportsdata.etl.models.GameView;
+import com.sportsdata.etl.models.PlayerView;
+import com.sportsdata.etl.models.Team;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Content hashes of every record from the last incremental load, keyed by entity name and then
+ * by record id. Diffing a run against it yields the inserted, updated and deleted records.
+ */
+public class DeltaManifest {
+    
+    private String timestamp;
+    private Map<String, Map<String, String>> hashes = new TreeMap<>();
+    
+    // Getters and setters
+    public String getTimestamp() { return timestamp; }
+    public void setTimestamp(String timestamp) { this.timestamp = timestamp; }
+    
+    public Map<String, Map<String, String>> getHashes() { return hashes; }
+    public void setHashes(Map<String, Map<String, String>> hashes) { this.hashes = hashes; }
+    
+    /**
+     * Compares the entity's records with the hashes from {@code previous} (null for a first run)
+     * and stores the records' current hashes in this manifest.
+     */
+    EntityDelta diff(String entityName, List<?> records, DeltaManifest previous, ObjectMapper objectMapper) {
+        Map<String, String> previousHashes = previous == null ? Map.of()
+            : previous.getHashes().getOrDefault(entityName, Map.of());
+        Map<String, String> currentHashes = new HashMap<>();
+        EntityDelta delta = new EntityDelta();
+        MessageDigest digest = newDigest();
+        
+        if (records != null) {
+            for (Object record : records) {
+                String hash = contentHash(record, digest, objectMapper);
+                String id = recordId(record);
+                // Records without an id are keyed by content, so any change shows up as delete plus insert
+                String key = id != null ? id : "#" + hash;
+                currentHashes.put(key, hash);
+                
+                String previousHash = previousHashes.get(key);
+                if (previousHash == null) {
+                    delta.getInserted().add(record);
+                } else if (!previousHash.equals(hash)) {
+                    delta.getUpdated().add(record);
+                }
+            }
+        }
+        
+        for (String key : previousHashes.keySet()) {
+            if (!currentHashes.containsKey(key)) {
+                delta.getDeleted().add(key);
+            }
+        }
+        
+        hashes.put(entityName, new TreeMap<>(currentHashes));
+        return delta;
+    }
+    
+    private static String recordId(Object record) {
+        if (record instanceof Team) {
+            return ((Team) record).getTeamId();
+        } else if (record instanceof PlayerView) {
+            return ((PlayerView) record).getPlayerId();
+        } else if (record instanceof GameView) {
+            return ((GameView) record).getGameId();
+        }
+        return null;
+    }
+    
+    private static String contentHash(Object record, MessageDigest digest, ObjectMapper objectMapper) {
+        try {
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(record)));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to hash record: " + record, e);
+        }
+    }
+    
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    // Changes to one entity since the previous manifest; deleted records are listed by id
+    public static class EntityDelta {
+        private List<Object> inserted = new ArrayList<>();
+        private List<Object> updated = new ArrayList<>();
+        private List<String> deleted = new ArrayList<>();
+        
+        public List<Object> getInserted() { return inserted; }
+        public void setInserted(List<Object> inserted) { this.inserted = inserted; }
+        
+        public List<Object> getUpdated() { return updated; }
+        public void setUpdated(List<Object> updated) { this.updated = updated; }
+        
+        public List<String> getDeleted() { return deleted; }
+        public void setDeleted(List<String> deleted) { this.deleted = deleted; }
+        
+        @JsonIgnore
+        public int getChangeCount() {
+            return inserted.size() + updated.size() + deleted.size();
+        }
+    }
+    
+    /**
+     * Points readers at the current state: the last full snapshot plus the deltas written since,
+     * in the order they must be applied. A full snapshot resets the delta chain.
+     */
+    public static class SnapshotPointer {
+        private String snapshotTimestamp;
+        private List<String> deltaKeys = new ArrayList<>();
+        private String updatedAt;
+        
+        public String getSnapshotTimestamp() { return snapshotTimestamp; }
+        public void setSnapshotTimestamp(String snapshotTimestamp) { this.snapshotTimestamp = snapshotTimestamp; }
+        
+        public List<String> getDeltaKeys() { return deltaKeys; }
+        public void setDeltaKeys(List<String> deltaKeys) { this.deltaKeys = deltaKeys; }
+        
+        public String getUpdatedAt() { return updatedAt; }
+        public void setUpdatedAt(String updatedAt) { this.updatedAt = updatedAt; }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.sportsdata.etl.services.loaders;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Passes bytes through to the target until {@link #detach()} is called. Once detached, writes,
+ * flushes and close() are dropped, so an encoder can release its codec buffers without trailing
+ * bytes or a footer reaching a target that is being abandoned.
+ */
+class DetachableOutputStream extends FilterOutputStream {
+    
+    private boolean detached;
+    
+    DetachableOutputStream(OutputStream target) {
+        super(target);
+    }
+    
+    void detach() {
+        detached = true;
+    }
+    
+    @Override
+    public void write(int b) throws IOException {
+        if (!detached) {
+            out.write(b);
+        }
+    }
+    
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (!detached) {
+            out.write(bytes, offset, length);
+        }
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        if (!detached) {
+            out.flush();
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (!detached) {
+            out.close();
+        }
+    }
+}
\ No newline at end of file
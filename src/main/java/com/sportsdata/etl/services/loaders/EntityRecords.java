@@ -0,0 +1,209 @@
+package com.sportsdata.etl.services.loaders;
+
+import com.sportsdata.etl.models.GameBatch;
+import com.sportsdata.etl.models.PlayerBatch;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The records of one entity as handed to the loader: either a list of record objects or a
+ * columnar batch. Batches are split into partitions by selecting rows into smaller batches and
+ * written with {@link RecordEncoder#write(PlayerBatch)} and {@link RecordEncoder#write(GameBatch)},
+ * so no row objects are needed between the batch and the encoder.
+ */
+abstract class EntityRecords {
+    
+    private final String entityName;
+    
+    private EntityRecords(String entityName) {
+        this.entityName = entityName;
+    }
+    
+    // A null list is loaded as an empty entity
+    static EntityRecords of(String entityName, List<?> records) {
+        return new ListRecords(entityName, records != null ? records : List.of());
+    }
+    
+    static EntityRecords of(PlayerBatch players) {
+        return new PlayerBatchRecords(players);
+    }
+    
+    static EntityRecords of(GameBatch games) {
+        return new GameBatchRecords(games);
+    }
+    
+    String getEntityName() {
+        return entityName;
+    }
+    
+    boolean isEmpty() {
+        return size() == 0;
+    }
+    
+    abstract int size();
+    
+    // Record objects, for the delta manifest, which hashes the JSON of each record
+    abstract List<?> rows();
+    
+    // Records grouped by partition path in sorted order; everything shares the empty path when partitioned is false
+    abstract Map<String, EntityRecords> byPartition(boolean partitioned);
+    
+    abstract void writeTo(RecordEncoder encoder) throws IOException;
+    
+    private static class ListRecords extends EntityRecords {
+        private final List<?> records;
+        
+        ListRecords(String entityName, List<?> records) {
+            super(entityName);
+            this.records = records;
+        }
+        
+        @Override
+        int size() {
+            return records.size();
+        }
+        
+        @Override
+        List<?> rows() {
+            return records;
+        }
+        
+        @Override
+        Map<String, EntityRecords> byPartition(boolean partitioned) {
+            Map<String, List<Object>> partitionedRecords = new TreeMap<>();
+            for (Object record : records) {
+                String partition = partitioned ? PartitionLayout.partitionPath(getEntityName(), record) : "";
+                partitionedRecords.computeIfAbsent(partition, path -> new ArrayList<>()).add(record);
+            }
+            
+            Map<String, EntityRecords> partitions = new TreeMap<>();
+            partitionedRecords.forEach((partition, partitionRecords) ->
+                partitions.put(partition, new ListRecords(getEntityName(), partitionRecords)));
+            return partitions;
+        }
+        
+        @Override
+        void writeTo(RecordEncoder encoder) throws IOException {
+            for (Object record : records) {
+                encoder.write(record);
+            }
+        }
+    }
+    
+    // Players are not partitioned, so the batch is always written whole
+    private static class PlayerBatchRecords extends EntityRecords {
+        private final PlayerBatch batch;
+        
+        PlayerBatchRecords(PlayerBatch batch) {
+            super("players");
+            this.batch = batch;
+        }
+        
+        @Override
+        int size() {
+            return batch.size();
+        }
+        
+        @Override
+        List<?> rows() {
+            return batch.rows();
+        }
+        
+        @Override
+        Map<String, EntityRecords> byPartition(boolean partitioned) {
+            Map<String, EntityRecords> partitions = new TreeMap<>();
+            if (!isEmpty()) {
+                partitions.put("", this);
+            }
+            return partitions;
+        }
+        
+        @Override
+        void writeTo(RecordEncoder encoder) throws IOException {
+            encoder.write(batch);
+        }
+    }
+    
+    private static class GameBatchRecords extends EntityRecords {
+        private final GameBatch batch;
+        
+        GameBatchRecords(GameBatch batch) {
+            super("games");
+            this.batch = batch;
+        }
+        
+        @Override
+        int size() {
+            return batch.size();
+        }
+        
+        @Override
+        List<?> rows() {
+            return batch.rows();
+        }
+        
+        // Numbers the partitions from the date column, then counting-sorts the rows by partition
+        // so each one is copied out with a single select
+        @Override
+        Map<String, EntityRecords> byPartition(boolean partitioned) {
+            Map<String, EntityRecords> partitions = new TreeMap<>();
+            if (isEmpty()) {
+                return partitions;
+            }
+            if (!partitioned) {
+                partitions.put("", this);
+                return partitions;
+            }
+            
+            long[] dates = batch.dates();
+            int[] partitionOfRow = new int[batch.size()];
+            Map<String, Integer> partitionNumbers = new HashMap<>();
+            List<String> paths = new ArrayList<>();
+            // Games usually arrive grouped by date, so most rows reuse the previous row's path
+            long previousDay = Long.MIN_VALUE;
+            int previousPartition = -1;
+            for (int i = 0; i < batch.size(); i++) {
+                long day = Math.floorDiv(dates[i], 86_400L);
+                if (previousPartition < 0 || day != previousDay) {
+                    String path = PartitionLayout.gamePartitionPath(dates[i]);
+                    previousPartition = partitionNumbers.computeIfAbsent(path, key -> {
+                        paths.add(key);
+                        return paths.size() - 1;
+                    });
+                    previousDay = day;
+                }
+                partitionOfRow[i] = previousPartition;
+            }
+            
+            int[] starts = new int[paths.size() + 1];
+            for (int partition : partitionOfRow) {
+                starts[partition + 1]++;
+            }
+            for (int p = 0; p < paths.size(); p++) {
+                starts[p + 1] += starts[p];
+            }
+            int[] next = starts.clone();
+            int[] order = new int[batch.size()];
+            for (int i = 0; i < partitionOfRow.length; i++) {
+                order[next[partitionOfRow[i]]++] = i;
+            }
+            
+            for (int p = 0; p < paths.size(); p++) {
+                int[] rows = Arrays.copyOfRange(order, starts[p], starts[p + 1]);
+                partitions.put(paths.get(p), new GameBatchRecords(batch.select(rows)));
+            }
+            return partitions;
+        }
+        
+        @Override
+        void writeTo(RecordEncoder encoder) throws IOException {
+            encoder.write(batch);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.sportsdata.etl.services.loaders;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Serializes records one at a time as a JSON array or NDJSON, passing the bytes
+ * through the {@link OutputCompression} codec into the target stream. Nothing beyond the
+ * codec's own buffers is held in memory. Closing the encoder closes the target stream.
+ */
+class JsonRecordEncoder implements RecordEncoder {
+    
+    private final OutputFormat format;
+    private final DetachableOutputStream target;
+    private final JsonGenerator generator;
+    
+    JsonRecordEncoder(ObjectMapper objectMapper, OutputStream target, OutputFormat format,
+                  OutputCompression compression) throws IOException {
+        this.format = format;
+        this.target = new DetachableOutputStream(target);
+        this.generator = objectMapper.getFactory().createGenerator(compression.wrap(this.target), JsonEncoding.UTF8);
+        
+        if (format == OutputFormat.NDJSON) {
+            // Records are separated by the newline written after each one
+            this.generator.setRootValueSeparator(null);
+        } else {
+            this.generator.writeStartArray();
+        }
+    }
+    
+    @Override
+    public void write(Object record) throws IOException {
+        generator.writeObject(record);
+        if (format == OutputFormat.NDJSON) {
+            generator.writeRaw('\n');
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (generator.isClosed()) {
+            return;
+        }
+        if (format == OutputFormat.JSON) {
+            generator.writeEndArray();
+        }
+        generator.close();
+    }
+    
+    @Override
+    public void discard() {
+        // Releases the codec without flushing buffered bytes or closing the target
+        target.detach();
+        try {
+            generator.close();
+        } catch (IOException e) {
+            // The target is being abandoned, so there is nothing left to flush
+        }
+    }
+}
\ No newline at end of file
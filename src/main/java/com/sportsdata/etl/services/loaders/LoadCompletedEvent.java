@@ -0,0 +1,15 @@
+package com.sportsdata.etl.services.loaders;
+
+// Published after a load's metadata has been written, carrying the metadata of the new latest run
+public class LoadCompletedEvent {
+    
+    private final S3DataLoader.Metadata metadata;
+    
+    public LoadCompletedEvent(S3DataLoader.Metadata metadata) {
+        this.metadata = metadata;
+    }
+    
+    public S3DataLoader.Metadata getMetadata() {
+        return metadata;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+package com.sportsdata.etl.services.loaders;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OutputStream that uploads its content to S3 as a multipart upload, one part each time the
+ * part buffer fills. Only a single part-sized buffer is held in memory. The multipart upload
+ * is started lazily, so objects smaller than one part are sent with a plain PutObject.
+ * {@link #close()} completes the upload; {@link #abort()} discards it.
+ */
+class MultipartUploadOutputStream extends OutputStream {
+    
+    private static final Logger logger = LoggerFactory.getLogger(MultipartUploadOutputStream.class);
+    
+    // S3 rejects non-final parts smaller than 5 MiB
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+    
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final String key;
+    private final String contentType;
+    private final String contentEncoding;
+    private final byte[] buffer;
+    private final List<CompletedPart> completedParts = new ArrayList<>();
+    private int position;
+    private long bytesWritten;
+    private String uploadId;
+    private boolean closed;
+    private boolean aborted;
+    
+    MultipartUploadOutputStream(S3Client s3Client, String bucketName, String key, String contentType,
+                                String contentEncoding, int partSize) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.key = key;
+        this.contentType = contentType;
+        this.contentEncoding = contentEncoding;
+        this.buffer = new byte[Math.max(partSize, MIN_PART_SIZE)];
+    }
+    
+    @Override
+    public void write(int b) throws IOException {
+        if (!ensureOpen()) {
+            return;
+        }
+        if (position == buffer.length) {
+            uploadBufferedPart();
+        }
+        buffer[position++] = (byte) b;
+        bytesWritten++;
+    }
+    
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (!ensureOpen()) {
+            return;
+        }
+        while (length > 0) {
+            if (position == buffer.length) {
+                uploadBufferedPart();
+            }
+            int chunk = Math.min(length, buffer.length - position);
+            System.arraycopy(bytes, offset, buffer, position, chunk);
+            position += chunk;
+            offset += chunk;
+            length -= chunk;
+            bytesWritten += chunk;
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        
+        try {
+            if (uploadId == null) {
+                // Everything fit in one part, so a single PutObject is enough
+                PutObjectRequest putRequest = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentEncoding(contentEncoding)
+                        .build();
+                s3Client.putObject(putRequest, currentBufferBody());
+                return;
+            }
+            
+            if (position > 0) {
+                uploadPart();
+            }
+            
+            CompleteMultipartUploadRequest completeRequest = CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build();
+            s3Client.completeMultipartUpload(completeRequest);
+            
+            logger.debug("Completed multipart upload of {} bytes in {} parts to S3 key: {}",
+                bytesWritten, completedParts.size(), key);
+            
+        } catch (RuntimeException e) {
+            abortUpload();
+            throw new IOException("Multipart upload to S3 key " + key + " failed", e);
+        }
+    }
+    
+    // Discards the upload and any parts already sent; later writes and close() are no-ops
+    void abort() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        aborted = true;
+        abortUpload();
+    }
+    
+    private void uploadBufferedPart() throws IOException {
+        try {
+            if (uploadId == null) {
+                CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentEncoding(contentEncoding)
+                        .build();
+                uploadId = s3Client.createMultipartUpload(createRequest).uploadId();
+                logger.debug("Started multipart upload {} for S3 key: {}", uploadId, key);
+            }
+            uploadPart();
+        } catch (RuntimeException e) {
+            closed = true;
+            abortUpload();
+            throw new IOException("Multipart upload to S3 key " + key + " failed", e);
+        }
+    }
+    
+    private void uploadPart() {
+        int partNumber = completedParts.size() + 1;
+        
+        UploadPartRequest partRequest = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .build();
+        
+        UploadPartResponse partResponse = s3Client.uploadPart(partRequest, currentBufferBody());
+        completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(partResponse.eTag()).build());
+        position = 0;
+    }
+    
+    // The sync client consumes the body before returning, so the buffer can be reused afterwards
+    private RequestBody currentBufferBody() {
+        return RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, position), position);
+    }
+    
+    private void abortUpload() {
+        if (uploadId == null) {
+            return;
+        }
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to abort multipart upload {} for S3 key: {}", uploadId, key, e);
+        }
+    }
+    
+    // Returns false when the upload was aborted, in which case writes are silently dropped
+    private boolean ensureOpen() throws IOException {
+        if (aborted) {
+            return false;
+        }
+        if (closed) {
+            throw new IOException("Stream to S3 key " + key + " is closed");
+        }
+        return true;
+    }
+}
\ No newline at end of file
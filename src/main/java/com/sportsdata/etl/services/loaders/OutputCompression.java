@@ -0,0 +1,45 @@
+package com.sportsdata.etl.services.loaders;
+
+import com.github.luben.zstd.ZstdOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Compression codec applied to entity objects as they are serialized
+public enum OutputCompression {
+    
+    NONE(null, ""),
+    GZIP("gzip", ".gz"),
+    ZSTD("zstd", ".zst");
+    
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    
+    private final String contentEncoding;
+    private final String fileExtension;
+    
+    OutputCompression(String contentEncoding, String fileExtension) {
+        this.contentEncoding = contentEncoding;
+        this.fileExtension = fileExtension;
+    }
+    
+    // Value for the Content-Encoding header, or null when the object is stored uncompressed
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+    
+    public String getFileExtension() {
+        return fileExtension;
+    }
+    
+    OutputStream wrap(OutputStream target) throws IOException {
+        switch (this) {
+            case GZIP:
+                return new GZIPOutputStream(target, GZIP_BUFFER_SIZE);
+            case ZSTD:
+                return new ZstdOutputStream(target);
+            default:
+                return target;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.sportsdata.etl.services.loaders;
+
+// Layout of the records inside each entity object written to S3
+public enum OutputFormat {
+    
+    // A single JSON array holding every record
+    JSON("application/json", ".json"),
+    
+    // One JSON object per line (newline-delimited JSON)
+    NDJSON("application/x-ndjson", ".ndjson"),
+    
+    // Columnar Parquet file; the codec is applied to column chunks inside the file
+    PARQUET("application/vnd.apache.parquet", ".parquet", true);
+    
+    private final String contentType;
+    private final String fileExtension;
+    private final boolean compressedInternally;
+    
+    OutputFormat(String contentType, String fileExtension) {
+        this(contentType, fileExtension, false);
+    }
+    
+    OutputFormat(String contentType, String fileExtension, boolean compressedInternally) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+        this.compressedInternally = compressedInternally;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getFileExtension() {
+        return fileExtension;
+    }
+    
+    // True when the format applies the codec itself, so the object carries no Content-Encoding
+    public boolean isCompressedInternally() {
+        return compressedInternally;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,210 @@
+package com.sportsdata.etl.services.loaders;
+
+import com.sportsdata.etl.models.CompactGame;
+import com.sportsdata.etl.models.GameBatch;
+import com.sportsdata.etl.models.GameView;
+import com.sportsdata.etl.models.PlayerBatch;
+import com.sportsdata.etl.models.PlayerView;
+import com.sportsdata.etl.models.Team;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Types;
+
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.BINARY;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT32;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT64;
+
+/**
+ * Parquet schema of each entity object. Column names match the JSON field names, player
+ * statistics are flattened into top-level columns, and only low-cardinality columns are
+ * dictionary encoded.
+ */
+enum ParquetEntitySchema {
+    
+    TEAMS(Types.buildMessage()
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("teamId")
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("name")
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("city")
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("league")
+            .optional(INT32).as(LogicalTypeAnnotation.dateType()).named("founded")
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("venue")
+            .named("team"),
+            List.of("league")) {
+        
+        @Override
+        void populate(Group group, Object record) {
+            Team team = (Team) record;
+            appendString(group, "teamId", team.getTeamId());
+            appendString(group, "name", team.getName());
+            appendString(group, "city", team.getCity());
+            appendString(group, "league", team.getLeague());
+            if (team.getFounded() != null) {
+                group.append("founded", (int) team.getFounded().toEpochDay());
+            }
+            appendString(group, "venue", team.getVenue());
+        }
+    },
+    
+    PLAYERS(Types.buildMessage()
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("playerId")
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("name")
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("teamId")
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("position")
+            .optional(INT32).named("age")
+            .optional(INT32).named("gamesPlayed")
+            .optional(INT32).named("points")
+            .optional(INT32).named("assists")
+            .named("player"),
+            List.of("teamId", "position")) {
+        
+        @Override
+        void populate(Group group, Object record) {
+            PlayerView player = (PlayerView) record;
+            appendString(group, "playerId", player.getPlayerId());
+            appendString(group, "name", player.getName());
+            appendString(group, "teamId", player.getTeamId());
+            appendString(group, "position", player.getPosition());
+            appendInt(group, "age", player.getAge());
+            
+            appendPlayerInt(group, "gamesPlayed", player.gamesPlayed());
+            appendPlayerInt(group, "points", player.points());
+            appendPlayerInt(group, "assists", player.assists());
+        }
+        
+        @Override
+        void populate(Group group, PlayerBatch batch, int row) {
+            appendString(group, "playerId", batch.playerIds()[row]);
+            appendString(group, "name", batch.names()[row]);
+            appendString(group, "teamId", batch.teamIds()[row]);
+            appendString(group, "position", batch.positions()[row]);
+            appendPlayerInt(group, "age", batch.ages()[row]);
+            appendPlayerInt(group, "gamesPlayed", batch.gamesPlayed()[row]);
+            appendPlayerInt(group, "points", batch.points()[row]);
+            appendPlayerInt(group, "assists", batch.assists()[row]);
+        }
+    },
+    
+    GAMES(Types.buildMessage()
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("gameId")
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("homeTeamId")
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("awayTeamId")
+            .optional(INT64).as(LogicalTypeAnnotation.timestampType(false, LogicalTypeAnnotation.TimeUnit.MILLIS)).named("date")
+            .optional(INT32).named("homeScore")
+            .optional(INT32).named("awayScore")
+            .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("status")
+            .named("game"),
+            List.of("homeTeamId", "awayTeamId", "status")) {
+        
+        @Override
+        void populate(Group group, Object record) {
+            GameView game = (GameView) record;
+            appendString(group, "gameId", game.getGameId());
+            appendString(group, "homeTeamId", game.getHomeTeamId());
+            appendString(group, "awayTeamId", game.getAwayTeamId());
+            if (game instanceof CompactGame) {
+                // Primitive fields go straight into the columns without boxing or date objects
+                CompactGame compact = (CompactGame) game;
+                if (compact.hasDate()) {
+                    group.append("date", compact.dateEpochSeconds() * 1000);
+                }
+                if (compact.hasHomeScore()) {
+                    group.append("homeScore", compact.homeScore());
+                }
+                if (compact.hasAwayScore()) {
+                    group.append("awayScore", compact.awayScore());
+                }
+                appendString(group, "status", compact.getStatus());
+                return;
+            }
+            if (game.getDate() != null) {
+                // Local timestamp (not adjusted to UTC), matching the unzoned JSON value
+                group.append("date", game.getDate().toInstant(ZoneOffset.UTC).toEpochMilli());
+            }
+            appendInt(group, "homeScore", game.getHomeScore());
+            appendInt(group, "awayScore", game.getAwayScore());
+            appendString(group, "status", game.getStatus());
+        }
+        
+        @Override
+        void populate(Group group, GameBatch batch, int row) {
+            appendString(group, "gameId", batch.gameIds()[row]);
+            appendString(group, "homeTeamId", batch.homeTeamIds()[row]);
+            appendString(group, "awayTeamId", batch.awayTeamIds()[row]);
+            if (batch.dates()[row] != CompactGame.NO_DATE) {
+                group.append("date", batch.dates()[row] * 1000);
+            }
+            appendScore(group, "homeScore", batch.homeScores()[row]);
+            appendScore(group, "awayScore", batch.awayScores()[row]);
+            appendString(group, "status", batch.statuses()[row]);
+        }
+    };
+    
+    private final MessageType messageType;
+    private final List<String> dictionaryColumns;
+    
+    ParquetEntitySchema(MessageType messageType, List<String> dictionaryColumns) {
+        this.messageType = messageType;
+        this.dictionaryColumns = dictionaryColumns;
+    }
+    
+    MessageType getMessageType() {
+        return messageType;
+    }
+    
+    List<String> getDictionaryColumns() {
+        return dictionaryColumns;
+    }
+    
+    // Copies the non-null fields of the record into the group; absent fields stay null in Parquet
+    abstract void populate(Group group, Object record);
+    
+    // Same as populate for one row of a batch, read from the column arrays without building the row
+    void populate(Group group, PlayerBatch batch, int row) {
+        throw new IllegalArgumentException(name() + " schema cannot hold players");
+    }
+    
+    void populate(Group group, GameBatch batch, int row) {
+        throw new IllegalArgumentException(name() + " schema cannot hold games");
+    }
+    
+    static ParquetEntitySchema forEntity(String entityName) {
+        switch (entityName) {
+            case "teams":
+                return TEAMS;
+            case "players":
+                return PLAYERS;
+            case "games":
+                return GAMES;
+            default:
+                throw new IllegalArgumentException("No Parquet schema for entity: " + entityName);
+        }
+    }
+    
+    private static void appendString(Group group, String field, String value) {
+        if (value != null) {
+            group.append(field, value);
+        }
+    }
+    
+    private static void appendInt(Group group, String field, Integer value) {
+        if (value != null) {
+            group.append(field, value);
+        }
+    }
+    
+    private static void appendPlayerInt(Group group, String field, int value) {
+        if (value != PlayerView.NO_VALUE) {
+            group.append(field, value);
+        }
+    }
+    
+    private static void appendScore(Group group, String field, int value) {
+        if (value != CompactGame.NO_SCORE) {
+            group.append(field, value);
+        }
+    }
+}
\ No newline at end of file
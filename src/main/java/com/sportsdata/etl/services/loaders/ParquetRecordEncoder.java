@@ -0,0 +1,164 @@
+package com.sportsdata.etl.services.loaders;
+
+import com.sportsdata.etl.models.GameBatch;
+import com.sportsdata.etl.models.PlayerBatch;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes records as a Parquet file straight into the target stream. Rows are buffered one
+ * row group at a time; the output codec compresses column chunks inside the file, and only
+ * the schema's low-cardinality columns are dictionary encoded. Columnar batches are copied
+ * into the row groups straight from their arrays.
+ */
+class ParquetRecordEncoder implements RecordEncoder {
+    
+    private static final long ROW_GROUP_SIZE = 32L * 1024 * 1024;
+    
+    private final ParquetEntitySchema schema;
+    private final SimpleGroupFactory groupFactory;
+    private final DetachableOutputStream target;
+    private final ParquetWriter<Group> writer;
+    private boolean closed;
+    
+    ParquetRecordEncoder(ParquetEntitySchema schema, OutputStream target, OutputCompression compression) throws IOException {
+        this.schema = schema;
+        this.groupFactory = new SimpleGroupFactory(schema.getMessageType());
+        this.target = new DetachableOutputStream(target);
+        
+        ExampleParquetWriter.Builder builder = ExampleParquetWriter.builder(new StreamOutputFile(this.target))
+                .withConf(new Configuration(false))
+                .withType(schema.getMessageType())
+                .withCompressionCodec(codecFor(compression))
+                .withRowGroupSize(ROW_GROUP_SIZE)
+                .withDictionaryEncoding(false);
+        for (String column : schema.getDictionaryColumns()) {
+            builder.withDictionaryEncoding(column, true);
+        }
+        this.writer = builder.build();
+    }
+    
+    @Override
+    public void write(Object record) throws IOException {
+        Group group = groupFactory.newGroup();
+        schema.populate(group, record);
+        writer.write(group);
+    }
+    
+    @Override
+    public void write(PlayerBatch batch) throws IOException {
+        for (int i = 0; i < batch.size(); i++) {
+            Group group = groupFactory.newGroup();
+            schema.populate(group, batch, i);
+            writer.write(group);
+        }
+    }
+    
+    @Override
+    public void write(GameBatch batch) throws IOException {
+        for (int i = 0; i < batch.size(); i++) {
+            Group group = groupFactory.newGroup();
+            schema.populate(group, batch, i);
+            writer.write(group);
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        writer.close();
+    }
+    
+    // Closing the writer releases its compressors; with the target detached, the buffered row
+    // group and the footer are dropped instead of turning the abandoned output into a valid file
+    @Override
+    public void discard() {
+        target.detach();
+        try {
+            close();
+        } catch (IOException | RuntimeException e) {
+            // The target is being abandoned, so the incomplete file is dropped
+        }
+    }
+    
+    private static CompressionCodecName codecFor(OutputCompression compression) {
+        switch (compression) {
+            case GZIP:
+                return CompressionCodecName.GZIP;
+            case ZSTD:
+                return CompressionCodecName.ZSTD;
+            default:
+                return CompressionCodecName.UNCOMPRESSED;
+        }
+    }
+    
+    // Parquet only appends and tracks its own position, so any output stream can back the file
+    private static class StreamOutputFile implements OutputFile {
+        private final OutputStream target;
+        
+        StreamOutputFile(OutputStream target) {
+            this.target = target;
+        }
+        
+        @Override
+        public PositionOutputStream create(long blockSizeHint) {
+            return new PositionOutputStream() {
+                private long position;
+                
+                @Override
+                public long getPos() {
+                    return position;
+                }
+                
+                @Override
+                public void write(int b) throws IOException {
+                    target.write(b);
+                    position++;
+                }
+                
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    target.write(b, off, len);
+                    position += len;
+                }
+                
+                @Override
+                public void flush() throws IOException {
+                    target.flush();
+                }
+                
+                @Override
+                public void close() throws IOException {
+                    target.close();
+                }
+            };
+        }
+        
+        @Override
+        public PositionOutputStream createOrOverwrite(long blockSizeHint) {
+            return create(blockSizeHint);
+        }
+        
+        @Override
+        public boolean supportsBlockSize() {
+            return false;
+        }
+        
+        @Override
+        public long defaultBlockSize() {
+            return 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.sportsdata.etl.services.loaders;
+
+import com.sportsdata.etl.models.CompactGame;
+import com.sportsdata.etl.models.GameView;
+import com.sportsdata.etl.models.Team;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Hive-style partition paths for entity objects. Teams are split by league and games by
+ * calendar date, using {@code key=value} path segments that Athena and Spark can prune on.
+ */
+final class PartitionLayout {
+    
+    // Hive's name for the partition holding records whose partition value is missing
+    static final String DEFAULT_PARTITION = "__HIVE_DEFAULT_PARTITION__";
+    
+    private static final String MISSING_DATE_PATH =
+        "year=" + DEFAULT_PARTITION + "/month=" + DEFAULT_PARTITION + "/day=" + DEFAULT_PARTITION;
+    private static final long SECONDS_PER_DAY = 86_400;
+    
+    private PartitionLayout() {}
+    
+    // Returns the partition path of the record, or an empty string for entities that are not partitioned
+    static String partitionPath(String entityName, Object record) {
+        switch (entityName) {
+            case "teams":
+                return "league=" + escape(((Team) record).getLeague());
+            case "games":
+                LocalDateTime date = ((GameView) record).getDate();
+                return date != null ? datePath(date.toLocalDate()) : MISSING_DATE_PATH;
+            default:
+                return "";
+        }
+    }
+    
+    // Game partition for a date held as epoch seconds of the unzoned timestamp, as in a GameBatch
+    static String gamePartitionPath(long dateEpochSeconds) {
+        if (dateEpochSeconds == CompactGame.NO_DATE) {
+            return MISSING_DATE_PATH;
+        }
+        return datePath(LocalDate.ofEpochDay(Math.floorDiv(dateEpochSeconds, SECONDS_PER_DAY)));
+    }
+    
+    private static String datePath(LocalDate date) {
+        return String.format("year=%04d/month=%02d/day=%02d", date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+    
+    // Percent-encodes characters such as '/' and '=' that would otherwise break the path segment
+    static String escape(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT_PARTITION;
+        }
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.sportsdata.etl.services.loaders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sportsdata.etl.models.GameBatch;
+import com.sportsdata.etl.models.PlayerBatch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the records of one entity object in the configured {@link OutputFormat}.
+ * Closing the encoder completes the output and closes the target stream.
+ */
+interface RecordEncoder extends Closeable {
+    
+    void write(Object record) throws IOException;
+    
+    // Writes every row of a columnar batch. The default builds one row object at a time;
+    // encoders that can read the columns directly override it
+    default void write(PlayerBatch batch) throws IOException {
+        for (int i = 0; i < batch.size(); i++) {
+            write(batch.row(i));
+        }
+    }
+    
+    default void write(GameBatch batch) throws IOException {
+        for (int i = 0; i < batch.size(); i++) {
+            write(batch.row(i));
+        }
+    }
+    
+    // Releases the encoder without writing anything more to the target or closing it;
+    // the caller aborts or closes the target itself
+    void discard();
+    
+    static RecordEncoder create(ObjectMapper objectMapper, String entityName, OutputStream target,
+                                OutputFormat format, OutputCompression compression) throws IOException {
+        if (format == OutputFormat.PARQUET) {
+            return new ParquetRecordEncoder(ParquetEntitySchema.forEntity(entityName), target, compression);
+        }
+        return new JsonRecordEncoder(objectMapper, target, format, compression);
+    }
+}
\ No newline at end of file
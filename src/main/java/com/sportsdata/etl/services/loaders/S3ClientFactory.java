@@ -0,0 +1,45 @@
+package com.sportsdata.etl.services.loaders;
+
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+
+/**
+ * Builds the S3 clients from the {@code etl.s3.region} and {@code etl.s3.endpoint} settings, so
+ * every component that reads or writes the bucket talks to the same endpoint.
+ */
+public final class S3ClientFactory {
+    
+    private S3ClientFactory() {}
+    
+    public static S3Client syncClient(String region, String endpointOverride) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(DefaultCredentialsProvider.create());
+        
+        if (hasEndpointOverride(endpointOverride)) {
+            builder.endpointOverride(URI.create(endpointOverride)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+    
+    public static S3AsyncClient asyncClient(String region, String endpointOverride) {
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(DefaultCredentialsProvider.create());
+        
+        if (hasEndpointOverride(endpointOverride)) {
+            builder.endpointOverride(URI.create(endpointOverride)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+    
+    public static boolean hasEndpointOverride(String endpointOverride) {
+        return endpointOverride != null && !endpointOverride.isBlank();
+    }
+}
\ No newline at end of file
@@ -2,24 +2,51 @@ package com.sportsdata.etl.services.loaders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.sportsdata.etl.models.Game;
-import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.GameBatch;
+import com.sportsdata.etl.models.GameView;
+import com.sportsdata.etl.models.PlayerBatch;
+import com.sportsdata.etl.models.PlayerView;
 import com.sportsdata.etl.models.Team;
 import com.sportsdata.etl.services.pipeline.EtlPipeline;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class S3DataLoader {
@@ -27,9 +54,14 @@ public class S3DataLoader {
     private static final Logger logger = LoggerFactory.getLogger(S3DataLoader.class);
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm-ss");
     
-    private final S3Client s3Client;
+    // Object under the key prefix holding a copy of the latest run's metadata
+    public static final String LATEST_RUN_OBJECT = "_latest.json";
+    
     private final ObjectMapper objectMapper;
     
+    // Async loads serialize each entity on its own thread while earlier objects are still uploading
+    private final ExecutorService entityExecutor = Executors.newFixedThreadPool(3, new EntityThreadFactory());
+    
     @Value("${etl.s3.bucket-name}")
     private String bucketName;
     
@@ -39,33 +71,129 @@ public class S3DataLoader {
     @Value("${etl.s3.prefix:sports-data}")
     private String keyPrefix;
     
+    @Value("${etl.s3.multipart.enabled:false}")
+    private boolean multipartEnabled;
+    
+    @Value("${etl.s3.multipart.part-size-mb:8}")
+    private int multipartPartSizeMb;
+    
+    // Largest local spool file a streaming writer may create; 0 leaves it bounded only by the disk
+    @Value("${etl.s3.spool.max-size-mb:0}")
+    private long spoolMaxSizeMb;
+    
+    @Value("${etl.s3.output.format:JSON}")
+    private OutputFormat outputFormat;
+    
+    @Value("${etl.s3.output.compression:NONE}")
+    private OutputCompression outputCompression;
+    
+    // Splits teams by league and games by date into Hive-style key=value partitions
+    @Value("${etl.s3.partitioning.enabled:false}")
+    private boolean partitioningEnabled;
+    
+    // Upper bound on partition spool files a streaming writer keeps open at once
+    @Value("${etl.s3.partitioning.max-open-writers:32}")
+    private int maxOpenPartitionWriters;
+    
+    // Uploads only changed records as a delta object, compacting into a full snapshot periodically
+    @Value("${etl.s3.incremental.enabled:false}")
+    private boolean incrementalEnabled;
+    
+    @Value("${etl.s3.incremental.compact-after:10}")
+    private int compactAfterDeltas;
+    
+    @Value("${etl.s3.async.enabled:false}")
+    private boolean asyncEnabled;
+    
+    @Value("${etl.s3.async.max-concurrency:3}")
+    private int asyncMaxConcurrency;
+    
+    // Optional S3-compatible endpoint (e.g. MinIO or LocalStack) used by both clients
+    @Value("${etl.s3.endpoint:}")
+    private String endpointOverride;
+    
+    private S3Client s3Client;
+    private S3AsyncClient s3AsyncClient;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     public S3DataLoader() {
-        this.s3Client = S3Client.builder()
-                .region(Region.of(System.getProperty("aws.region", "us-east-1")))
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
-        
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
     }
     
+    // Entity objects, metadata, the _latest pointer and the incremental manifest all go to the same endpoint
+    @PostConstruct
+    void initClients() {
+        if (S3ClientFactory.hasEndpointOverride(endpointOverride)) {
+            logger.info("S3 loads will use endpoint: {}", endpointOverride);
+        }
+        
+        this.s3Client = S3ClientFactory.syncClient(region, endpointOverride);
+        if (asyncEnabled) {
+            this.s3AsyncClient = S3ClientFactory.asyncClient(region, endpointOverride);
+            if (multipartEnabled) {
+                logger.info("Async S3 loads spool each object to local disk and upload it in one request; "
+                    + "etl.s3.multipart.enabled applies to synchronous loads only");
+            }
+        }
+    }
+    
+    @PreDestroy
+    void closeClients() {
+        entityExecutor.shutdown();
+        if (s3AsyncClient != null) {
+            s3AsyncClient.close();
+        }
+        if (s3Client != null) {
+            s3Client.close();
+        }
+    }
+    
     public EtlPipeline.LoadResult loadAllData(EtlPipeline.TransformedData transformedData) {
+        return loadAllData(EntityRecords.of("teams", transformedData.getTeams()),
+            EntityRecords.of("players", transformedData.getPlayers()),
+            EntityRecords.of("games", transformedData.getGames()));
+    }
+    
+    /**
+     * Loads players and games held as columnar batches under the same keys, formats and load modes
+     * as {@link #loadAllData(EtlPipeline.TransformedData)}. The Parquet encoder reads the batch
+     * columns directly; the JSON encoders serialize one row object at a time.
+     */
+    public EtlPipeline.LoadResult loadAllData(List<Team> teams, PlayerBatch players, GameBatch games) {
+        return loadAllData(EntityRecords.of("teams", teams), EntityRecords.of(players), EntityRecords.of(games));
+    }
+    
+    private EtlPipeline.LoadResult loadAllData(EntityRecords teams, EntityRecords players, EntityRecords games) {
+        if (incrementalEnabled) {
+            return loadIncremental(teams, players, games);
+        }
+        return loadSnapshot(teams, players, games, newLoadTimestamp());
+    }
+    
+    private EtlPipeline.LoadResult loadSnapshot(EntityRecords teams, EntityRecords players, EntityRecords games,
+                                                String timestamp) {
+        if (s3AsyncClient != null) {
+            return loadAllDataAsync(teams, players, games, timestamp);
+        }
+        
         EtlPipeline.LoadResult result = new EtlPipeline.LoadResult();
-        String timestamp = LocalDateTime.now().format(DATE_FORMATTER);
         
         try {
             logger.info("Starting S3 data loading process to bucket: {}", bucketName);
             
             // Load teams
-            int teamsLoaded = loadTeamsToS3(transformedData.getTeams(), timestamp);
+            int teamsLoaded = loadTeamsToS3(teams, timestamp, result);
             result.setTeamsLoaded(teamsLoaded);
             
             // Load players
-            int playersLoaded = loadPlayersToS3(transformedData.getPlayers(), timestamp);
+            int playersLoaded = loadPlayersToS3(players, timestamp, result);
             result.setPlayersLoaded(playersLoaded);
             
             // Load games
-            int gamesLoaded = loadGamesToS3(transformedData.getGames(), timestamp);
+            int gamesLoaded = loadGamesToS3(games, timestamp, result);
             result.setGamesLoaded(gamesLoaded);
             
             // Create metadata file
@@ -86,27 +214,260 @@ public class S3DataLoader {
         return result;
     }
     
-    private int loadTeamsToS3(List<Team> teams, String timestamp) {
-        if (teams == null || teams.isEmpty()) {
-            logger.info("No teams to upload to S3");
-            return 0;
+    /**
+     * Uploads the three entities concurrently on the async client, with at most
+     * {@code etl.s3.async.max-concurrency} requests in flight. Each entity is serialized on its own
+     * thread into local spool files, one per object, so no object is held on the heap. The metadata
+     * file is written only after every entity upload has succeeded.
+     */
+    private EtlPipeline.LoadResult loadAllDataAsync(EntityRecords teams, EntityRecords players, EntityRecords games,
+                                                    String timestamp) {
+        EtlPipeline.LoadResult result = new EtlPipeline.LoadResult();
+        Semaphore uploadPermits = new Semaphore(Math.max(asyncMaxConcurrency, 1));
+        
+        try {
+            logger.info("Starting async S3 data loading process to bucket: {} (max concurrency {})",
+                bucketName, asyncMaxConcurrency);
+            
+            CompletableFuture<Integer> teamsUpload = uploadEntityAsync(teams, timestamp, result, uploadPermits);
+            CompletableFuture<Integer> playersUpload = uploadEntityAsync(players, timestamp, result, uploadPermits);
+            CompletableFuture<Integer> gamesUpload = uploadEntityAsync(games, timestamp, result, uploadPermits);
+            
+            CompletableFuture.allOf(teamsUpload, playersUpload, gamesUpload).join();
+            
+            result.setTeamsLoaded(teamsUpload.join());
+            result.setPlayersLoaded(playersUpload.join());
+            result.setGamesLoaded(gamesUpload.join());
+            
+            // Create metadata file once all entity objects are in place
+            try {
+                Metadata metadata = buildMetadata(result, timestamp);
+                byte[] metadataContent = objectMapper.writeValueAsBytes(metadata);
+                putObjectAsync(metadataKey(timestamp), AsyncRequestBody.fromBytes(metadataContent), "application/json",
+                    null, uploadPermits).join();
+                logger.info("Successfully uploaded metadata to S3 key: {}", metadataKey(timestamp));
+                publishLatestRun(metadata);
+            } catch (Exception e) {
+                logger.warn("Failed to upload metadata to S3", e);
+                // Don't fail the entire process for metadata upload failure
+            }
+            
+            result.setSuccess(true);
+            
+            logger.info("Async S3 data loading completed successfully: {} teams, {} players, {} games",
+                result.getTeamsLoaded(), result.getPlayersLoaded(), result.getGamesLoaded());
+            
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            logger.error("Async S3 data loading failed", cause);
+            result.setSuccess(false);
+            result.setErrorMessage(cause.getMessage());
+            throw new RuntimeException("S3 loading failed", cause);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Diffs the run against the content-hash manifest of the previous load and uploads only the
+     * inserted, updated and deleted records as one delta object. A full snapshot is written instead
+     * on the first run and once {@code etl.s3.incremental.compact-after} deltas have accumulated.
+     */
+    private EtlPipeline.LoadResult loadIncremental(EntityRecords teams, EntityRecords players, EntityRecords games) {
+        String timestamp = newLoadTimestamp();
+        DeltaManifest previous = readJsonObject(manifestKey(), DeltaManifest.class);
+        DeltaManifest.SnapshotPointer pointer = readJsonObject(snapshotPointerKey(), DeltaManifest.SnapshotPointer.class);
+        
+        DeltaManifest manifest = new DeltaManifest();
+        manifest.setTimestamp(timestamp);
+        Map<String, DeltaManifest.EntityDelta> deltas = new TreeMap<>();
+        deltas.put("teams", manifest.diff("teams", teams.rows(), previous, objectMapper));
+        deltas.put("players", manifest.diff("players", players.rows(), previous, objectMapper));
+        deltas.put("games", manifest.diff("games", games.rows(), previous, objectMapper));
+        
+        EtlPipeline.LoadResult result;
+        if (previous == null || pointer == null || pointer.getDeltaKeys().size() >= compactAfterDeltas) {
+            logger.info("Writing full snapshot {} (previous manifest: {})", timestamp,
+                previous == null ? "none" : previous.getTimestamp());
+            result = loadSnapshot(teams, players, games, timestamp);
+            pointer = new DeltaManifest.SnapshotPointer();
+            pointer.setSnapshotTimestamp(timestamp);
+        } else {
+            result = loadDelta(deltas, teams, players, games, timestamp);
+            pointer.getDeltaKeys().add(deltaKey(timestamp));
         }
+        pointer.setUpdatedAt(LocalDateTime.now().format(DATE_FORMATTER));
         
         try {
-            logger.info("Uploading {} teams to S3", teams.size());
+            // The pointer goes first: if the manifest write fails, the next delta repeats changes
+            // readers already applied, which is harmless, instead of skipping changes
+            putJsonObject(snapshotPointerKey(), pointer);
+            putJsonObject(manifestKey(), manifest);
+        } catch (Exception e) {
+            logger.error("Failed to update incremental load state", e);
+            throw new RuntimeException("Incremental load state update failed", e);
+        }
+        
+        return result;
+    }
+    
+    // The loaded counts stay the snapshot totals the delta brings readers up to; changes are counted separately
+    private EtlPipeline.LoadResult loadDelta(Map<String, DeltaManifest.EntityDelta> deltas, EntityRecords teams,
+                                             EntityRecords players, EntityRecords games, String timestamp) {
+        EtlPipeline.LoadResult result = new EtlPipeline.LoadResult();
+        result.setLoadType("DELTA");
+        result.setTeamsLoaded(teams.size());
+        result.setPlayersLoaded(players.size());
+        result.setGamesLoaded(games.size());
+        result.setTeamsChanged(deltas.get("teams").getChangeCount());
+        result.setPlayersChanged(deltas.get("players").getChangeCount());
+        result.setGamesChanged(deltas.get("games").getChangeCount());
+        
+        try {
+            String key = deltaKey(timestamp);
+            putJsonObject(key, deltas);
+            createMetadataFile(result, timestamp);
+            result.setSuccess(true);
             
-            String key = String.format("%s/%s/teams/teams-%s.json", keyPrefix, timestamp, timestamp);
-            String jsonContent = objectMapper.writeValueAsString(teams);
+            logger.info("Uploaded delta to S3 key {}: {} team, {} player, {} game changes", key,
+                result.getTeamsChanged(), result.getPlayersChanged(), result.getGamesChanged());
             
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .contentType("application/json")
-                    .build();
+        } catch (Exception e) {
+            logger.error("S3 delta loading failed", e);
+            result.setSuccess(false);
+            result.setErrorMessage(e.getMessage());
+            throw new RuntimeException("S3 loading failed", e);
+        }
+        
+        return result;
+    }
+    
+    // Reads a JSON object written by a previous run, or returns null if it does not exist yet
+    private <T> T readJsonObject(String key, Class<T> type) {
+        try {
+            byte[] content = s3Client.getObjectAsBytes(builder -> builder.bucket(bucketName).key(key)).asByteArray();
+            return objectMapper.readValue(content, type);
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read S3 object: " + key, e);
+        }
+    }
+    
+    private void putJsonObject(String key, Object value) throws IOException {
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType("application/json")
+                .build();
+        
+        s3Client.putObject(putRequest, RequestBody.fromBytes(objectMapper.writeValueAsBytes(value)));
+    }
+    
+    private String deltaKey(String timestamp) {
+        return String.format("%s/%s/delta-%s.json", keyPrefix, timestamp, timestamp);
+    }
+    
+    private String manifestKey() {
+        return keyPrefix + "/_incremental/manifest.json";
+    }
+    
+    private String snapshotPointerKey() {
+        return keyPrefix + "/_incremental/snapshot.json";
+    }
+    
+    private CompletableFuture<Integer> uploadEntityAsync(EntityRecords records, String timestamp,
+                                                         EtlPipeline.LoadResult result,
+                                                         Semaphore uploadPermits) {
+        String entityName = records.getEntityName();
+        if (records.isEmpty()) {
+            logger.info("No {} to upload to S3", entityName);
+            return CompletableFuture.completedFuture(0);
+        }
+        
+        Map<String, EntityRecords> partitionedRecords = records.byPartition(partitioningEnabled);
+        return CompletableFuture.supplyAsync(() -> {
+            logger.info("Uploading {} {} to S3", records.size(), entityName);
             
-            s3Client.putObject(putRequest, RequestBody.fromString(jsonContent));
+            // Each object starts uploading as soon as it is spooled, while the next one is serialized
+            List<CompletableFuture<?>> uploads = new ArrayList<>();
+            for (Map.Entry<String, EntityRecords> partition : partitionedRecords.entrySet()) {
+                String key = entityKey(entityName, timestamp, partition.getKey());
+                Path spoolFile = spoolRecords(key, partition.getValue());
+                
+                uploads.add(putObjectAsync(key, AsyncRequestBody.fromFile(spoolFile), outputFormat.getContentType(),
+                        contentEncoding(), uploadPermits)
+                    .whenComplete((response, error) -> deleteSpoolFile(spoolFile))
+                    .thenRun(() -> logger.info("Successfully uploaded {} {} to S3 key: {}",
+                        partition.getValue().size(), entityName, key)));
+            }
+            return uploads;
+        }, entityExecutor)
+            .thenCompose(uploads -> CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])))
+            .thenApply(ignored -> {
+                result.addPartitions(entityName, partitionPaths(partitionedRecords));
+                return records.size();
+            });
+    }
+    
+    // Serializes one object to a spool file, bounded by etl.s3.spool.max-size-mb
+    private Path spoolRecords(String key, EntityRecords records) {
+        Path spoolFile = null;
+        try {
+            spoolFile = Files.createTempFile("etl-" + records.getEntityName() + "-", ".tmp");
+            try (OutputStream spoolStream = new BufferedOutputStream(new BoundedOutputStream(
+                    Files.newOutputStream(spoolFile), spoolMaxSizeMb * 1024 * 1024, "Spool file for " + key))) {
+                writeRecords(spoolStream, records);
+            }
+            return spoolFile;
+        } catch (IOException e) {
+            deleteSpoolFile(spoolFile);
+            throw new UncheckedIOException("Failed to spool " + key, e);
+        } catch (RuntimeException e) {
+            deleteSpoolFile(spoolFile);
+            throw e;
+        }
+    }
+    
+    private void deleteSpoolFile(Path spoolFile) {
+        try {
+            if (spoolFile != null) {
+                Files.deleteIfExists(spoolFile);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to delete spool file: {}", spoolFile, e);
+        }
+    }
+    
+    private CompletableFuture<?> putObjectAsync(String key, AsyncRequestBody content, String contentType,
+                                                String contentEncoding, Semaphore uploadPermits) {
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentEncoding(contentEncoding)
+                .build();
+        
+        uploadPermits.acquireUninterruptibly();
+        try {
+            return s3AsyncClient.putObject(putRequest, content)
+                .whenComplete((response, error) -> uploadPermits.release());
+        } catch (RuntimeException e) {
+            uploadPermits.release();
+            throw e;
+        }
+    }
+    
+    private int loadTeamsToS3(EntityRecords teams, String timestamp, EtlPipeline.LoadResult result) {
+        if (teams.isEmpty()) {
+            logger.info("No teams to upload to S3");
+            return 0;
+        }
+        
+        try {
+            logger.info("Uploading {} teams to S3", teams.size());
             
-            logger.info("Successfully uploaded {} teams to S3 key: {}", teams.size(), key);
+            result.addPartitions("teams", uploadEntity(teams, timestamp));
             return teams.size();
             
         } catch (Exception e) {
@@ -115,8 +476,8 @@ public class S3DataLoader {
         }
     }
     
-    private int loadPlayersToS3(List<Player> players, String timestamp) {
-        if (players == null || players.isEmpty()) {
+    private int loadPlayersToS3(EntityRecords players, String timestamp, EtlPipeline.LoadResult result) {
+        if (players.isEmpty()) {
             logger.info("No players to upload to S3");
             return 0;
         }
@@ -124,18 +485,7 @@ public class S3DataLoader {
         try {
             logger.info("Uploading {} players to S3", players.size());
             
-            String key = String.format("%s/%s/players/players-%s.json", keyPrefix, timestamp, timestamp);
-            String jsonContent = objectMapper.writeValueAsString(players);
-            
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .contentType("application/json")
-                    .build();
-            
-            s3Client.putObject(putRequest, RequestBody.fromString(jsonContent));
-            
-            logger.info("Successfully uploaded {} players to S3 key: {}", players.size(), key);
+            result.addPartitions("players", uploadEntity(players, timestamp));
             return players.size();
             
         } catch (Exception e) {
@@ -144,8 +494,8 @@ public class S3DataLoader {
         }
     }
     
-    private int loadGamesToS3(List<Game> games, String timestamp) {
-        if (games == null || games.isEmpty()) {
+    private int loadGamesToS3(EntityRecords games, String timestamp, EtlPipeline.LoadResult result) {
+        if (games.isEmpty()) {
             logger.info("No games to upload to S3");
             return 0;
         }
@@ -153,18 +503,7 @@ public class S3DataLoader {
         try {
             logger.info("Uploading {} games to S3", games.size());
             
-            String key = String.format("%s/%s/games/games-%s.json", keyPrefix, timestamp, timestamp);
-            String jsonContent = objectMapper.writeValueAsString(games);
-            
-            PutObjectRequest putRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .contentType("application/json")
-                    .build();
-            
-            s3Client.putObject(putRequest, RequestBody.fromString(jsonContent));
-            
-            logger.info("Successfully uploaded {} games to S3 key: {}", games.size(), key);
+            result.addPartitions("games", uploadEntity(games, timestamp));
             return games.size();
             
         } catch (Exception e) {
@@ -173,29 +512,99 @@ public class S3DataLoader {
         }
     }
     
-    private void createMetadataFile(EtlPipeline.LoadResult result, String timestamp) {
-        try {
-            // Create metadata object
-            Metadata metadata = new Metadata();
-            metadata.setTimestamp(timestamp);
-            metadata.setTeamsCount(result.getTeamsLoaded());
-            metadata.setPlayersCount(result.getPlayersLoaded());
-            metadata.setGamesCount(result.getGamesLoaded());
-            metadata.setTotalRecords(result.getTeamsLoaded() + result.getPlayersLoaded() + result.getGamesLoaded());
-            metadata.setLoadedAt(LocalDateTime.now());
-            
-            String key = String.format("%s/%s/metadata.json", keyPrefix, timestamp);
-            String jsonContent = objectMapper.writeValueAsString(metadata);
+    // Uploads one object per partition and returns the partition paths that were written
+    private List<String> uploadEntity(EntityRecords records, String timestamp) throws IOException {
+        String entityName = records.getEntityName();
+        Map<String, EntityRecords> partitionedRecords = records.byPartition(partitioningEnabled);
+        for (Map.Entry<String, EntityRecords> partition : partitionedRecords.entrySet()) {
+            String key = entityKey(entityName, timestamp, partition.getKey());
+            uploadRecords(key, partition.getValue());
+            logger.info("Successfully uploaded {} {} to S3 key: {}", partition.getValue().size(), entityName, key);
+        }
+        return partitionPaths(partitionedRecords);
+    }
+    
+    private static List<String> partitionPaths(Map<String, EntityRecords> partitionedRecords) {
+        List<String> paths = new ArrayList<>(partitionedRecords.keySet());
+        paths.remove("");
+        return paths;
+    }
+    
+    private void uploadRecords(String key, EntityRecords records) throws IOException {
+        if (!multipartEnabled) {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            writeRecords(content, records);
             
             PutObjectRequest putRequest = PutObjectRequest.builder()
                     .bucket(bucketName)
                     .key(key)
-                    .contentType("application/json")
+                    .contentType(outputFormat.getContentType())
+                    .contentEncoding(contentEncoding())
                     .build();
             
-            s3Client.putObject(putRequest, RequestBody.fromString(jsonContent));
+            s3Client.putObject(putRequest, RequestBody.fromBytes(content.toByteArray()));
+            return;
+        }
+        
+        // Serialize straight into multipart upload parts instead of building one large String.
+        // The encoder is only closed on success: closing it completes the upload, so a failure
+        // must discard the encoder and abort the upload before anything can close the stream
+        MultipartUploadOutputStream uploadStream = newMultipartStream(key);
+        RecordEncoder encoder = null;
+        try {
+            encoder = newEncoder(records.getEntityName(), uploadStream);
+            records.writeTo(encoder);
+            encoder.close();
+        } catch (IOException | RuntimeException e) {
+            if (encoder != null) {
+                encoder.discard();
+            }
+            uploadStream.abort();
+            throw e;
+        }
+    }
+    
+    private void writeRecords(OutputStream target, EntityRecords records) throws IOException {
+        try (RecordEncoder encoder = newEncoder(records.getEntityName(), target)) {
+            records.writeTo(encoder);
+        }
+    }
+    
+    private RecordEncoder newEncoder(String entityName, OutputStream target) throws IOException {
+        return RecordEncoder.create(objectMapper, entityName, target, outputFormat, outputCompression);
+    }
+    
+    // Content-Encoding of entity objects; formats that compress internally carry none
+    private String contentEncoding() {
+        return outputFormat.isCompressedInternally() ? null : outputCompression.getContentEncoding();
+    }
+    
+    private MultipartUploadOutputStream newMultipartStream(String key) {
+        return new MultipartUploadOutputStream(s3Client, bucketName, key, outputFormat.getContentType(),
+            contentEncoding(), multipartPartSizeMb * 1024 * 1024);
+    }
+    
+    private String entityKey(String entityName, String timestamp, String partition) {
+        return entityKey(entityName, timestamp, partition, 0);
+    }
+    
+    // Later parts of a partition sit next to the first object with a numeric suffix
+    private String entityKey(String entityName, String timestamp, String partition, int part) {
+        String compressionExtension = outputFormat.isCompressedInternally() ? "" : outputCompression.getFileExtension();
+        String directory = partition.isEmpty() ? entityName : entityName + "/" + partition;
+        String partSuffix = part == 0 ? "" : String.format("-%05d", part);
+        return String.format("%s/%s/%s/%s-%s%s%s%s", keyPrefix, timestamp, directory, entityName, timestamp,
+            partSuffix, outputFormat.getFileExtension(), compressionExtension);
+    }
+    
+    private void createMetadataFile(EtlPipeline.LoadResult result, String timestamp) {
+        try {
+            String key = metadataKey(timestamp);
+            Metadata metadata = buildMetadata(result, timestamp);
+            putJsonObject(key, metadata);
             
             logger.info("Successfully uploaded metadata to S3 key: {}", key);
+            publishLatestRun(metadata);
             
         } catch (Exception e) {
             logger.warn("Failed to upload metadata to S3", e);
@@ -203,19 +612,81 @@ public class S3DataLoader {
         }
     }
     
+    // Points readers at the new run without a prefix scan, then lets in-process caches refresh
+    private void publishLatestRun(Metadata metadata) throws IOException {
+        putJsonObject(keyPrefix + "/" + LATEST_RUN_OBJECT, metadata);
+        eventPublisher.publishEvent(new LoadCompletedEvent(metadata));
+    }
+    
+    private Metadata buildMetadata(EtlPipeline.LoadResult result, String timestamp) {
+        Metadata metadata = new Metadata();
+        metadata.setTimestamp(timestamp);
+        metadata.setTeamsCount(result.getTeamsLoaded());
+        metadata.setPlayersCount(result.getPlayersLoaded());
+        metadata.setGamesCount(result.getGamesLoaded());
+        metadata.setTotalRecords(result.getTeamsLoaded() + result.getPlayersLoaded() + result.getGamesLoaded());
+        metadata.setLoadedAt(LocalDateTime.now());
+        metadata.setLoadType(result.getLoadType());
+        if ("DELTA".equals(result.getLoadType())) {
+            metadata.setTeamsChanged(result.getTeamsChanged());
+            metadata.setPlayersChanged(result.getPlayersChanged());
+            metadata.setGamesChanged(result.getGamesChanged());
+        }
+        metadata.setOutputFormat(outputFormat.name());
+        metadata.setCompression(outputCompression.name());
+        if (!result.getPartitions().isEmpty()) {
+            metadata.setPartitions(new TreeMap<>(result.getPartitions()));
+        }
+        return metadata;
+    }
+    
+    private String metadataKey(String timestamp) {
+        return String.format("%s/%s/metadata.json", keyPrefix, timestamp);
+    }
+    
+    public String newLoadTimestamp() {
+        return LocalDateTime.now().format(DATE_FORMATTER);
+    }
+    
+    /**
+     * Opens a writer that accepts records of one entity type as they are produced. Records are
+     * serialized to a local spool file rather than held on the heap, and the objects are uploaded
+     * under the same key layout as {@link #loadAllData} when the writer is closed. Without
+     * multipart uploads an unpartitioned entity spools its whole object to local disk; set
+     * {@code etl.s3.spool.max-size-mb} to fail the run instead of filling the disk.
+     */
+    public EntityWriter openEntityWriter(String entityName, String timestamp) throws IOException {
+        return new EntityWriter(entityName, timestamp);
+    }
+    
+    public void writeMetadata(EtlPipeline.LoadResult result, String timestamp) {
+        createMetadataFile(result, timestamp);
+    }
+    
     public void loadTeamsOnly(List<Team> teams) {
         String timestamp = LocalDateTime.now().format(DATE_FORMATTER);
-        loadTeamsToS3(teams, timestamp);
+        loadTeamsToS3(EntityRecords.of("teams", teams), timestamp, new EtlPipeline.LoadResult());
+    }
+    
+    public void loadPlayersOnly(List<? extends PlayerView> players) {
+        String timestamp = LocalDateTime.now().format(DATE_FORMATTER);
+        loadPlayersToS3(EntityRecords.of("players", players), timestamp, new EtlPipeline.LoadResult());
+    }
+    
+    public void loadGamesOnly(List<? extends GameView> games) {
+        String timestamp = LocalDateTime.now().format(DATE_FORMATTER);
+        loadGamesToS3(EntityRecords.of("games", games), timestamp, new EtlPipeline.LoadResult());
     }
     
-    public void loadPlayersOnly(List<Player> players) {
+    // Columnar batches go to the encoders whole, so Parquet output is written from the columns
+    public void loadPlayersOnly(PlayerBatch players) {
         String timestamp = LocalDateTime.now().format(DATE_FORMATTER);
-        loadPlayersToS3(players, timestamp);
+        loadPlayersToS3(EntityRecords.of(players), timestamp, new EtlPipeline.LoadResult());
     }
     
-    public void loadGamesOnly(List<Game> games) {
+    public void loadGamesOnly(GameBatch games) {
         String timestamp = LocalDateTime.now().format(DATE_FORMATTER);
-        loadGamesToS3(games, timestamp);
+        loadGamesToS3(EntityRecords.of(games), timestamp, new EtlPipeline.LoadResult());
     }
     
     public boolean checkS3Connection() {
@@ -228,6 +699,17 @@ public class S3DataLoader {
         }
     }
     
+    private static class EntityThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "s3-entity-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+    
     // Metadata inner class
     public static class Metadata {
         private String timestamp;
@@ -236,6 +718,14 @@ public class S3DataLoader {
         private int gamesCount;
         private int totalRecords;
         private LocalDateTime loadedAt;
+        private String loadType;
+        // Records inserted, updated or deleted since the previous load; only set on DELTA loads
+        private Integer teamsChanged;
+        private Integer playersChanged;
+        private Integer gamesChanged;
+        private String outputFormat;
+        private String compression;
+        private Map<String, List<String>> partitions;
         
         // Getters and setters
         public String getTimestamp() { return timestamp; }
@@ -255,5 +745,218 @@ public class S3DataLoader {
         
         public LocalDateTime getLoadedAt() { return loadedAt; }
         public void setLoadedAt(LocalDateTime loadedAt) { this.loadedAt = loadedAt; }
+        
+        public String getLoadType() { return loadType; }
+        public void setLoadType(String loadType) { this.loadType = loadType; }
+        
+        public Integer getTeamsChanged() { return teamsChanged; }
+        public void setTeamsChanged(Integer teamsChanged) { this.teamsChanged = teamsChanged; }
+        
+        public Integer getPlayersChanged() { return playersChanged; }
+        public void setPlayersChanged(Integer playersChanged) { this.playersChanged = playersChanged; }
+        
+        public Integer getGamesChanged() { return gamesChanged; }
+        public void setGamesChanged(Integer gamesChanged) { this.gamesChanged = gamesChanged; }
+        
+        public String getOutputFormat() { return outputFormat; }
+        public void setOutputFormat(String outputFormat) { this.outputFormat = outputFormat; }
+        
+        public String getCompression() { return compression; }
+        public void setCompression(String compression) { this.compression = compression; }
+        
+        public Map<String, List<String>> getPartitions() { return partitions; }
+        public void setPartitions(Map<String, List<String>> partitions) { this.partitions = partitions; }
+    }
+    
+    /**
+     * Streams one entity's records through the output encoder. Each partition gets its own object,
+     * written either as multipart upload parts or via a spool file. Partitioned writers always spool,
+     * and at most {@code etl.s3.partitioning.max-open-writers} spool files are open at once: when a
+     * new partition would exceed the bound, the least recently written one is uploaded, and any later
+     * records for it go to a further part object in the same partition directory.
+     */
+    public class EntityWriter implements Closeable {
+        private final String entityName;
+        private final String timestamp;
+        // Access-ordered, so the eldest entry is the least recently written partition
+        private final LinkedHashMap<String, PartitionSink> openSinks = new LinkedHashMap<>(16, 0.75f, true);
+        // Objects started per partition, including ones already uploaded
+        private final Map<String, Integer> partCounts = new TreeMap<>();
+        private final List<String> uploadedKeys = new ArrayList<>();
+        private int recordCount;
+        private boolean closed;
+        
+        private EntityWriter(String entityName, String timestamp) {
+            this.entityName = entityName;
+            this.timestamp = timestamp;
+        }
+        
+        public void write(Object record) throws IOException {
+            String partition = partitioningEnabled ? PartitionLayout.partitionPath(entityName, record) : "";
+            PartitionSink sink = openSinks.get(partition);
+            if (sink == null) {
+                if (openSinks.size() >= Math.max(1, maxOpenPartitionWriters)) {
+                    uploadEldest();
+                }
+                int part = partCounts.merge(partition, 1, Integer::sum) - 1;
+                sink = new PartitionSink(entityKey(entityName, timestamp, partition, part));
+                openSinks.put(partition, sink);
+            }
+            sink.encoder.write(record);
+            sink.recordCount++;
+            recordCount++;
+        }
+        
+        public int getRecordCount() {
+            return recordCount;
+        }
+        
+        // Partition paths written so far, empty when partitioning is off
+        public List<String> getPartitions() {
+            List<String> paths = new ArrayList<>(partCounts.keySet());
+            paths.remove("");
+            return paths;
+        }
+        
+        private void uploadEldest() throws IOException {
+            Iterator<PartitionSink> eldest = openSinks.values().iterator();
+            PartitionSink sink = eldest.next();
+            eldest.remove();
+            try {
+                sink.upload();
+            } catch (IOException | RuntimeException e) {
+                sink.discard();
+                throw e;
+            } finally {
+                sink.deleteSpoolFile();
+            }
+        }
+        
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            
+            if (recordCount == 0) {
+                logger.info("No {} to upload to S3", entityName);
+                return;
+            }
+            
+            int objectCount = partCounts.values().stream().mapToInt(Integer::intValue).sum();
+            logger.info("Uploading {} {} to S3 in {} object(s)", recordCount, entityName, objectCount);
+            
+            try {
+                for (PartitionSink sink : openSinks.values()) {
+                    sink.upload();
+                }
+            } catch (Exception e) {
+                logger.error("Failed to upload {} to S3", entityName, e);
+                discard();
+                throw new IOException("Streaming upload of " + entityName + " failed", e);
+            } finally {
+                deleteSpoolFiles();
+            }
+        }
+        
+        // Discards everything written so far, including parts already uploaded for evicted partitions
+        public void abort() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            discard();
+            deleteSpoolFiles();
+        }
+        
+        private void discard() {
+            for (PartitionSink sink : openSinks.values()) {
+                sink.discard();
+            }
+            for (String key : uploadedKeys) {
+                try {
+                    s3Client.deleteObject(builder -> builder.bucket(bucketName).key(key));
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to delete partial upload of {}: {}", entityName, key, e);
+                }
+            }
+            uploadedKeys.clear();
+        }
+        
+        private void deleteSpoolFiles() {
+            for (PartitionSink sink : openSinks.values()) {
+                sink.deleteSpoolFile();
+            }
+        }
+        
+        private class PartitionSink {
+            private final String key;
+            private final Path spoolFile;
+            private final OutputStream spoolStream;
+            private final MultipartUploadOutputStream uploadStream;
+            private final RecordEncoder encoder;
+            private int recordCount;
+            
+            private PartitionSink(String key) throws IOException {
+                this.key = key;
+                if (multipartEnabled && !partitioningEnabled) {
+                    this.spoolFile = null;
+                    this.spoolStream = null;
+                    this.uploadStream = newMultipartStream(key);
+                    this.encoder = newEncoder(entityName, uploadStream);
+                } else {
+                    this.spoolFile = Files.createTempFile("etl-" + entityName + "-", ".tmp");
+                    this.spoolStream = new BufferedOutputStream(new BoundedOutputStream(Files.newOutputStream(spoolFile),
+                        spoolMaxSizeMb * 1024 * 1024, "Spool file for " + key));
+                    this.uploadStream = null;
+                    this.encoder = newEncoder(entityName, spoolStream);
+                }
+            }
+            
+            // The encoder leaves the target alone, so the upload is aborted and the spool file closed here
+            private void discard() {
+                encoder.discard();
+                if (uploadStream != null) {
+                    uploadStream.abort();
+                }
+                if (spoolStream != null) {
+                    try {
+                        spoolStream.close();
+                    } catch (IOException e) {
+                        logger.warn("Failed to close spool file for {}: {}", entityName, spoolFile, e);
+                    }
+                }
+            }
+            
+            private void upload() throws IOException {
+                // In multipart mode, closing the encoder flushes the last part and completes the upload
+                encoder.close();
+                
+                if (spoolFile != null) {
+                    PutObjectRequest putRequest = PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType(outputFormat.getContentType())
+                            .contentEncoding(contentEncoding())
+                            .build();
+                    
+                    s3Client.putObject(putRequest, RequestBody.fromFile(spoolFile));
+                }
+                uploadedKeys.add(key);
+                
+                logger.info("Successfully uploaded {} {} to S3 key: {}", recordCount, entityName, key);
+            }
+            
+            private void deleteSpoolFile() {
+                try {
+                    if (spoolFile != null) {
+                        Files.deleteIfExists(spoolFile);
+                    }
+                } catch (IOException e) {
+                    logger.warn("Failed to delete spool file for {}: {}", entityName, spoolFile, e);
+                }
+            }
+        }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -1,32 +1,57 @@
 package com.sportsdata.etl.services.pipeline;
 
 import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.GameBatch;
 import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.PlayerBatch;
 import com.sportsdata.etl.models.Team;
 import com.sportsdata.etl.services.extractors.CsvDataExtractor;
 import com.sportsdata.etl.services.extractors.JsonApiExtractor;
 import com.sportsdata.etl.services.extractors.XmlFeedExtractor;
 import com.sportsdata.etl.services.loaders.S3DataLoader;
-import com.sportsdata.etl.services.quality.S3QualityChecker;
+import com.sportsdata.etl.services.quality.DataProfile;
+import com.sportsdata.etl.services.quality.DataProfiler;
+import com.sportsdata.etl.services.quality.PipelineQualityChecker;
 import com.sportsdata.etl.services.quality.QualityReport;
 import com.sportsdata.etl.services.transformers.DataCleaner;
 import com.sportsdata.etl.services.transformers.DataStandardizer;
 import com.sportsdata.etl.services.transformers.DataValidator;
+import com.sportsdata.etl.services.transformers.RecordTransformer;
+import com.sportsdata.etl.services.transformers.ReferentialIntegrityValidator;
 import com.sportsdata.etl.utils.MetricsCollector;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 @Service
 public class EtlPipeline {
     
     private static final Logger logger = LoggerFactory.getLogger(EtlPipeline.class);
     
+    // One thread per entity branch (teams, players, games)
+    private static final int BRANCH_COUNT = 3;
+    
+    private final ExecutorService branchExecutor = Executors.newFixedThreadPool(BRANCH_COUNT, new BranchThreadFactory());
+    
     @Autowired
     private CsvDataExtractor csvExtractor;
     
@@ -45,15 +70,31 @@ public class EtlPipeline {
     @Autowired
     private DataStandardizer dataStandardizer;
     
+    @Autowired
+    private RecordTransformer recordTransformer;
+    
+    @Autowired
+    private ReferentialIntegrityValidator integrityValidator;
+    
+    @Autowired
+    private StreamingEtlPipeline streamingPipeline;
+    
     @Autowired
     private S3DataLoader s3DataLoader;
     
     @Autowired
-    private S3QualityChecker qualityChecker;
+    private PipelineQualityChecker qualityChecker;
     
     @Autowired
     private MetricsCollector metricsCollector;
     
+    @Value("${etl.pipeline.fused-transformation:true}")
+    private boolean fusedTransformation;
+    
+    // Carries players and games as columnar batches from extraction through validation to load
+    @Value("${etl.pipeline.columnar-batches:false}")
+    private boolean columnarBatches;
+    
     public PipelineResult executeFullPipeline(PipelineConfig config) {
         String pipelineId = UUID.randomUUID().toString();
         LocalDateTime startTime = LocalDateTime.now();
@@ -63,27 +104,33 @@ public class EtlPipeline {
         PipelineResult result = new PipelineResult(pipelineId, startTime);
         
         try {
-            // Phase 1: Extraction
-            logger.info("Phase 1: Starting data extraction");
-            ExtractedData extractedData = extractData(config);
-            result.setExtractedData(extractedData);
-            metricsCollector.recordExtractionMetrics(extractedData);
-            
-            // Phase 2: Transformation and Validation
-            logger.info("Phase 2: Starting data transformation and validation");
-            TransformedData transformedData = transformAndValidateData(extractedData);
-            result.setTransformedData(transformedData);
-            metricsCollector.recordTransformationMetrics(transformedData);
-            
-            // Phase 3: Loading
-            logger.info("Phase 3: Starting data loading");
-            LoadResult loadResult = loadData(transformedData);
-            result.setLoadResult(loadResult);
-            metricsCollector.recordLoadMetrics(loadResult);
+            DataProfile profile = null;
+            if (config.isStreamingExecution()) {
+                if (columnarBatches) {
+                    logger.warn("Streaming execution passes records one at a time; etl.pipeline.columnar-batches is ignored for this run");
+                }
+                // Phases 1-3 stream records through bounded queues straight into S3, profiling them on the way
+                logger.info("Phases 1-3: Starting streaming extraction, transformation and loading");
+                DataProfiler profiler = qualityChecker.newProfiler();
+                ReferentialIntegrityValidator.ReferenceCheck references = integrityValidator.newReferenceCheck();
+                LoadResult loadResult = streamingPipeline.execute(config, profiler, references);
+                result.setReferentialIntegrity(references.finish());
+                profile = profiler.finish(LocalDateTime.now(), result.getReferentialIntegrity());
+                result.setLoadResult(loadResult);
+                metricsCollector.recordLoadMetrics(loadResult);
+            } else if (columnarBatches) {
+                logger.info("Phases 1-3: Starting columnar batch extraction, transformation and loading");
+                profile = extractTransformAndLoadBatches(config, result);
+            } else {
+                extractTransformAndLoad(config, result);
+            }
             
-            // Phase 4: Quality Assessment
+            // Phase 4: Quality Assessment, computed from the run's own data without reading S3 back
             logger.info("Phase 4: Running data quality assessment");
-            QualityReport qualityReport = qualityChecker.generateQualityReport();
+            QualityReport qualityReport = profile != null
+                ? qualityChecker.generateQualityReport(null, result.getLoadResult(), profile)
+                : qualityChecker.generateQualityReport(result.getTransformedData(), result.getLoadResult(),
+                    result.getReferentialIntegrity());
             result.setQualityReport(qualityReport);
             
             result.setEndTime(LocalDateTime.now());
@@ -102,96 +149,383 @@ public class EtlPipeline {
         return result;
     }
     
+    private void extractTransformAndLoad(PipelineConfig config, PipelineResult result) {
+        TransformedData transformedData;
+        
+        if (config.isConcurrentExecution()) {
+            // Phases 1 and 2 run per entity type on separate branches and join before loading
+            logger.info("Phases 1-2: Starting concurrent extraction and transformation branches");
+            transformedData = extractAndTransformConcurrently(config, result);
+            metricsCollector.recordExtractionMetrics(result.getExtractedData());
+            metricsCollector.recordTransformationMetrics(transformedData);
+        } else {
+            // Phase 1: Extraction
+            logger.info("Phase 1: Starting data extraction");
+            ExtractedData extractedData = extractData(config);
+            result.setExtractedData(extractedData);
+            metricsCollector.recordExtractionMetrics(extractedData);
+            
+            // Phase 2: Transformation and Validation
+            logger.info("Phase 2: Starting data transformation and validation");
+            transformedData = transformAndValidateData(extractedData);
+            result.setTransformedData(transformedData);
+            metricsCollector.recordTransformationMetrics(transformedData);
+        }
+        
+        // Phase 2b: Check that players and games reference extracted teams
+        logger.info("Phase 2b: Checking referential integrity against extracted teams");
+        result.setReferentialIntegrity(integrityValidator.validate(transformedData.getTeams(),
+            transformedData.getPlayers(), transformedData.getGames(), branchExecutor));
+        
+        // Phase 3: Loading
+        logger.info("Phase 3: Starting data loading");
+        LoadResult loadResult = loadData(transformedData);
+        result.setLoadResult(loadResult);
+        metricsCollector.recordLoadMetrics(loadResult);
+    }
+    
+    /**
+     * Runs players and games as {@link PlayerBatch} and {@link GameBatch} from extraction to
+     * load, so no list of row objects is built for them; teams stay a list. The profile for the
+     * quality report is computed from the same batches. Branches run concurrently when the config
+     * asks for it, and are timed either way. The extracted and transformed data on the result
+     * are views of the batches, converted to records only if the result is read.
+     */
+    private DataProfile extractTransformAndLoadBatches(PipelineConfig config, PipelineResult result) {
+        Executor executor = config.isConcurrentExecution() ? branchExecutor : Runnable::run;
+        CompletableFuture<BranchResult<List<Team>>> teamsBranch =
+            runBranch("teams", config.getTeamsCsvPath(), this::extractTeams, this::transformTeams, executor);
+        CompletableFuture<BranchResult<PlayerBatch>> playersBranch =
+            runBranch("players", config.getPlayersJsonPath(), this::extractPlayerBatch, this::transformPlayers, executor);
+        CompletableFuture<BranchResult<GameBatch>> gamesBranch =
+            runBranch("games", config.getGamesXmlPath(), this::extractGameBatch, this::transformGames, executor);
+        
+        awaitBranches(teamsBranch, playersBranch, gamesBranch);
+        
+        List<Team> teams = List.of();
+        PlayerBatch players = new PlayerBatch(0);
+        GameBatch games = new GameBatch(0);
+        ExtractedData extractedData = new ExtractedData();
+        TransformedData transformedData = new TransformedData();
+        Map<String, Long> branchDurations = new LinkedHashMap<>();
+        
+        BranchResult<List<Team>> teamsResult = teamsBranch.join();
+        if (teamsResult != null) {
+            teams = teamsResult.getTransformed();
+            extractedData.setTeams(teamsResult.getExtracted());
+            transformedData.setTeams(teams);
+            branchDurations.put("teams", teamsResult.getDurationMs());
+        }
+        BranchResult<PlayerBatch> playersResult = playersBranch.join();
+        if (playersResult != null) {
+            players = playersResult.getTransformed();
+            extractedData.setPlayers(playersResult.getExtracted().toPlayers());
+            transformedData.setPlayers(players.toPlayers());
+            branchDurations.put("players", playersResult.getDurationMs());
+        }
+        BranchResult<GameBatch> gamesResult = gamesBranch.join();
+        if (gamesResult != null) {
+            games = gamesResult.getTransformed();
+            extractedData.setGames(gamesResult.getExtracted().toGames());
+            transformedData.setGames(games.toGames());
+            branchDurations.put("games", gamesResult.getDurationMs());
+        }
+        
+        result.setExtractedData(extractedData);
+        result.setTransformedData(transformedData);
+        result.setBranchDurationsMs(branchDurations);
+        metricsCollector.recordExtractionMetrics(extractedData);
+        metricsCollector.recordTransformationMetrics(transformedData);
+        
+        logger.info("All pipeline branches completed, branch durations (ms): {}", branchDurations);
+        
+        logger.info("Phase 2b: Checking referential integrity against extracted teams");
+        result.setReferentialIntegrity(integrityValidator.validate(teams, players, games, branchExecutor));
+        
+        logger.info("Phase 3: Starting data loading");
+        LoadResult loadResult = s3DataLoader.loadAllData(teams, players, games);
+        result.setLoadResult(loadResult);
+        metricsCollector.recordLoadMetrics(loadResult);
+        
+        DataProfiler profiler = qualityChecker.newProfiler();
+        teams.forEach(profiler::addTeam);
+        profiler.addPlayers(players);
+        profiler.addGames(games);
+        return profiler.finish(LocalDateTime.now(), result.getReferentialIntegrity());
+    }
+    
+    private PlayerBatch extractPlayerBatch(String playersJsonPath) {
+        try {
+            logger.info("Extracting players from JSON into a columnar batch: {}", playersJsonPath);
+            return jsonExtractor.extractPlayerBatch(playersJsonPath);
+        } catch (Exception e) {
+            logger.error("Failed to extract players from JSON: {}", playersJsonPath, e);
+            throw new RuntimeException("Players extraction failed", e);
+        }
+    }
+    
+    private GameBatch extractGameBatch(String gamesXmlPath) {
+        try {
+            logger.info("Extracting games from XML into a columnar batch: {}", gamesXmlPath);
+            return xmlExtractor.extractGameBatch(gamesXmlPath);
+        } catch (Exception e) {
+            logger.error("Failed to extract games from XML: {}", gamesXmlPath, e);
+            throw new RuntimeException("Games extraction failed", e);
+        }
+    }
+    
+    private PlayerBatch transformPlayers(PlayerBatch players) {
+        logger.info("Transforming and validating a batch of {} players", players.size());
+        PlayerBatch transformedPlayers = dataStandardizer.standardizePlayers(
+            dataCleaner.cleanPlayers(dataValidator.validatePlayers(players)));
+        logger.info("Processed players: {} -> {} valid", players.size(), transformedPlayers.size());
+        return transformedPlayers;
+    }
+    
+    private GameBatch transformGames(GameBatch games) {
+        logger.info("Transforming and validating a batch of {} games", games.size());
+        GameBatch transformedGames = dataStandardizer.standardizeGames(
+            dataCleaner.cleanGames(dataValidator.validateGames(games)));
+        logger.info("Processed games: {} -> {} valid", games.size(), transformedGames.size());
+        return transformedGames;
+    }
+    
     private ExtractedData extractData(PipelineConfig config) {
         ExtractedData extractedData = new ExtractedData();
         
         // Extract teams from CSV
         if (config.getTeamsCsvPath() != null) {
-            try {
-                logger.info("Extracting teams from CSV: {}", config.getTeamsCsvPath());
-                List<Team> teams = csvExtractor.extractTeams(config.getTeamsCsvPath());
-                extractedData.setTeams(teams);
-                logger.info("Extracted {} teams from CSV", teams.size());
-            } catch (Exception e) {
-                logger.error("Failed to extract teams from CSV: {}", config.getTeamsCsvPath(), e);
-                throw new RuntimeException("Teams extraction failed", e);
-            }
+            extractedData.setTeams(extractTeams(config.getTeamsCsvPath()));
         }
         
         // Extract players from JSON
         if (config.getPlayersJsonPath() != null) {
-            try {
-                logger.info("Extracting players from JSON: {}", config.getPlayersJsonPath());
-                List<Player> players = jsonExtractor.extractPlayers(config.getPlayersJsonPath());
-                extractedData.setPlayers(players);
-                logger.info("Extracted {} players from JSON", players.size());
-            } catch (Exception e) {
-                logger.error("Failed to extract players from JSON: {}", config.getPlayersJsonPath(), e);
-                throw new RuntimeException("Players extraction failed", e);
-            }
+            extractedData.setPlayers(extractPlayers(config.getPlayersJsonPath()));
         }
         
         // Extract games from XML
         if (config.getGamesXmlPath() != null) {
-            try {
-                logger.info("Extracting games from XML: {}", config.getGamesXmlPath());
-                List<Game> games = xmlExtractor.extractGames(config.getGamesXmlPath());
-                extractedData.setGames(games);
-                logger.info("Extracted {} games from XML", games.size());
-            } catch (Exception e) {
-                logger.error("Failed to extract games from XML: {}", config.getGamesXmlPath(), e);
-                throw new RuntimeException("Games extraction failed", e);
-            }
+            extractedData.setGames(extractGames(config.getGamesXmlPath()));
         }
         
         return extractedData;
     }
     
+    private List<Team> extractTeams(String teamsCsvPath) {
+        try {
+            logger.info("Extracting teams from CSV: {}", teamsCsvPath);
+            List<Team> teams = csvExtractor.extractTeams(teamsCsvPath);
+            logger.info("Extracted {} teams from CSV", teams.size());
+            return teams;
+        } catch (Exception e) {
+            logger.error("Failed to extract teams from CSV: {}", teamsCsvPath, e);
+            throw new RuntimeException("Teams extraction failed", e);
+        }
+    }
+    
+    private List<Player> extractPlayers(String playersJsonPath) {
+        try {
+            logger.info("Extracting players from JSON: {}", playersJsonPath);
+            List<Player> players = jsonExtractor.extractPlayers(playersJsonPath);
+            logger.info("Extracted {} players from JSON", players.size());
+            return players;
+        } catch (Exception e) {
+            logger.error("Failed to extract players from JSON: {}", playersJsonPath, e);
+            throw new RuntimeException("Players extraction failed", e);
+        }
+    }
+    
+    private List<Game> extractGames(String gamesXmlPath) {
+        try {
+            logger.info("Extracting games from XML: {}", gamesXmlPath);
+            List<Game> games = xmlExtractor.extractGames(gamesXmlPath);
+            logger.info("Extracted {} games from XML", games.size());
+            return games;
+        } catch (Exception e) {
+            logger.error("Failed to extract games from XML: {}", gamesXmlPath, e);
+            throw new RuntimeException("Games extraction failed", e);
+        }
+    }
+    
     private TransformedData transformAndValidateData(ExtractedData extractedData) {
         TransformedData transformedData = new TransformedData();
         
         // Transform and validate teams
         if (extractedData.getTeams() != null) {
-            logger.info("Transforming and validating {} teams", extractedData.getTeams().size());
-            List<Team> validatedTeams = dataValidator.validateTeams(extractedData.getTeams());
-            List<Team> cleanedTeams = dataCleaner.cleanTeams(validatedTeams);
-            List<Team> standardizedTeams = dataStandardizer.standardizeTeams(cleanedTeams);
-            transformedData.setTeams(standardizedTeams);
-            logger.info("Processed teams: {} -> {} valid", extractedData.getTeams().size(), standardizedTeams.size());
+            transformedData.setTeams(transformTeams(extractedData.getTeams()));
         }
         
         // Transform and validate players
         if (extractedData.getPlayers() != null) {
-            logger.info("Transforming and validating {} players", extractedData.getPlayers().size());
-            List<Player> validatedPlayers = dataValidator.validatePlayers(extractedData.getPlayers());
-            List<Player> cleanedPlayers = dataCleaner.cleanPlayers(validatedPlayers);
-            List<Player> standardizedPlayers = dataStandardizer.standardizePlayers(cleanedPlayers);
-            transformedData.setPlayers(standardizedPlayers);
-            logger.info("Processed players: {} -> {} valid", extractedData.getPlayers().size(), standardizedPlayers.size());
+            transformedData.setPlayers(transformPlayers(extractedData.getPlayers()));
         }
         
         // Transform and validate games
         if (extractedData.getGames() != null) {
-            logger.info("Transforming and validating {} games", extractedData.getGames().size());
-            List<Game> validatedGames = dataValidator.validateGames(extractedData.getGames());
+            transformedData.setGames(transformGames(extractedData.getGames()));
+        }
+        
+        return transformedData;
+    }
+    
+    private List<Team> transformTeams(List<Team> teams) {
+        logger.info("Transforming and validating {} teams", teams.size());
+        List<Team> transformedTeams;
+        if (fusedTransformation) {
+            transformedTeams = recordTransformer.transformTeams(teams);
+        } else {
+            List<Team> validatedTeams = dataValidator.validateTeams(teams);
+            List<Team> cleanedTeams = dataCleaner.cleanTeams(validatedTeams);
+            transformedTeams = dataStandardizer.standardizeTeams(cleanedTeams);
+        }
+        logger.info("Processed teams: {} -> {} valid", teams.size(), transformedTeams.size());
+        return transformedTeams;
+    }
+    
+    private List<Player> transformPlayers(List<Player> players) {
+        logger.info("Transforming and validating {} players", players.size());
+        List<Player> transformedPlayers;
+        if (fusedTransformation) {
+            transformedPlayers = recordTransformer.transformPlayers(players);
+        } else {
+            List<Player> validatedPlayers = dataValidator.validatePlayers(players);
+            List<Player> cleanedPlayers = dataCleaner.cleanPlayers(validatedPlayers);
+            transformedPlayers = dataStandardizer.standardizePlayers(cleanedPlayers);
+        }
+        logger.info("Processed players: {} -> {} valid", players.size(), transformedPlayers.size());
+        return transformedPlayers;
+    }
+    
+    private List<Game> transformGames(List<Game> games) {
+        logger.info("Transforming and validating {} games", games.size());
+        List<Game> transformedGames;
+        if (fusedTransformation) {
+            transformedGames = recordTransformer.transformGames(games);
+        } else {
+            List<Game> validatedGames = dataValidator.validateGames(games);
             List<Game> cleanedGames = dataCleaner.cleanGames(validatedGames);
-            List<Game> standardizedGames = dataStandardizer.standardizeGames(cleanedGames);
-            transformedData.setGames(standardizedGames);
-            logger.info("Processed games: {} -> {} valid", extractedData.getGames().size(), standardizedGames.size());
+            transformedGames = dataStandardizer.standardizeGames(cleanedGames);
         }
+        logger.info("Processed games: {} -> {} valid", games.size(), transformedGames.size());
+        return transformedGames;
+    }
+    
+    private TransformedData extractAndTransformConcurrently(PipelineConfig config, PipelineResult result) {
+        CompletableFuture<BranchResult<List<Team>>> teamsBranch =
+            runBranch("teams", config.getTeamsCsvPath(), this::extractTeams, this::transformTeams, branchExecutor);
+        CompletableFuture<BranchResult<List<Player>>> playersBranch =
+            runBranch("players", config.getPlayersJsonPath(), this::extractPlayers, this::transformPlayers, branchExecutor);
+        CompletableFuture<BranchResult<List<Game>>> gamesBranch =
+            runBranch("games", config.getGamesXmlPath(), this::extractGames, this::transformGames, branchExecutor);
+        
+        awaitBranches(teamsBranch, playersBranch, gamesBranch);
+        
+        BranchResult<List<Team>> teams = teamsBranch.join();
+        BranchResult<List<Player>> players = playersBranch.join();
+        BranchResult<List<Game>> games = gamesBranch.join();
+        
+        ExtractedData extractedData = new ExtractedData();
+        TransformedData transformedData = new TransformedData();
+        Map<String, Long> branchDurations = new LinkedHashMap<>();
+        
+        if (teams != null) {
+            extractedData.setTeams(teams.getExtracted());
+            transformedData.setTeams(teams.getTransformed());
+            branchDurations.put("teams", teams.getDurationMs());
+        }
+        if (players != null) {
+            extractedData.setPlayers(players.getExtracted());
+            transformedData.setPlayers(players.getTransformed());
+            branchDurations.put("players", players.getDurationMs());
+        }
+        if (games != null) {
+            extractedData.setGames(games.getExtracted());
+            transformedData.setGames(games.getTransformed());
+            branchDurations.put("games", games.getDurationMs());
+        }
+        
+        result.setExtractedData(extractedData);
+        result.setTransformedData(transformedData);
+        result.setBranchDurationsMs(branchDurations);
+        
+        logger.info("All pipeline branches completed, branch durations (ms): {}", branchDurations);
         
         return transformedData;
     }
     
+    private <B> CompletableFuture<BranchResult<B>> runBranch(String branchName, String sourcePath,
+                                                              Function<String, B> extractor,
+                                                              UnaryOperator<B> transformer, Executor executor) {
+        if (sourcePath == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        return CompletableFuture.supplyAsync(() -> {
+            long branchStart = System.nanoTime();
+            B extracted = extractor.apply(sourcePath);
+            B transformed = transformer.apply(extracted);
+            long durationMs = (System.nanoTime() - branchStart) / 1_000_000;
+            logger.info("Pipeline branch '{}' completed in {} ms", branchName, durationMs);
+            return new BranchResult<>(extracted, transformed, durationMs);
+        }, executor);
+    }
+    
+    // Waits for every branch, then rethrows the first failure as the branch threw it
+    private static void awaitBranches(CompletableFuture<?>... branches) {
+        try {
+            CompletableFuture.allOf(branches).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+    
     private LoadResult loadData(TransformedData transformedData) {
         return s3DataLoader.loadAllData(transformedData);
     }
     
+    @PreDestroy
+    public void shutdown() {
+        branchExecutor.shutdown();
+    }
+    
+    private static class BranchThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "etl-branch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+    
+    // What one branch extracted and transformed: a list of records or a columnar batch
+    private static class BranchResult<B> {
+        private final B extracted;
+        private final B transformed;
+        private final long durationMs;
+        
+        BranchResult(B extracted, B transformed, long durationMs) {
+            this.extracted = extracted;
+            this.transformed = transformed;
+            this.durationMs = durationMs;
+        }
+        
+        B getExtracted() { return extracted; }
+        B getTransformed() { return transformed; }
+        long getDurationMs() { return durationMs; }
+    }
+    
     // Data Transfer Objects
     public static class PipelineConfig {
         private String teamsCsvPath;
         private String playersJsonPath;
         private String gamesXmlPath;
+        private boolean concurrentExecution;
+        private boolean streamingExecution;
         
         public PipelineConfig() {}
         
@@ -210,6 +544,12 @@ public class EtlPipeline {
         
         public String getGamesXmlPath() { return gamesXmlPath; }
         public void setGamesXmlPath(String gamesXmlPath) { this.gamesXmlPath = gamesXmlPath; }
+        
+        public boolean isConcurrentExecution() { return concurrentExecution; }
+        public void setConcurrentExecution(boolean concurrentExecution) { this.concurrentExecution = concurrentExecution; }
+        
+        public boolean isStreamingExecution() { return streamingExecution; }
+        public void setStreamingExecution(boolean streamingExecution) { this.streamingExecution = streamingExecution; }
     }
     
     public static class ExtractedData {
@@ -248,8 +588,16 @@ public class EtlPipeline {
         private int teamsLoaded;
         private int playersLoaded;
         private int gamesLoaded;
+        // Records inserted, updated or deleted since the previous load; only set on DELTA loads
+        private int teamsChanged;
+        private int playersChanged;
+        private int gamesChanged;
         private boolean success;
         private String errorMessage;
+        // FULL when every record was written, DELTA when only changes since the last load were
+        private String loadType = "FULL";
+        // Partition paths written per entity; entities loaded unpartitioned have no entry
+        private final Map<String, List<String>> partitions = new ConcurrentHashMap<>();
         
         // Getters and setters
         public int getTeamsLoaded() { return teamsLoaded; }
@@ -261,11 +609,30 @@ public class EtlPipeline {
         public int getGamesLoaded() { return gamesLoaded; }
         public void setGamesLoaded(int gamesLoaded) { this.gamesLoaded = gamesLoaded; }
         
+        public int getTeamsChanged() { return teamsChanged; }
+        public void setTeamsChanged(int teamsChanged) { this.teamsChanged = teamsChanged; }
+        
+        public int getPlayersChanged() { return playersChanged; }
+        public void setPlayersChanged(int playersChanged) { this.playersChanged = playersChanged; }
+        
+        public int getGamesChanged() { return gamesChanged; }
+        public void setGamesChanged(int gamesChanged) { this.gamesChanged = gamesChanged; }
+        
         public boolean isSuccess() { return success; }
         public void setSuccess(boolean success) { this.success = success; }
         
         public String getErrorMessage() { return errorMessage; }
         public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+        
+        public String getLoadType() { return loadType; }
+        public void setLoadType(String loadType) { this.loadType = loadType; }
+        
+        public Map<String, List<String>> getPartitions() { return partitions; }
+        public void addPartitions(String entityName, List<String> partitionPaths) {
+            if (!partitionPaths.isEmpty()) {
+                partitions.put(entityName, partitionPaths);
+            }
+        }
     }
     
     public static class PipelineResult {
@@ -278,6 +645,8 @@ public class EtlPipeline {
         private TransformedData transformedData;
         private LoadResult loadResult;
         private QualityReport qualityReport;
+        private ReferentialIntegrityValidator.IntegrityResult referentialIntegrity;
+        private Map<String, Long> branchDurationsMs;
         
         public PipelineResult(String pipelineId, LocalDateTime startTime) {
             this.pipelineId = pipelineId;
@@ -314,5 +683,11 @@ public class EtlPipeline {
         
         public QualityReport getQualityReport() { return qualityReport; }
         public void setQualityReport(QualityReport qualityReport) { this.qualityReport = qualityReport; }
+        
+        public ReferentialIntegrityValidator.IntegrityResult getReferentialIntegrity() { return referentialIntegrity; }
+        public void setReferentialIntegrity(ReferentialIntegrityValidator.IntegrityResult referentialIntegrity) { this.referentialIntegrity = referentialIntegrity; }
+        
+        public Map<String, Long> getBranchDurationsMs() { return branchDurationsMs; }
+        public void setBranchDurationsMs(Map<String, Long> branchDurationsMs) { this.branchDurationsMs = branchDurationsMs; }
     }
 } 
\ No newline at end of file
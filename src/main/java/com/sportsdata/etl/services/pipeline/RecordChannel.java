@@ -0,0 +1,63 @@
+package com.sportsdata.etl.services.pipeline;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounded hand-off between two pipeline stages. Producers block once the channel holds
+ * {@code capacity} records, which caps memory and applies backpressure to faster stages.
+ * All channels in one run share a cancellation flag so a failing stage unblocks the others.
+ */
+public class RecordChannel<T> {
+    
+    private static final Object END_OF_STREAM = new Object();
+    private static final long POLL_INTERVAL_MS = 100;
+    
+    private final BlockingQueue<Object> queue;
+    private final AtomicBoolean cancelled;
+    
+    public RecordChannel(int capacity, AtomicBoolean cancelled) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.cancelled = cancelled;
+    }
+    
+    public void put(T record) throws InterruptedException {
+        offer(record);
+    }
+    
+    // Signals that no more records will be put
+    public void close() throws InterruptedException {
+        offer(END_OF_STREAM);
+    }
+    
+    /**
+     * Returns the next record, or null once the producer has closed the channel and every
+     * record has been taken.
+     */
+    @SuppressWarnings("unchecked")
+    public T take() throws InterruptedException {
+        while (true) {
+            Object item = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            if (item == END_OF_STREAM) {
+                return null;
+            }
+            if (item != null) {
+                return (T) item;
+            }
+            if (cancelled.get()) {
+                throw new CancellationException("Pipeline run was cancelled");
+            }
+        }
+    }
+    
+    private void offer(Object item) throws InterruptedException {
+        while (!queue.offer(item, POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+            if (cancelled.get()) {
+                throw new CancellationException("Pipeline run was cancelled");
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.sportsdata.etl.services.pipeline;
+
+import com.sportsdata.etl.services.extractors.CsvDataExtractor;
+import com.sportsdata.etl.services.extractors.JsonApiExtractor;
+import com.sportsdata.etl.services.extractors.XmlFeedExtractor;
+import com.sportsdata.etl.services.loaders.S3DataLoader;
+import com.sportsdata.etl.services.quality.DataProfiler;
+import com.sportsdata.etl.services.transformers.RecordTransformer;
+import com.sportsdata.etl.services.transformers.ReferentialIntegrityValidator;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Record-at-a-time pipeline engine. For each entity type, an extractor stream feeds a bounded
+ * channel, the fused {@link RecordTransformer} stage drains it into a second bounded channel,
+ * and an {@link S3DataLoader.EntityWriter} consumes that one. Records flow to the loader as soon
+ * as they are parsed, and heap use is bounded by the channel capacity instead of the dataset size.
+ */
+@Service
+public class StreamingEtlPipeline {
+    
+    private static final Logger logger = LoggerFactory.getLogger(StreamingEtlPipeline.class);
+    
+    @Autowired
+    private CsvDataExtractor csvExtractor;
+    
+    @Autowired
+    private JsonApiExtractor jsonExtractor;
+    
+    @Autowired
+    private XmlFeedExtractor xmlExtractor;
+    
+    @Autowired
+    private RecordTransformer recordTransformer;
+    
+    @Autowired
+    private S3DataLoader s3DataLoader;
+    
+    @Value("${etl.pipeline.queue-capacity:1000}")
+    private int queueCapacity;
+    
+    private final ExecutorService stageExecutor = Executors.newCachedThreadPool(new StageThreadFactory());
+    
+    // Accepted records are profiled and reference-checked as they pass the transform stage
+    public EtlPipeline.LoadResult execute(EtlPipeline.PipelineConfig config, DataProfiler profiler,
+                                          ReferentialIntegrityValidator.ReferenceCheck references) {
+        String timestamp = s3DataLoader.newLoadTimestamp();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        EtlPipeline.LoadResult result = new EtlPipeline.LoadResult();
+        
+        logger.info("Starting streaming pipeline run with queue capacity {}", queueCapacity);
+        
+        String teamsPath = config.getTeamsCsvPath();
+        String playersPath = config.getPlayersJsonPath();
+        String gamesPath = config.getGamesXmlPath();
+        
+        CompletableFuture<Integer> teamsFlow = teamsPath == null ? CompletableFuture.completedFuture(0)
+            : runEntityFlow("teams", () -> csvExtractor.streamTeams(teamsPath),
+                recordTransformer.newTeamStage(), team -> {
+                    profiler.addTeam(team);
+                    references.addTeam(team);
+                }, timestamp, result, cancelled);
+        CompletableFuture<Integer> playersFlow = playersPath == null ? CompletableFuture.completedFuture(0)
+            : runEntityFlow("players", () -> jsonExtractor.streamPlayers(playersPath),
+                recordTransformer.newPlayerStage(), player -> {
+                    profiler.addPlayer(player);
+                    references.addPlayer(player);
+                }, timestamp, result, cancelled);
+        CompletableFuture<Integer> gamesFlow = gamesPath == null ? CompletableFuture.completedFuture(0)
+            : runEntityFlow("games", () -> xmlExtractor.streamGames(gamesPath),
+                recordTransformer.newGameStage(), game -> {
+                    profiler.addGame(game);
+                    references.addGame(game);
+                }, timestamp, result, cancelled);
+        
+        try {
+            CompletableFuture.allOf(teamsFlow, playersFlow, gamesFlow).join();
+        } catch (CompletionException e) {
+            cancelled.set(true);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            logger.error("Streaming pipeline run failed", cause);
+            throw new RuntimeException("Streaming pipeline failed: " + cause.getMessage(), cause);
+        }
+        
+        result.setTeamsLoaded(teamsFlow.join());
+        result.setPlayersLoaded(playersFlow.join());
+        result.setGamesLoaded(gamesFlow.join());
+        
+        // Metadata is written only after every entity object has been uploaded
+        s3DataLoader.writeMetadata(result, timestamp);
+        result.setSuccess(true);
+        
+        logger.info("Streaming pipeline run completed: {} teams, {} players, {} games loaded",
+            result.getTeamsLoaded(), result.getPlayersLoaded(), result.getGamesLoaded());
+        
+        return result;
+    }
+    
+    private <T> CompletableFuture<Integer> runEntityFlow(String entityName, Supplier<Stream<T>> source,
+                                                         RecordTransformer.RecordStage<T> stage, Consumer<T> profile,
+                                                         String timestamp, EtlPipeline.LoadResult result,
+                                                         AtomicBoolean cancelled) {
+        RecordChannel<T> extracted = new RecordChannel<>(queueCapacity, cancelled);
+        RecordChannel<T> transformed = new RecordChannel<>(queueCapacity, cancelled);
+        
+        // Extract: parse records and hand them off as soon as they are read
+        CompletableFuture<Integer> extractStage = runStage(cancelled, () -> {
+            int count = 0;
+            try (Stream<T> records = source.get()) {
+                Iterator<T> iterator = records.iterator();
+                while (iterator.hasNext()) {
+                    extracted.put(iterator.next());
+                    count++;
+                }
+            }
+            extracted.close();
+            logger.info("Streamed {} {} from source", count, entityName);
+            return count;
+        });
+        
+        // Transform: validate, clean and standardize each record, profiling the accepted ones
+        CompletableFuture<Integer> transformStage = runStage(cancelled, () -> {
+            T record;
+            while ((record = extracted.take()) != null) {
+                T output = stage.apply(record);
+                if (output != null) {
+                    profile.accept(output);
+                    transformed.put(output);
+                }
+            }
+            transformed.close();
+            stage.logSummary();
+            return stage.getAcceptedCount();
+        });
+        
+        // Load: serialize each record into the entity's S3 object
+        CompletableFuture<Integer> loadStage = runStage(cancelled, () -> {
+            S3DataLoader.EntityWriter writer = s3DataLoader.openEntityWriter(entityName, timestamp);
+            try {
+                T record;
+                while ((record = transformed.take()) != null) {
+                    writer.write(record);
+                }
+                writer.close();
+                result.addPartitions(entityName, writer.getPartitions());
+                return writer.getRecordCount();
+            } catch (Exception e) {
+                writer.abort();
+                throw e;
+            }
+        });
+        
+        return CompletableFuture.allOf(extractStage, transformStage, loadStage)
+            .thenApply(ignored -> loadStage.join());
+    }
+    
+    private <V> CompletableFuture<V> runStage(AtomicBoolean cancelled, Callable<V> stage) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return stage.call();
+            } catch (Exception e) {
+                // Unblock the other stages of this run before failing
+                cancelled.set(true);
+                throw new CompletionException(e);
+            }
+        }, stageExecutor);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        stageExecutor.shutdown();
+    }
+    
+    private static class StageThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadCount = new AtomicInteger();
+        
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "etl-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
\ No newline at end of file
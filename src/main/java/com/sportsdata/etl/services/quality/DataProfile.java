@@ -0,0 +1,53 @@
+package com.sportsdata.etl.services.quality;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Field-level profile of one pipeline run, produced by {@link DataProfiler}. Field keys have the
+ * form {@code entity.field}, e.g. {@code players.teamId}.
+ */
+public class DataProfile {
+    
+    private Map<String, Double> nullRates;
+    private Map<String, Long> distinctEstimates;
+    private long orphanPlayers;
+    private long orphanGames;
+    private Map<String, Long> scoreDistribution;
+    private Integer minScore;
+    private Integer maxScore;
+    private Double averageScore;
+    private LocalDateTime latestGameDate;
+    private double freshness;
+    
+    // Getters and setters
+    public Map<String, Double> getNullRates() { return nullRates; }
+    public void setNullRates(Map<String, Double> nullRates) { this.nullRates = nullRates; }
+    
+    public Map<String, Long> getDistinctEstimates() { return distinctEstimates; }
+    public void setDistinctEstimates(Map<String, Long> distinctEstimates) { this.distinctEstimates = distinctEstimates; }
+    
+    public long getOrphanPlayers() { return orphanPlayers; }
+    public void setOrphanPlayers(long orphanPlayers) { this.orphanPlayers = orphanPlayers; }
+    
+    public long getOrphanGames() { return orphanGames; }
+    public void setOrphanGames(long orphanGames) { this.orphanGames = orphanGames; }
+    
+    public Map<String, Long> getScoreDistribution() { return scoreDistribution; }
+    public void setScoreDistribution(Map<String, Long> scoreDistribution) { this.scoreDistribution = scoreDistribution; }
+    
+    public Integer getMinScore() { return minScore; }
+    public void setMinScore(Integer minScore) { this.minScore = minScore; }
+    
+    public Integer getMaxScore() { return maxScore; }
+    public void setMaxScore(Integer maxScore) { this.maxScore = maxScore; }
+    
+    public Double getAverageScore() { return averageScore; }
+    public void setAverageScore(Double averageScore) { this.averageScore = averageScore; }
+    
+    public LocalDateTime getLatestGameDate() { return latestGameDate; }
+    public void setLatestGameDate(LocalDateTime latestGameDate) { this.latestGameDate = latestGameDate; }
+    
+    public double getFreshness() { return freshness; }
+    public void setFreshness(double freshness) { this.freshness = freshness; }
+}
\ No newline at end of file
@@ -0,0 +1,279 @@
+package com.sportsdata.etl.services.quality;
+
+import com.sportsdata.etl.models.CompactGame;
+import com.sportsdata.etl.models.GameBatch;
+import com.sportsdata.etl.models.GameView;
+import com.sportsdata.etl.models.PlayerBatch;
+import com.sportsdata.etl.models.PlayerView;
+import com.sportsdata.etl.models.Team;
+import com.sportsdata.etl.services.pipeline.EtlPipeline;
+import com.sportsdata.etl.services.transformers.ReferentialIntegrityValidator;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a {@link DataProfile} in a single pass over the records of a run. Memory depends only
+ * on the number of fields, never on the record count: distinct values go into fixed-size
+ * HyperLogLog sketches and scores into fixed histogram buckets. The entities can be profiled in
+ * any order, each from its own thread. Orphan counts are not recomputed here; they are taken
+ * from the run's {@link ReferentialIntegrityValidator.IntegrityResult} in {@link #finish}.
+ */
+public class DataProfiler {
+    
+    private static final int HLL_PRECISION = 12;
+    private static final int SCORE_BUCKET_WIDTH = 10;
+    private static final int SCORE_BUCKET_COUNT = 20;
+    
+    private final Duration freshnessWindow;
+    
+    private final EntityStats teamStats = new EntityStats("teams", "teamId", "name", "city", "league", "founded", "venue");
+    private final EntityStats playerStats = new EntityStats("players", "playerId", "name", "teamId", "position", "age", "statistics");
+    private final EntityStats gameStats = new EntityStats("games", "gameId", "homeTeamId", "awayTeamId", "date", "homeScore", "awayScore", "status");
+    
+    private final long[] scoreBuckets = new long[SCORE_BUCKET_COUNT + 1];
+    private long scoreCount;
+    private long scoreTotal;
+    private int minScore = Integer.MAX_VALUE;
+    private int maxScore = Integer.MIN_VALUE;
+    private LocalDateTime latestGameDate;
+    
+    public DataProfiler(Duration freshnessWindow) {
+        this.freshnessWindow = freshnessWindow;
+    }
+    
+    public void profile(EtlPipeline.TransformedData transformedData) {
+        if (transformedData.getTeams() != null) {
+            transformedData.getTeams().forEach(this::addTeam);
+        }
+        if (transformedData.getPlayers() != null) {
+            transformedData.getPlayers().forEach(this::addPlayer);
+        }
+        if (transformedData.getGames() != null) {
+            transformedData.getGames().forEach(this::addGame);
+        }
+    }
+    
+    public void addTeam(Team team) {
+        teamStats.startRecord();
+        teamStats.observe("teamId", team.getTeamId());
+        teamStats.observe("name", team.getName());
+        teamStats.observe("city", team.getCity());
+        teamStats.observe("league", team.getLeague());
+        teamStats.observe("founded", team.getFounded());
+        teamStats.observe("venue", team.getVenue());
+    }
+    
+    public void addPlayer(PlayerView player) {
+        playerStats.startRecord();
+        playerStats.observe("playerId", player.getPlayerId());
+        playerStats.observe("name", player.getName());
+        playerStats.observe("teamId", player.getTeamId());
+        playerStats.observe("position", player.getPosition());
+        playerStats.observeInt("age", player.getAge() != null ? player.getAge() : PlayerView.NO_VALUE);
+        // Hashed from the primitive counters, so compact players are profiled without boxing
+        playerStats.observeHash("statistics", player.hasStatistics(),
+            statisticsHash(player.gamesPlayed(), player.points(), player.assists()));
+    }
+    
+    // Column-wise form of addPlayer; the int columns are hashed as they are, like in addPlayer
+    public void addPlayers(PlayerBatch players) {
+        for (int i = 0; i < players.size(); i++) {
+            playerStats.startRecord();
+            playerStats.observe("playerId", players.playerIds()[i]);
+            playerStats.observe("name", players.names()[i]);
+            playerStats.observe("teamId", players.teamIds()[i]);
+            playerStats.observe("position", players.positions()[i]);
+            playerStats.observeInt("age", players.ages()[i]);
+            playerStats.observeHash("statistics", players.hasStatistics()[i],
+                statisticsHash(players.gamesPlayed()[i], players.points()[i], players.assists()[i]));
+        }
+    }
+    
+    public void addGame(GameView game) {
+        gameStats.startRecord();
+        gameStats.observe("gameId", game.getGameId());
+        gameStats.observe("homeTeamId", game.getHomeTeamId());
+        gameStats.observe("awayTeamId", game.getAwayTeamId());
+        LocalDateTime date = game.getDate();
+        gameStats.observeHash("date", date != null, date != null ? date.toEpochSecond(ZoneOffset.UTC) : 0);
+        gameStats.observeInt("homeScore", game.getHomeScore() != null ? game.getHomeScore() : CompactGame.NO_SCORE);
+        gameStats.observeInt("awayScore", game.getAwayScore() != null ? game.getAwayScore() : CompactGame.NO_SCORE);
+        gameStats.observe("status", game.getStatus());
+        
+        if (game.getHomeScore() != null) {
+            addScore(game.getHomeScore());
+        }
+        if (game.getAwayScore() != null) {
+            addScore(game.getAwayScore());
+        }
+        
+        if (date != null && (latestGameDate == null || date.isAfter(latestGameDate))) {
+            latestGameDate = date;
+        }
+    }
+    
+    // Column-wise form of addGame; dates stay epoch seconds until the latest one is converted
+    public void addGames(GameBatch games) {
+        long latestDate = latestGameDate != null ? latestGameDate.toEpochSecond(ZoneOffset.UTC) : CompactGame.NO_DATE;
+        for (int i = 0; i < games.size(); i++) {
+            long date = games.dates()[i];
+            int homeScore = games.homeScores()[i];
+            int awayScore = games.awayScores()[i];
+            
+            gameStats.startRecord();
+            gameStats.observe("gameId", games.gameIds()[i]);
+            gameStats.observe("homeTeamId", games.homeTeamIds()[i]);
+            gameStats.observe("awayTeamId", games.awayTeamIds()[i]);
+            gameStats.observeHash("date", date != CompactGame.NO_DATE, date);
+            gameStats.observeInt("homeScore", homeScore);
+            gameStats.observeInt("awayScore", awayScore);
+            gameStats.observe("status", games.statuses()[i]);
+            
+            if (homeScore != CompactGame.NO_SCORE) {
+                addScore(homeScore);
+            }
+            if (awayScore != CompactGame.NO_SCORE) {
+                addScore(awayScore);
+            }
+            latestDate = Math.max(latestDate, date);
+        }
+        if (latestDate != CompactGame.NO_DATE) {
+            latestGameDate = LocalDateTime.ofEpochSecond(latestDate, 0, ZoneOffset.UTC);
+        }
+    }
+    
+    public DataProfile finish(LocalDateTime now) {
+        return finish(now, null);
+    }
+    
+    // Orphan counts stay at zero when the run has no integrity result
+    public DataProfile finish(LocalDateTime now, ReferentialIntegrityValidator.IntegrityResult integrity) {
+        DataProfile profile = new DataProfile();
+        
+        Map<String, Double> nullRates = new LinkedHashMap<>();
+        Map<String, Long> distinctEstimates = new LinkedHashMap<>();
+        for (EntityStats stats : List.of(teamStats, playerStats, gameStats)) {
+            stats.collect(nullRates, distinctEstimates);
+        }
+        profile.setNullRates(nullRates);
+        profile.setDistinctEstimates(distinctEstimates);
+        
+        if (integrity != null) {
+            profile.setOrphanPlayers(integrity.getOrphanPlayers());
+            profile.setOrphanGames(integrity.getOrphanGames());
+        }
+        
+        Map<String, Long> scoreDistribution = new LinkedHashMap<>();
+        for (int bucket = 0; bucket < scoreBuckets.length; bucket++) {
+            if (scoreBuckets[bucket] > 0) {
+                scoreDistribution.put(scoreBucketLabel(bucket), scoreBuckets[bucket]);
+            }
+        }
+        profile.setScoreDistribution(scoreDistribution);
+        if (scoreCount > 0) {
+            profile.setMinScore(minScore);
+            profile.setMaxScore(maxScore);
+            profile.setAverageScore((double) scoreTotal / scoreCount);
+        }
+        
+        profile.setLatestGameDate(latestGameDate);
+        profile.setFreshness(freshness(now));
+        return profile;
+    }
+    
+    private void addScore(int score) {
+        int bucket = Math.min(Math.max(score, 0) / SCORE_BUCKET_WIDTH, SCORE_BUCKET_COUNT);
+        scoreBuckets[bucket]++;
+        scoreCount++;
+        scoreTotal += score;
+        minScore = Math.min(minScore, score);
+        maxScore = Math.max(maxScore, score);
+    }
+    
+    // Packs the three counters; missing ones keep the NO_VALUE marker, so they hash apart from zero
+    private static long statisticsHash(int gamesPlayed, int points, int assists) {
+        return (((long) gamesPlayed * 31 + points) << 32) ^ (assists & 0xffffffffL);
+    }
+    
+    private static String scoreBucketLabel(int bucket) {
+        int lower = bucket * SCORE_BUCKET_WIDTH;
+        return bucket == SCORE_BUCKET_COUNT ? lower + "+" : lower + "-" + (lower + SCORE_BUCKET_WIDTH - 1);
+    }
+    
+    // 1.0 while the latest game is inside the window, then decays with the age of the data.
+    // A zero or negative window counts anything older than now as stale.
+    private double freshness(LocalDateTime now) {
+        if (latestGameDate == null) {
+            return 0.0;
+        }
+        Duration age = Duration.between(latestGameDate, now);
+        if (age.compareTo(freshnessWindow) <= 0) {
+            return 1.0;
+        }
+        if (freshnessWindow.isZero() || freshnessWindow.isNegative()) {
+            return 0.0;
+        }
+        return (double) freshnessWindow.toSeconds() / Math.max(age.toSeconds(), 1);
+    }
+    
+    private static class EntityStats {
+        private final String entityName;
+        private final Map<String, FieldStats> fields = new LinkedHashMap<>();
+        private long recordCount;
+        
+        EntityStats(String entityName, String... fieldNames) {
+            this.entityName = entityName;
+            for (String fieldName : fieldNames) {
+                fields.put(fieldName, new FieldStats());
+            }
+        }
+        
+        void startRecord() {
+            recordCount++;
+        }
+        
+        void observe(String fieldName, Object value) {
+            FieldStats stats = fields.get(fieldName);
+            if (value == null || (value instanceof String && ((String) value).isBlank())) {
+                stats.nullCount++;
+            } else {
+                stats.distinct.add(value.toString());
+            }
+        }
+        
+        // Ints use the shared Integer.MIN_VALUE marker (PlayerView.NO_VALUE, CompactGame.NO_SCORE) for null
+        void observeInt(String fieldName, int value) {
+            observeHash(fieldName, value != Integer.MIN_VALUE, value);
+        }
+        
+        void observeHash(String fieldName, boolean present, long valueHash) {
+            FieldStats stats = fields.get(fieldName);
+            if (present) {
+                stats.distinct.addHash(valueHash);
+            } else {
+                stats.nullCount++;
+            }
+        }
+        
+        void collect(Map<String, Double> nullRates, Map<String, Long> distinctEstimates) {
+            if (recordCount == 0) {
+                return;
+            }
+            for (Map.Entry<String, FieldStats> field : fields.entrySet()) {
+                String key = entityName + "." + field.getKey();
+                nullRates.put(key, (double) field.getValue().nullCount / recordCount);
+                distinctEstimates.put(key, field.getValue().distinct.estimate());
+            }
+        }
+    }
+    
+    private static class FieldStats {
+        private final HyperLogLog distinct = new HyperLogLog(HLL_PRECISION);
+        private long nullCount;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.sportsdata.etl.services.quality;
+
+import com.sportsdata.etl.utils.Hashing;
+
+/**
+ * Fixed-size distinct-count sketch. Memory is {@code 2^precision} bytes regardless of how many
+ * values are added; the standard error is about {@code 1.04 / sqrt(2^precision)}.
+ */
+public class HyperLogLog {
+    
+    private final int precision;
+    private final byte[] registers;
+    
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("Precision must be between 4 and 16: " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+    
+    public void add(String value) {
+        addHash(Hashing.fnv1a64(value));
+    }
+    
+    // For values that are not strings; the hash is mixed again, so a simple combination will do
+    public void addHash(long valueHash) {
+        long hash = mix(valueHash);
+        int index = (int) (hash >>> (64 - precision));
+        // The guard bit caps the rank when every remaining hash bit is zero
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+    
+    public long estimate() {
+        int registerCount = registers.length;
+        double sum = 0;
+        int zeroRegisters = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeroRegisters++;
+            }
+        }
+        
+        double alpha = 0.7213 / (1 + 1.079 / registerCount);
+        double estimate = alpha * registerCount * registerCount / sum;
+        
+        // Linear counting is more accurate while many registers are still empty
+        if (estimate <= 2.5 * registerCount && zeroRegisters > 0) {
+            estimate = registerCount * Math.log((double) registerCount / zeroRegisters);
+        }
+        return Math.round(estimate);
+    }
+    
+    // MurmurHash3 finalizer, which spreads FNV-1a's weak high bits
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
\ No newline at end of file
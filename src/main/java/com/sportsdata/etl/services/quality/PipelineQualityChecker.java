@@ -0,0 +1,86 @@
+package com.sportsdata.etl.services.quality;
+
+import com.sportsdata.etl.services.pipeline.EtlPipeline;
+import com.sportsdata.etl.services.transformers.ReferentialIntegrityValidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Scores a pipeline run from the data it already holds in memory, so the quality phase needs
+ * no S3 round trips. Counts come from the transformed data when the run kept it, and from the
+ * load result otherwise (streaming runs). Runs that provide a {@link DataProfile} are also
+ * scored on field completeness, team references and game date freshness.
+ */
+@Service
+public class PipelineQualityChecker {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PipelineQualityChecker.class);
+    
+    @Value("${etl.quality.freshness-window-days:7}")
+    private int freshnessWindowDays;
+    
+    public DataProfiler newProfiler() {
+        return new DataProfiler(Duration.ofDays(freshnessWindowDays));
+    }
+    
+    public QualityReport generateQualityReport(EtlPipeline.TransformedData transformedData,
+                                               EtlPipeline.LoadResult loadResult) {
+        return generateQualityReport(transformedData, loadResult, (ReferentialIntegrityValidator.IntegrityResult) null);
+    }
+    
+    // Orphan counts come from the run's referential integrity check rather than a second pass
+    public QualityReport generateQualityReport(EtlPipeline.TransformedData transformedData,
+                                               EtlPipeline.LoadResult loadResult,
+                                               ReferentialIntegrityValidator.IntegrityResult integrity) {
+        DataProfile profile = null;
+        if (transformedData != null) {
+            DataProfiler profiler = newProfiler();
+            profiler.profile(transformedData);
+            profile = profiler.finish(LocalDateTime.now(), integrity);
+        }
+        return generateQualityReport(transformedData, loadResult, profile);
+    }
+    
+    public QualityReport generateQualityReport(EtlPipeline.TransformedData transformedData,
+                                               EtlPipeline.LoadResult loadResult, DataProfile profile) {
+        QualityReport report = new QualityReport();
+        report.setGeneratedAt(LocalDateTime.now());
+        
+        if (transformedData != null) {
+            // Delta loads only count changed records, so the full run comes from the transformed data
+            report.setTeamCount(sizeOf(transformedData.getTeams()));
+            report.setPlayerCount(sizeOf(transformedData.getPlayers()));
+            report.setGameCount(sizeOf(transformedData.getGames()));
+        } else if (loadResult != null) {
+            report.setTeamCount(loadResult.getTeamsLoaded());
+            report.setPlayerCount(loadResult.getPlayersLoaded());
+            report.setGameCount(loadResult.getGamesLoaded());
+        }
+        
+        if (profile != null) {
+            report.setDataProfile(profile);
+            report.setOrphanPlayers(profile.getOrphanPlayers());
+            report.setOrphanGames(profile.getOrphanGames());
+            QualityScoring.score(report, profile);
+        } else {
+            // Without a profile there are no game dates, so data produced by this run counts as fresh
+            QualityScoring.score(report, 1.0);
+        }
+        
+        logger.info("Pipeline data quality report generated: {} teams, {} players, {} games, Overall Score: {} ({})",
+                report.getTeamCount(), report.getPlayerCount(), report.getGameCount(),
+                String.format("%.2f", report.getOverallQualityScore()), report.getQualityStatus());
+        
+        return report;
+    }
+    
+    private static int sizeOf(List<?> records) {
+        return records == null ? 0 : records.size();
+    }
+}
\ No newline at end of file
@@ -12,6 +12,11 @@ public class QualityReport {
     private Map<String, Double> qualityMetrics;
     private double overallQualityScore;
     private String qualityStatus;
+    // Players and games whose team id does not match any extracted team
+    private long orphanPlayers;
+    private long orphanGames;
+    // Field-level profile of the run; only set for reports computed during a pipeline run
+    private DataProfile dataProfile;
     
     public QualityReport() {}
     
@@ -83,6 +88,30 @@ public class QualityReport {
         this.qualityStatus = qualityStatus;
     }
     
+    public long getOrphanPlayers() {
+        return orphanPlayers;
+    }
+    
+    public void setOrphanPlayers(long orphanPlayers) {
+        this.orphanPlayers = orphanPlayers;
+    }
+    
+    public long getOrphanGames() {
+        return orphanGames;
+    }
+    
+    public void setOrphanGames(long orphanGames) {
+        this.orphanGames = orphanGames;
+    }
+    
+    public DataProfile getDataProfile() {
+        return dataProfile;
+    }
+    
+    public void setDataProfile(DataProfile dataProfile) {
+        this.dataProfile = dataProfile;
+    }
+    
     public long getTotalRecords() {
         return teamCount + playerCount + gameCount;
     }
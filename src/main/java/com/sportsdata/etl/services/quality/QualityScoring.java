@@ -0,0 +1,84 @@
+package com.sportsdata.etl.services.quality;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Quality metrics and status derived from entity counts, shared by the in-run and S3-based checkers
+final class QualityScoring {
+    
+    private QualityScoring() {}
+    
+    // Fills in the metrics, overall score and status of a report whose counts are already set
+    static void score(QualityReport report, double dataFreshness) {
+        score(report, dataFreshness, Map.of());
+    }
+    
+    // Adds field completeness and team reference integrity from the profile to the count-based metrics
+    static void score(QualityReport report, DataProfile profile) {
+        Map<String, Double> profileMetrics = new HashMap<>();
+        
+        double averageNullRate = profile.getNullRates().values().stream()
+                .mapToDouble(Double::doubleValue)
+                .average()
+                .orElse(0.0);
+        profileMetrics.put("completeness", 1.0 - averageNullRate);
+        
+        long referencingRecords = report.getPlayerCount() + report.getGameCount();
+        long orphans = profile.getOrphanPlayers() + profile.getOrphanGames();
+        profileMetrics.put("referential_integrity",
+            referencingRecords > 0 ? 1.0 - (double) orphans / referencingRecords : 1.0);
+        
+        score(report, profile.getFreshness(), profileMetrics);
+    }
+    
+    private static void score(QualityReport report, double dataFreshness, Map<String, Double> additionalMetrics) {
+        Map<String, Double> qualityMetrics = calculateQualityMetrics(report, dataFreshness);
+        qualityMetrics.putAll(additionalMetrics);
+        report.setQualityMetrics(qualityMetrics);
+        
+        // Overall quality score (average of all metrics)
+        double overallScore = qualityMetrics.values().stream()
+                .mapToDouble(Double::doubleValue)
+                .average()
+                .orElse(0.0);
+        
+        report.setOverallQualityScore(overallScore);
+        
+        // Determine quality status
+        if (overallScore >= 0.9) {
+            report.setQualityStatus("EXCELLENT");
+        } else if (overallScore >= 0.8) {
+            report.setQualityStatus("GOOD");
+        } else if (overallScore >= 0.7) {
+            report.setQualityStatus("FAIR");
+        } else {
+            report.setQualityStatus("POOR");
+        }
+    }
+    
+    private static Map<String, Double> calculateQualityMetrics(QualityReport report, double dataFreshness) {
+        Map<String, Double> metrics = new HashMap<>();
+        
+        // Data completeness metrics - we assume data is complete if it exists
+        metrics.put("data_availability", report.getTeamCount() > 0 &&
+                                       report.getPlayerCount() > 0 &&
+                                       report.getGameCount() > 0 ? 1.0 : 0.0);
+        
+        // Data distribution metrics
+        if (report.getTeamCount() > 0) {
+            double playersPerTeam = (double) report.getPlayerCount() / report.getTeamCount();
+            double gamesPerTeam = (double) report.getGameCount() / report.getTeamCount();
+            
+            // Reasonable ratios (adjustable based on business logic)
+            metrics.put("players_per_team_ratio", Math.min(playersPerTeam / 15.0, 1.0)); // Assume ~15 players per team is good
+            metrics.put("games_per_team_ratio", Math.min(gamesPerTeam / 50.0, 1.0)); // Assume ~50 games per team is good
+        } else {
+            metrics.put("players_per_team_ratio", 0.0);
+            metrics.put("games_per_team_ratio", 0.0);
+        }
+        
+        metrics.put("data_freshness", dataFreshness);
+        
+        return metrics;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.sportsdata.etl.services.quality;
+
+import com.sportsdata.etl.services.loaders.LoadCompletedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves the S3 quality report and connection status from a cached snapshot. Concurrent callers
+ * share a single in-flight refresh, and a snapshot older than the max age is returned as is while
+ * a background refresh replaces it, so polling latency does not depend on S3.
+ */
+@Service
+public class QualitySnapshotService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(QualitySnapshotService.class);
+    
+    @Autowired
+    private S3QualityChecker qualityChecker;
+    
+    @Value("${etl.quality.snapshot.max-age-seconds:30}")
+    private long maxAgeSeconds;
+    
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "quality-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private final AtomicReference<CompletableFuture<Snapshot>> inFlightRefresh = new AtomicReference<>();
+    private volatile Snapshot snapshot;
+    
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // Nothing to serve yet, so the first callers wait on one shared computation
+            return refresh().join();
+        }
+        if (current.isOlderThan(maxAgeSeconds)) {
+            refresh();
+        }
+        return current;
+    }
+    
+    // Keeps the snapshot warm between polls once the endpoints have been used
+    @Scheduled(fixedDelayString = "${etl.quality.snapshot.refresh-interval-ms:30000}")
+    public void refreshInBackground() {
+        if (snapshot != null) {
+            refresh();
+        }
+    }
+    
+    // Ordered after S3QualityChecker's listener has cached the completed run
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onLoadCompleted(LoadCompletedEvent event) {
+        if (snapshot != null) {
+            refresh();
+        }
+    }
+    
+    // Starts a refresh unless one is already running, and returns the in-flight computation
+    CompletableFuture<Snapshot> refresh() {
+        while (true) {
+            CompletableFuture<Snapshot> running = inFlightRefresh.get();
+            if (running != null) {
+                return running;
+            }
+            
+            CompletableFuture<Snapshot> refresh = new CompletableFuture<>();
+            if (inFlightRefresh.compareAndSet(null, refresh)) {
+                refreshExecutor.execute(() -> computeSnapshot(refresh));
+                return refresh;
+            }
+        }
+    }
+    
+    private void computeSnapshot(CompletableFuture<Snapshot> refresh) {
+        try {
+            long startTime = System.currentTimeMillis();
+            Snapshot computed = new Snapshot(qualityChecker.generateQualityReport(), qualityChecker.checkS3Connection());
+            snapshot = computed;
+            logger.debug("Quality snapshot refreshed in {} ms", System.currentTimeMillis() - startTime);
+            inFlightRefresh.set(null);
+            refresh.complete(computed);
+        } catch (Throwable e) {
+            logger.error("Quality snapshot refresh failed", e);
+            inFlightRefresh.set(null);
+            refresh.completeExceptionally(e);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+    
+    public static class Snapshot {
+        private final QualityReport qualityReport;
+        private final boolean s3Connected;
+        private final LocalDateTime refreshedAt = LocalDateTime.now();
+        private final long refreshedAtNanos = System.nanoTime();
+        
+        Snapshot(QualityReport qualityReport, boolean s3Connected) {
+            this.qualityReport = qualityReport;
+            this.s3Connected = s3Connected;
+        }
+        
+        public QualityReport getQualityReport() { return qualityReport; }
+        public boolean isS3Connected() { return s3Connected; }
+        public LocalDateTime getRefreshedAt() { return refreshedAt; }
+        
+        boolean isOlderThan(long seconds) {
+            return System.nanoTime() - refreshedAtNanos >= TimeUnit.SECONDS.toNanos(seconds);
+        }
+    }
+}
\ No newline at end of file
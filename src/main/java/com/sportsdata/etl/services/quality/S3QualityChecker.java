@@ -2,46 +2,77 @@ package com.sportsdata.etl.services.quality;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sportsdata.etl.services.loaders.LoadCompletedEvent;
+import com.sportsdata.etl.services.loaders.S3ClientFactory;
 import com.sportsdata.etl.services.loaders.S3DataLoader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
-import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 @Service
 public class S3QualityChecker {
     
     private static final Logger logger = LoggerFactory.getLogger(S3QualityChecker.class);
+    private static final Pattern RUN_PREFIX_PATTERN = Pattern.compile("\\d{4}(-\\d{2}){5}/");
     
-    private final S3Client s3Client;
     private final ObjectMapper objectMapper;
+    private S3Client s3Client;
     
     @Value("${etl.s3.bucket-name}")
     private String bucketName;
     
+    @Value("${etl.s3.region:us-east-1}")
+    private String region;
+    
+    // Same endpoint the loader writes to, so the _latest pointer is read from where it was published
+    @Value("${etl.s3.endpoint:}")
+    private String endpointOverride;
+    
     @Value("${etl.s3.prefix:sports-data}")
     private String keyPrefix;
     
+    @Value("${etl.quality.latest-run-cache-ttl-seconds:60}")
+    private long latestRunCacheTtlSeconds;
+    
+    // Latest run found by the last lookup; replaced directly when this process completes a load
+    private volatile LatestRun cachedLatestRun;
+    
     public S3QualityChecker() {
-        this.s3Client = S3Client.builder()
-                .region(Region.of(System.getProperty("aws.region", "us-east-1")))
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .build();
-        
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
     }
     
+    @PostConstruct
+    void initClient() {
+        this.s3Client = S3ClientFactory.syncClient(region, endpointOverride);
+    }
+    
+    @PreDestroy
+    void closeClient() {
+        if (s3Client != null) {
+            s3Client.close();
+        }
+    }
+    
+    /**
+     * Builds a report from the latest load found in the bucket. Pipeline runs score their own
+     * output with {@link PipelineQualityChecker}; this scan backs the standalone endpoints.
+     */
     public QualityReport generateQualityReport() {
         logger.info("Generating S3-based data quality report");
         
@@ -50,15 +81,14 @@ public class S3QualityChecker {
         
         try {
             // Get latest data from S3
-            String latestDataPath = findLatestDataPath();
+            LatestRun latestRun = findLatestRun();
             
-            if (latestDataPath == null) {
+            if (latestRun == null) {
                 logger.warn("No data found in S3 bucket: {}", bucketName);
                 return createEmptyReport();
             }
             
-            // Read metadata file to get counts
-            S3DataLoader.Metadata metadata = readMetadata(latestDataPath);
+            S3DataLoader.Metadata metadata = latestRun.metadata;
             
             if (metadata != null) {
                 report.setTeamCount(metadata.getTeamsCount());
@@ -66,35 +96,15 @@ public class S3QualityChecker {
                 report.setGameCount(metadata.getGamesCount());
             } else {
                 logger.warn("Could not read metadata, using object count fallback");
-                setCountsFromObjectListing(report, latestDataPath);
+                setCountsFromObjectListing(report, latestRun.dataPath);
             }
             
-            // Calculate quality metrics
-            Map<String, Double> qualityMetrics = calculateQualityMetrics(report);
-            report.setQualityMetrics(qualityMetrics);
-            
-            // Overall quality score (average of all metrics)
-            double overallScore = qualityMetrics.values().stream()
-                    .mapToDouble(Double::doubleValue)
-                    .average()
-                    .orElse(0.0);
-            
-            report.setOverallQualityScore(overallScore);
-            
-            // Determine quality status
-            if (overallScore >= 0.9) {
-                report.setQualityStatus("EXCELLENT");
-            } else if (overallScore >= 0.8) {
-                report.setQualityStatus("GOOD");
-            } else if (overallScore >= 0.7) {
-                report.setQualityStatus("FAIR");
-            } else {
-                report.setQualityStatus("POOR");
-            }
+            // Calculate quality metrics; for S3, we assume data is fresh
+            QualityScoring.score(report, 1.0);
             
             logger.info("S3 data quality report generated: {} teams, {} players, {} games, Overall Score: {:.2f} ({})",
                     report.getTeamCount(), report.getPlayerCount(), report.getGameCount(),
-                    overallScore, report.getQualityStatus());
+                    report.getOverallQualityScore(), report.getQualityStatus());
             
         } catch (Exception e) {
             logger.error("Error generating S3 quality report", e);
@@ -104,6 +114,38 @@ public class S3QualityChecker {
         return report;
     }
     
+    // Runs before QualitySnapshotService's listener, so the refresh it triggers sees the new run
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onLoadCompleted(LoadCompletedEvent event) {
+        S3DataLoader.Metadata metadata = event.getMetadata();
+        cachedLatestRun = new LatestRun(keyPrefix + "/" + metadata.getTimestamp(), metadata);
+    }
+    
+    /**
+     * Resolves the latest run from the in-process cache, then from the {@code _latest.json}
+     * pointer written by the loader, and only falls back to scanning the run prefixes for
+     * buckets written before the pointer existed.
+     */
+    private LatestRun findLatestRun() {
+        LatestRun cached = cachedLatestRun;
+        if (cached != null && cached.isFresh(latestRunCacheTtlSeconds)) {
+            return cached;
+        }
+        
+        LatestRun latestRun;
+        S3DataLoader.Metadata pointer = readJson(keyPrefix + "/" + S3DataLoader.LATEST_RUN_OBJECT);
+        if (pointer != null) {
+            latestRun = new LatestRun(keyPrefix + "/" + pointer.getTimestamp(), pointer);
+        } else {
+            String latestDataPath = findLatestDataPath();
+            latestRun = latestDataPath == null ? null : new LatestRun(latestDataPath, readMetadata(latestDataPath));
+        }
+        
+        cachedLatestRun = latestRun;
+        return latestRun;
+    }
+    
     private String findLatestDataPath() {
         try {
             ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
@@ -112,12 +154,14 @@ public class S3QualityChecker {
                     .delimiter("/")
                     .build();
             
-            ListObjectsV2Response listResponse = s3Client.listObjectsV2(listRequest);
-            
-            // Find the most recent data directory
+            // Walk every page; run prefixes are timestamps, so other prefixes such as _incremental/ are skipped
             String latestPath = null;
-            for (var commonPrefix : listResponse.commonPrefixes()) {
+            for (var commonPrefix : s3Client.listObjectsV2Paginator(listRequest).commonPrefixes()) {
                 String prefixStr = commonPrefix.prefix();
+                String runName = prefixStr.substring(keyPrefix.length() + 1);
+                if (!RUN_PREFIX_PATTERN.matcher(runName).matches()) {
+                    continue;
+                }
                 if (latestPath == null || prefixStr.compareTo(latestPath) > 0) {
                     latestPath = prefixStr;
                 }
@@ -132,19 +176,23 @@ public class S3QualityChecker {
     }
     
     private S3DataLoader.Metadata readMetadata(String dataPath) {
+        return readJson(dataPath + "/metadata.json");
+    }
+    
+    private S3DataLoader.Metadata readJson(String key) {
         try {
-            String metadataKey = dataPath + "/metadata.json";
-            
             GetObjectRequest getRequest = GetObjectRequest.builder()
                     .bucket(bucketName)
-                    .key(metadataKey)
+                    .key(key)
                     .build();
             
             String content = s3Client.getObjectAsBytes(getRequest).asUtf8String();
             return objectMapper.readValue(content, S3DataLoader.Metadata.class);
             
+        } catch (NoSuchKeyException e) {
+            return null;
         } catch (Exception e) {
-            logger.warn("Could not read metadata from S3: {}", e.getMessage());
+            logger.warn("Could not read metadata from S3 key {}: {}", key, e.getMessage());
             return null;
         }
     }
@@ -174,8 +222,7 @@ public class S3QualityChecker {
                     .prefix(prefix)
                     .build();
             
-            ListObjectsV2Response listResponse = s3Client.listObjectsV2(listRequest);
-            return listResponse.contents().size();
+            return (int) s3Client.listObjectsV2Paginator(listRequest).contents().stream().count();
             
         } catch (Exception e) {
             logger.warn("Could not count objects in prefix: {}", prefix);
@@ -183,33 +230,6 @@ public class S3QualityChecker {
         }
     }
     
-    private Map<String, Double> calculateQualityMetrics(QualityReport report) {
-        Map<String, Double> metrics = new HashMap<>();
-        
-        // Data completeness metrics - for S3, we assume data is complete if it exists
-        metrics.put("data_availability", report.getTeamCount() > 0 && 
-                                       report.getPlayerCount() > 0 && 
-                                       report.getGameCount() > 0 ? 1.0 : 0.0);
-        
-        // Data distribution metrics
-        if (report.getTeamCount() > 0) {
-            double playersPerTeam = (double) report.getPlayerCount() / report.getTeamCount();
-            double gamesPerTeam = (double) report.getGameCount() / report.getTeamCount();
-            
-            // Reasonable ratios (adjustable based on business logic)
-            metrics.put("players_per_team_ratio", Math.min(playersPerTeam / 15.0, 1.0)); // Assume ~15 players per team is good
-            metrics.put("games_per_team_ratio", Math.min(gamesPerTeam / 50.0, 1.0)); // Assume ~50 games per team is good
-        } else {
-            metrics.put("players_per_team_ratio", 0.0);
-            metrics.put("games_per_team_ratio", 0.0);
-        }
-        
-        // Data freshness - check if data was uploaded recently
-        metrics.put("data_freshness", 1.0); // For now, assume S3 data is fresh
-        
-        return metrics;
-    }
-    
     private QualityReport createEmptyReport() {
         QualityReport report = new QualityReport();
         report.setGeneratedAt(LocalDateTime.now());
@@ -243,4 +263,19 @@ public class S3QualityChecker {
             return false;
         }
     }
+    
+    private static class LatestRun {
+        private final String dataPath;
+        private final S3DataLoader.Metadata metadata;
+        private final long resolvedAtNanos = System.nanoTime();
+        
+        LatestRun(String dataPath, S3DataLoader.Metadata metadata) {
+            this.dataPath = dataPath;
+            this.metadata = metadata;
+        }
+        
+        boolean isFresh(long ttlSeconds) {
+            return System.nanoTime() - resolvedAtNanos < TimeUnit.SECONDS.toNanos(ttlSeconds);
+        }
+    }
 } 
\ No newline at end of file
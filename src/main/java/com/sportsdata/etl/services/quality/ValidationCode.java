@@ -0,0 +1,106 @@
+package com.sportsdata.etl.services.quality;
+
+import com.sportsdata.etl.models.GameView;
+import com.sportsdata.etl.models.PlayerView;
+import com.sportsdata.etl.models.Team;
+
+import java.util.function.Function;
+
+/**
+ * Outcome of a single validation rule. Each code owns one bit of the {@code long} returned by the
+ * {@link ValidationRules} check methods; messages are only rendered when a result is described.
+ * Codes are declared in rule evaluation order so rendered messages keep that order.
+ */
+public enum ValidationCode {
+    
+    TEAM_NULL(true, "Team object is null"),
+    TEAM_ID_REQUIRED(true, "Team ID is required"),
+    TEAM_NAME_REQUIRED(true, "Team name is required"),
+    TEAM_CITY_REQUIRED(true, "Team city is required"),
+    TEAM_LEAGUE_REQUIRED(true, "Team league is required"),
+    TEAM_FOUNDED_IN_FUTURE(true, "Team founded date cannot be in the future"),
+    TEAM_FOUNDED_EARLY(false, "Team founded date seems unusually early: ", r -> ((Team) r).getFounded()),
+    TEAM_NAME_TOO_LONG(false, "Team name is unusually long"),
+    TEAM_CITY_TOO_LONG(false, "City name is unusually long"),
+    
+    PLAYER_NULL(true, "Player object is null"),
+    PLAYER_ID_REQUIRED(true, "Player ID is required"),
+    PLAYER_NAME_REQUIRED(true, "Player name is required"),
+    PLAYER_TEAM_REQUIRED(true, "Player team ID is required"),
+    PLAYER_POSITION_REQUIRED(true, "Player position is required"),
+    PLAYER_POSITION_UNKNOWN(false, "Unknown player position: ", r -> ((PlayerView) r).getPosition()),
+    PLAYER_AGE_REQUIRED(true, "Player age is required"),
+    PLAYER_AGE_TOO_YOUNG(true, "Player age is too young: ", r -> ((PlayerView) r).getAge()),
+    PLAYER_AGE_HIGH(false, "Player age seems unusually high: ", r -> ((PlayerView) r).getAge()),
+    PLAYER_GAMES_NEGATIVE(true, "Games played cannot be negative"),
+    PLAYER_POINTS_NEGATIVE(true, "Points cannot be negative"),
+    PLAYER_ASSISTS_NEGATIVE(true, "Assists cannot be negative"),
+    PLAYER_STATS_WITHOUT_GAMES(false, "Player has statistics but no games played"),
+    
+    GAME_NULL(true, "Game object is null"),
+    GAME_ID_REQUIRED(true, "Game ID is required"),
+    GAME_HOME_TEAM_REQUIRED(true, "Home team ID is required"),
+    GAME_AWAY_TEAM_REQUIRED(true, "Away team ID is required"),
+    GAME_DATE_REQUIRED(true, "Game date is required"),
+    GAME_DATE_EARLY(false, "Game date seems unusually early: ", r -> ((GameView) r).getDate()),
+    GAME_STATUS_REQUIRED(true, "Game status is required"),
+    GAME_STATUS_UNKNOWN(false, "Unknown game status: ", r -> ((GameView) r).getStatus()),
+    GAME_SAME_TEAMS(true, "Home team and away team cannot be the same"),
+    GAME_HOME_SCORE_NEGATIVE(true, "Home score cannot be negative"),
+    GAME_AWAY_SCORE_NEGATIVE(true, "Away score cannot be negative"),
+    GAME_HOME_SCORE_HIGH(false, "Home score seems unusually high: ", r -> ((GameView) r).getHomeScore()),
+    GAME_AWAY_SCORE_HIGH(false, "Away score seems unusually high: ", r -> ((GameView) r).getAwayScore()),
+    GAME_FINAL_MISSING_SCORES(false, "Final game should have both scores recorded"),
+    GAME_SCHEDULED_WITH_SCORES(false, "Scheduled game should not have scores");
+    
+    private static final ValidationCode[] VALUES = values();
+    
+    static final long ERROR_MASK;
+    
+    static {
+        long mask = 0L;
+        for (ValidationCode code : VALUES) {
+            if (code.error) {
+                mask |= code.bit;
+            }
+        }
+        ERROR_MASK = mask;
+    }
+    
+    private final boolean error;
+    private final String message;
+    private final Function<Object, Object> detail;
+    private final long bit;
+    
+    ValidationCode(boolean error, String message) {
+        this(error, message, null);
+    }
+    
+    ValidationCode(boolean error, String message, Function<Object, Object> detail) {
+        this.error = error;
+        this.message = message;
+        this.detail = detail;
+        this.bit = 1L << ordinal();
+    }
+    
+    public boolean isError() {
+        return error;
+    }
+    
+    public long bit() {
+        return bit;
+    }
+    
+    public boolean isSet(long codes) {
+        return (codes & bit) != 0;
+    }
+    
+    // Renders the message for a record that failed this rule
+    public String render(Object record) {
+        return detail == null ? message : message + detail.apply(record);
+    }
+    
+    static ValidationCode[] all() {
+        return VALUES;
+    }
+}
\ No newline at end of file
@@ -1,12 +1,16 @@
 package com.sportsdata.etl.services.quality;
 
-import com.sportsdata.etl.models.Game;
-import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.CompactGame;
+import com.sportsdata.etl.models.GameBatch;
+import com.sportsdata.etl.models.GameView;
+import com.sportsdata.etl.models.PlayerBatch;
+import com.sportsdata.etl.models.PlayerView;
 import com.sportsdata.etl.models.Team;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -27,231 +31,448 @@ public class ValidationRules {
     private static final int MAX_PLAYER_AGE = 50;
     private static final int MAX_REASONABLE_SCORE = 200;
     
+    private static final LocalDate EARLIEST_FOUNDED = LocalDate.of(1850, 1, 1);
+    private static final LocalDateTime EARLIEST_GAME_DATE = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final long EARLIEST_GAME_EPOCH_SECONDS = EARLIEST_GAME_DATE.toEpochSecond(ZoneOffset.UTC);
+    
     public ValidationResult validateTeam(Team team) {
-        List<String> errors = new ArrayList<>();
-        List<String> warnings = new ArrayList<>();
-        
+        return describe(checkTeam(team), team);
+    }
+    
+    public ValidationResult validatePlayer(PlayerView player) {
+        return describe(checkPlayer(player), player);
+    }
+    
+    public ValidationResult validateGame(GameView game) {
+        return describe(checkGame(game), game);
+    }
+    
+    // Renders the failed rules of a check as a ValidationResult; messages are built on first access
+    public ValidationResult describe(long codes, Object record) {
+        return new ValidationResult(codes, record);
+    }
+    
+    public static boolean isValid(long codes) {
+        return (codes & ValidationCode.ERROR_MASK) == 0;
+    }
+    
+    public static boolean hasWarnings(long codes) {
+        return (codes & ~ValidationCode.ERROR_MASK) != 0;
+    }
+    
+    public static int errorCount(long codes) {
+        return Long.bitCount(codes & ValidationCode.ERROR_MASK);
+    }
+    
+    public static int warningCount(long codes) {
+        return Long.bitCount(codes & ~ValidationCode.ERROR_MASK);
+    }
+    
+    // Fast path: returns the ValidationCode bits of every failed rule, 0 for a clean record
+    public long checkTeam(Team team) {
         if (team == null) {
-            errors.add("Team object is null");
-            return new ValidationResult(false, errors, warnings);
+            return ValidationCode.TEAM_NULL.bit();
         }
         
+        long codes = 0L;
+        
         // Required field validations
-        if (team.getTeamId() == null || team.getTeamId().trim().isEmpty()) {
-            errors.add("Team ID is required");
+        if (isBlank(team.getTeamId())) {
+            codes |= ValidationCode.TEAM_ID_REQUIRED.bit();
         }
         
-        if (team.getName() == null || team.getName().trim().isEmpty()) {
-            errors.add("Team name is required");
+        if (isBlank(team.getName())) {
+            codes |= ValidationCode.TEAM_NAME_REQUIRED.bit();
         }
         
-        if (team.getCity() == null || team.getCity().trim().isEmpty()) {
-            errors.add("Team city is required");
+        if (isBlank(team.getCity())) {
+            codes |= ValidationCode.TEAM_CITY_REQUIRED.bit();
         }
         
-        if (team.getLeague() == null || team.getLeague().trim().isEmpty()) {
-            errors.add("Team league is required");
+        if (isBlank(team.getLeague())) {
+            codes |= ValidationCode.TEAM_LEAGUE_REQUIRED.bit();
         }
         
         // Business rule validations
         if (team.getFounded() != null) {
             if (team.getFounded().isAfter(LocalDate.now())) {
-                errors.add("Team founded date cannot be in the future");
-            } else if (team.getFounded().isBefore(LocalDate.of(1850, 1, 1))) {
-                warnings.add("Team founded date seems unusually early: " + team.getFounded());
+                codes |= ValidationCode.TEAM_FOUNDED_IN_FUTURE.bit();
+            } else if (team.getFounded().isBefore(EARLIEST_FOUNDED)) {
+                codes |= ValidationCode.TEAM_FOUNDED_EARLY.bit();
             }
         }
         
         // Format validations
         if (team.getName() != null && team.getName().length() > 100) {
-            warnings.add("Team name is unusually long");
+            codes |= ValidationCode.TEAM_NAME_TOO_LONG.bit();
         }
         
         if (team.getCity() != null && team.getCity().length() > 50) {
-            warnings.add("City name is unusually long");
+            codes |= ValidationCode.TEAM_CITY_TOO_LONG.bit();
         }
         
-        return new ValidationResult(errors.isEmpty(), errors, warnings);
+        return codes;
     }
     
-    public ValidationResult validatePlayer(Player player) {
-        List<String> errors = new ArrayList<>();
-        List<String> warnings = new ArrayList<>();
-        
+    public long checkPlayer(PlayerView player) {
         if (player == null) {
-            errors.add("Player object is null");
-            return new ValidationResult(false, errors, warnings);
+            return ValidationCode.PLAYER_NULL.bit();
         }
         
+        long codes = 0L;
+        
         // Required field validations
-        if (player.getPlayerId() == null || player.getPlayerId().trim().isEmpty()) {
-            errors.add("Player ID is required");
+        if (isBlank(player.getPlayerId())) {
+            codes |= ValidationCode.PLAYER_ID_REQUIRED.bit();
         }
         
-        if (player.getName() == null || player.getName().trim().isEmpty()) {
-            errors.add("Player name is required");
+        if (isBlank(player.getName())) {
+            codes |= ValidationCode.PLAYER_NAME_REQUIRED.bit();
         }
         
-        if (player.getTeamId() == null || player.getTeamId().trim().isEmpty()) {
-            errors.add("Player team ID is required");
+        if (isBlank(player.getTeamId())) {
+            codes |= ValidationCode.PLAYER_TEAM_REQUIRED.bit();
         }
         
-        if (player.getPosition() == null || player.getPosition().trim().isEmpty()) {
-            errors.add("Player position is required");
+        if (isBlank(player.getPosition())) {
+            codes |= ValidationCode.PLAYER_POSITION_REQUIRED.bit();
         } else if (!VALID_POSITIONS.contains(player.getPosition().trim())) {
-            warnings.add("Unknown player position: " + player.getPosition());
+            codes |= ValidationCode.PLAYER_POSITION_UNKNOWN.bit();
         }
         
         if (player.getAge() == null) {
-            errors.add("Player age is required");
+            codes |= ValidationCode.PLAYER_AGE_REQUIRED.bit();
         } else {
             if (player.getAge() < MIN_PLAYER_AGE) {
-                errors.add("Player age is too young: " + player.getAge());
+                codes |= ValidationCode.PLAYER_AGE_TOO_YOUNG.bit();
             } else if (player.getAge() > MAX_PLAYER_AGE) {
-                warnings.add("Player age seems unusually high: " + player.getAge());
+                codes |= ValidationCode.PLAYER_AGE_HIGH.bit();
             }
         }
         
-        // Statistics validation
-        if (player.getStatistics() != null) {
-            Player.PlayerStatistics stats = player.getStatistics();
+        // Statistics validation, on the primitive counters so compact players are not boxed
+        if (player.hasStatistics()) {
+            int gamesPlayed = player.gamesPlayed();
+            int points = player.points();
+            int assists = player.assists();
             
-            if (stats.getGamesPlayed() != null && stats.getGamesPlayed() < 0) {
-                errors.add("Games played cannot be negative");
+            if (gamesPlayed != PlayerView.NO_VALUE && gamesPlayed < 0) {
+                codes |= ValidationCode.PLAYER_GAMES_NEGATIVE.bit();
             }
             
-            if (stats.getPoints() != null && stats.getPoints() < 0) {
-                errors.add("Points cannot be negative");
+            if (points != PlayerView.NO_VALUE && points < 0) {
+                codes |= ValidationCode.PLAYER_POINTS_NEGATIVE.bit();
             }
             
-            if (stats.getAssists() != null && stats.getAssists() < 0) {
-                errors.add("Assists cannot be negative");
+            if (assists != PlayerView.NO_VALUE && assists < 0) {
+                codes |= ValidationCode.PLAYER_ASSISTS_NEGATIVE.bit();
             }
             
             // Cross-field validations
-            if (stats.getGamesPlayed() != null && stats.getGamesPlayed() == 0) {
-                if ((stats.getPoints() != null && stats.getPoints() > 0) ||
-                    (stats.getAssists() != null && stats.getAssists() > 0)) {
-                    warnings.add("Player has statistics but no games played");
-                }
+            if (gamesPlayed == 0 && (points > 0 || assists > 0)) {
+                codes |= ValidationCode.PLAYER_STATS_WITHOUT_GAMES.bit();
             }
         }
         
-        return new ValidationResult(errors.isEmpty(), errors, warnings);
+        return codes;
     }
     
-    public ValidationResult validateGame(Game game) {
-        List<String> errors = new ArrayList<>();
-        List<String> warnings = new ArrayList<>();
-        
+    public long checkGame(GameView game) {
         if (game == null) {
-            errors.add("Game object is null");
-            return new ValidationResult(false, errors, warnings);
+            return ValidationCode.GAME_NULL.bit();
         }
         
+        long codes = 0L;
+        
         // Required field validations
-        if (game.getGameId() == null || game.getGameId().trim().isEmpty()) {
-            errors.add("Game ID is required");
+        if (isBlank(game.getGameId())) {
+            codes |= ValidationCode.GAME_ID_REQUIRED.bit();
         }
         
-        if (game.getHomeTeamId() == null || game.getHomeTeamId().trim().isEmpty()) {
-            errors.add("Home team ID is required");
+        if (isBlank(game.getHomeTeamId())) {
+            codes |= ValidationCode.GAME_HOME_TEAM_REQUIRED.bit();
         }
         
-        if (game.getAwayTeamId() == null || game.getAwayTeamId().trim().isEmpty()) {
-            errors.add("Away team ID is required");
+        if (isBlank(game.getAwayTeamId())) {
+            codes |= ValidationCode.GAME_AWAY_TEAM_REQUIRED.bit();
         }
         
         if (game.getDate() == null) {
-            errors.add("Game date is required");
-        } else if (game.getDate().isBefore(LocalDateTime.of(1900, 1, 1, 0, 0))) {
-            warnings.add("Game date seems unusually early: " + game.getDate());
+            codes |= ValidationCode.GAME_DATE_REQUIRED.bit();
+        } else if (game.getDate().isBefore(EARLIEST_GAME_DATE)) {
+            codes |= ValidationCode.GAME_DATE_EARLY.bit();
         }
         
-        if (game.getStatus() == null || game.getStatus().trim().isEmpty()) {
-            errors.add("Game status is required");
+        if (isBlank(game.getStatus())) {
+            codes |= ValidationCode.GAME_STATUS_REQUIRED.bit();
         } else if (!VALID_GAME_STATUSES.contains(game.getStatus().trim())) {
-            warnings.add("Unknown game status: " + game.getStatus());
+            codes |= ValidationCode.GAME_STATUS_UNKNOWN.bit();
         }
         
         // Business rule validations
         if (game.getHomeTeamId() != null && game.getAwayTeamId() != null &&
             game.getHomeTeamId().equals(game.getAwayTeamId())) {
-            errors.add("Home team and away team cannot be the same");
+            codes |= ValidationCode.GAME_SAME_TEAMS.bit();
         }
         
         // Score validations
         if (game.getHomeScore() != null && game.getHomeScore() < 0) {
-            errors.add("Home score cannot be negative");
+            codes |= ValidationCode.GAME_HOME_SCORE_NEGATIVE.bit();
         }
         
         if (game.getAwayScore() != null && game.getAwayScore() < 0) {
-            errors.add("Away score cannot be negative");
+            codes |= ValidationCode.GAME_AWAY_SCORE_NEGATIVE.bit();
         }
         
         if (game.getHomeScore() != null && game.getHomeScore() > MAX_REASONABLE_SCORE) {
-            warnings.add("Home score seems unusually high: " + game.getHomeScore());
+            codes |= ValidationCode.GAME_HOME_SCORE_HIGH.bit();
         }
         
         if (game.getAwayScore() != null && game.getAwayScore() > MAX_REASONABLE_SCORE) {
-            warnings.add("Away score seems unusually high: " + game.getAwayScore());
+            codes |= ValidationCode.GAME_AWAY_SCORE_HIGH.bit();
         }
         
         // Status-score consistency validation
         if ("Final".equals(game.getStatus())) {
             if (game.getHomeScore() == null || game.getAwayScore() == null) {
-                warnings.add("Final game should have both scores recorded");
+                codes |= ValidationCode.GAME_FINAL_MISSING_SCORES.bit();
             }
         } else if ("Scheduled".equals(game.getStatus())) {
             if (game.getHomeScore() != null || game.getAwayScore() != null) {
-                warnings.add("Scheduled game should not have scores");
+                codes |= ValidationCode.GAME_SCHEDULED_WITH_SCORES.bit();
             }
         }
         
-        return new ValidationResult(errors.isEmpty(), errors, warnings);
+        return codes;
+    }
+    
+    /**
+     * Column-wise form of {@link #checkGame}: each rule scans one field array of the batch and ORs
+     * its bit into the per-row codes, which match what checkGame returns for the same row.
+     */
+    public long[] checkGames(GameBatch batch) {
+        int size = batch.size();
+        long[] codes = new long[size];
+        
+        // Required field validations
+        markBlank(batch.gameIds(), size, codes, ValidationCode.GAME_ID_REQUIRED.bit());
+        markBlank(batch.homeTeamIds(), size, codes, ValidationCode.GAME_HOME_TEAM_REQUIRED.bit());
+        markBlank(batch.awayTeamIds(), size, codes, ValidationCode.GAME_AWAY_TEAM_REQUIRED.bit());
+        
+        long[] dates = batch.dates();
+        for (int i = 0; i < size; i++) {
+            if (dates[i] == CompactGame.NO_DATE) {
+                codes[i] |= ValidationCode.GAME_DATE_REQUIRED.bit();
+            } else if (dates[i] < EARLIEST_GAME_EPOCH_SECONDS) {
+                codes[i] |= ValidationCode.GAME_DATE_EARLY.bit();
+            }
+        }
+        
+        String[] statuses = batch.statuses();
+        for (int i = 0; i < size; i++) {
+            if (isBlank(statuses[i])) {
+                codes[i] |= ValidationCode.GAME_STATUS_REQUIRED.bit();
+            } else if (!VALID_GAME_STATUSES.contains(statuses[i].trim())) {
+                codes[i] |= ValidationCode.GAME_STATUS_UNKNOWN.bit();
+            }
+        }
+        
+        // Business rule validations
+        String[] homeTeamIds = batch.homeTeamIds();
+        String[] awayTeamIds = batch.awayTeamIds();
+        for (int i = 0; i < size; i++) {
+            if (homeTeamIds[i] != null && homeTeamIds[i].equals(awayTeamIds[i])) {
+                codes[i] |= ValidationCode.GAME_SAME_TEAMS.bit();
+            }
+        }
+        
+        // Score validations; the NO_SCORE sentinel is below zero, so it is excluded explicitly
+        int[] homeScores = batch.homeScores();
+        int[] awayScores = batch.awayScores();
+        markScores(homeScores, size, codes, ValidationCode.GAME_HOME_SCORE_NEGATIVE.bit(), ValidationCode.GAME_HOME_SCORE_HIGH.bit());
+        markScores(awayScores, size, codes, ValidationCode.GAME_AWAY_SCORE_NEGATIVE.bit(), ValidationCode.GAME_AWAY_SCORE_HIGH.bit());
+        
+        // Status-score consistency validation
+        for (int i = 0; i < size; i++) {
+            boolean homeMissing = homeScores[i] == CompactGame.NO_SCORE;
+            boolean awayMissing = awayScores[i] == CompactGame.NO_SCORE;
+            if ("Final".equals(statuses[i])) {
+                if (homeMissing || awayMissing) {
+                    codes[i] |= ValidationCode.GAME_FINAL_MISSING_SCORES.bit();
+                }
+            } else if ("Scheduled".equals(statuses[i])) {
+                if (!homeMissing || !awayMissing) {
+                    codes[i] |= ValidationCode.GAME_SCHEDULED_WITH_SCORES.bit();
+                }
+            }
+        }
+        
+        return codes;
+    }
+    
+    // Column-wise form of checkPlayer over a PlayerBatch
+    public long[] checkPlayers(PlayerBatch batch) {
+        int size = batch.size();
+        long[] codes = new long[size];
+        
+        // Required field validations
+        markBlank(batch.playerIds(), size, codes, ValidationCode.PLAYER_ID_REQUIRED.bit());
+        markBlank(batch.names(), size, codes, ValidationCode.PLAYER_NAME_REQUIRED.bit());
+        markBlank(batch.teamIds(), size, codes, ValidationCode.PLAYER_TEAM_REQUIRED.bit());
+        
+        String[] positions = batch.positions();
+        for (int i = 0; i < size; i++) {
+            if (isBlank(positions[i])) {
+                codes[i] |= ValidationCode.PLAYER_POSITION_REQUIRED.bit();
+            } else if (!VALID_POSITIONS.contains(positions[i].trim())) {
+                codes[i] |= ValidationCode.PLAYER_POSITION_UNKNOWN.bit();
+            }
+        }
+        
+        int[] ages = batch.ages();
+        for (int i = 0; i < size; i++) {
+            int age = ages[i];
+            if (age == PlayerView.NO_VALUE) {
+                codes[i] |= ValidationCode.PLAYER_AGE_REQUIRED.bit();
+            } else if (age < MIN_PLAYER_AGE) {
+                codes[i] |= ValidationCode.PLAYER_AGE_TOO_YOUNG.bit();
+            } else if (age > MAX_PLAYER_AGE) {
+                codes[i] |= ValidationCode.PLAYER_AGE_HIGH.bit();
+            }
+        }
+        
+        // Statistics validation; NO_VALUE is below zero, so it is excluded explicitly
+        boolean[] hasStatistics = batch.hasStatistics();
+        int[] gamesPlayed = batch.gamesPlayed();
+        int[] points = batch.points();
+        int[] assists = batch.assists();
+        for (int i = 0; i < size; i++) {
+            if (!hasStatistics[i]) {
+                continue;
+            }
+            if (gamesPlayed[i] < 0 && gamesPlayed[i] != PlayerView.NO_VALUE) {
+                codes[i] |= ValidationCode.PLAYER_GAMES_NEGATIVE.bit();
+            }
+            if (points[i] < 0 && points[i] != PlayerView.NO_VALUE) {
+                codes[i] |= ValidationCode.PLAYER_POINTS_NEGATIVE.bit();
+            }
+            if (assists[i] < 0 && assists[i] != PlayerView.NO_VALUE) {
+                codes[i] |= ValidationCode.PLAYER_ASSISTS_NEGATIVE.bit();
+            }
+            
+            // Cross-field validations
+            if (gamesPlayed[i] == 0 && (points[i] > 0 || assists[i] > 0)) {
+                codes[i] |= ValidationCode.PLAYER_STATS_WITHOUT_GAMES.bit();
+            }
+        }
+        
+        return codes;
+    }
+    
+    private static void markBlank(String[] column, int size, long[] codes, long bit) {
+        for (int i = 0; i < size; i++) {
+            if (isBlank(column[i])) {
+                codes[i] |= bit;
+            }
+        }
+    }
+    
+    private static void markScores(int[] scores, int size, long[] codes, long negativeBit, long highBit) {
+        for (int i = 0; i < size; i++) {
+            int score = scores[i];
+            if (score < 0 && score != CompactGame.NO_SCORE) {
+                codes[i] |= negativeBit;
+            } else if (score > MAX_REASONABLE_SCORE) {
+                codes[i] |= highBit;
+            }
+        }
+    }
+    
+    // Same test as trim().isEmpty() without allocating the trimmed copy
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
     }
     
     public static class ValidationResult {
         private final boolean valid;
-        private final List<String> errors;
-        private final List<String> warnings;
+        private final long codes;
+        private final Object record;
+        private List<String> errors;
+        private List<String> warnings;
         
         public ValidationResult(boolean valid, List<String> errors, List<String> warnings) {
             this.valid = valid;
+            this.codes = 0L;
+            this.record = null;
             this.errors = new ArrayList<>(errors);
             this.warnings = new ArrayList<>(warnings);
         }
         
+        ValidationResult(long codes, Object record) {
+            this.valid = ValidationRules.isValid(codes);
+            this.codes = codes;
+            this.record = record;
+        }
+        
         public boolean isValid() {
             return valid;
         }
         
+        public long getCodes() {
+            return codes;
+        }
+        
         public List<String> getErrors() {
+            render();
             return new ArrayList<>(errors);
         }
         
         public List<String> getWarnings() {
+            render();
             return new ArrayList<>(warnings);
         }
         
         public boolean hasWarnings() {
-            return !warnings.isEmpty();
+            return getWarningCount() > 0;
         }
         
         public int getErrorCount() {
-            return errors.size();
+            return errors != null ? errors.size() : ValidationRules.errorCount(codes);
         }
         
         public int getWarningCount() {
-            return warnings.size();
+            return warnings != null ? warnings.size() : ValidationRules.warningCount(codes);
+        }
+        
+        private synchronized void render() {
+            if (errors != null) {
+                return;
+            }
+            List<String> renderedErrors = new ArrayList<>(ValidationRules.errorCount(codes));
+            List<String> renderedWarnings = new ArrayList<>(ValidationRules.warningCount(codes));
+            for (ValidationCode code : ValidationCode.all()) {
+                if (code.isSet(codes)) {
+                    (code.isError() ? renderedErrors : renderedWarnings).add(code.render(record));
+                }
+            }
+            warnings = renderedWarnings;
+            errors = renderedErrors;
         }
         
         @Override
         public String toString() {
             return "ValidationResult{" +
                     "valid=" + valid +
-                    ", errors=" + errors.size() +
-                    ", warnings=" + warnings.size() +
+                    ", errors=" + getErrorCount() +
+                    ", warnings=" + getWarningCount() +
                     '}';
         }
     }
@@ -1,14 +1,16 @@
 package com.sportsdata.etl.services.transformers;
 
 import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.GameBatch;
 import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.PlayerBatch;
 import com.sportsdata.etl.models.Team;
-import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
@@ -197,18 +199,51 @@ public class DataCleaner {
         return cleanedGame;
     }
     
-    private String cleanStringField(String value) {
+    // Cleans the name and position columns in place and drops rows whose player ID was already seen
+    public PlayerBatch cleanPlayers(PlayerBatch players) {
+        String[] names = players.names();
+        String[] positions = players.positions();
+        for (int i = 0; i < players.size(); i++) {
+            names[i] = cleanStringField(names[i]);
+            positions[i] = cleanStringField(positions[i]);
+        }
+        
+        PlayerBatch cleanedPlayers = players.select(firstOccurrences(players.playerIds(), players.size()));
+        logger.info("Player cleaning completed: {} cleaned, {} duplicates removed",
+            cleanedPlayers.size(), players.size() - cleanedPlayers.size());
+        return cleanedPlayers;
+    }
+    
+    public GameBatch cleanGames(GameBatch games) {
+        String[] statuses = games.statuses();
+        for (int i = 0; i < games.size(); i++) {
+            statuses[i] = cleanStringField(statuses[i]);
+        }
+        
+        GameBatch cleanedGames = games.select(firstOccurrences(games.gameIds(), games.size()));
+        logger.info("Game cleaning completed: {} cleaned, {} duplicates removed",
+            cleanedGames.size(), games.size() - cleanedGames.size());
+        return cleanedGames;
+    }
+    
+    private static boolean[] firstOccurrences(String[] ids, int size) {
+        boolean[] keep = new boolean[size];
+        Set<String> seenIds = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            keep[i] = seenIds.add(ids[i]);
+        }
+        return keep;
+    }
+    
+    String cleanStringField(String value) {
         if (value == null) {
             return null;
         }
         
-        // Trim whitespace and normalize
-        String cleaned = StringUtils.trim(value);
-        
-        // Remove extra whitespace between words
-        cleaned = StringUtils.normalizeSpace(cleaned);
+        // Trim and collapse inner whitespace in one pass
+        String cleaned = TextNormalizer.normalizeSpace(value);
         
         // Return null if empty after cleaning
-        return StringUtils.isEmpty(cleaned) ? null : cleaned;
+        return cleaned.isEmpty() ? null : cleaned;
     }
 } 
\ No newline at end of file
@@ -1,14 +1,24 @@
 package com.sportsdata.etl.services.transformers;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.GameBatch;
 import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.PlayerBatch;
 import com.sportsdata.etl.models.Team;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -17,63 +27,44 @@ public class DataStandardizer {
     
     private static final Logger logger = LoggerFactory.getLogger(DataStandardizer.class);
     
-    // Position standardization mapping
-    private static final Map<String, String> POSITION_MAPPING = new HashMap<>();
+    static final String DEFAULT_MAPPINGS = "standardization-mappings.json";
     
-    static {
-        // Guard positions
-        POSITION_MAPPING.put("PG", "Point Guard");
-        POSITION_MAPPING.put("Point Guard", "Point Guard");
-        POSITION_MAPPING.put("SG", "Shooting Guard");
-        POSITION_MAPPING.put("Shooting Guard", "Shooting Guard");
-        POSITION_MAPPING.put("Guard", "Guard");
-        POSITION_MAPPING.put("G", "Guard");
-        
-        // Forward positions
-        POSITION_MAPPING.put("SF", "Small Forward");
-        POSITION_MAPPING.put("Small Forward", "Small Forward");
-        POSITION_MAPPING.put("PF", "Power Forward");
-        POSITION_MAPPING.put("Power Forward", "Power Forward");
-        POSITION_MAPPING.put("Forward", "Forward");
-        POSITION_MAPPING.put("F", "Forward");
-        
-        // Center position
-        POSITION_MAPPING.put("C", "Center");
-        POSITION_MAPPING.put("Center", "Center");
-    }
+    private static final ObjectMapper MAPPER = new ObjectMapper();
     
-    // League standardization mapping
-    private static final Map<String, String> LEAGUE_MAPPING = new HashMap<>();
+    // Optional file that overrides the bundled mappings; it is re-read whenever it changes
+    @Value("${etl.standardization.mappings-file:}")
+    private String mappingsFile;
     
-    static {
-        LEAGUE_MAPPING.put("NBA", "NBA");
-        LEAGUE_MAPPING.put("National Basketball Association", "NBA");
-        LEAGUE_MAPPING.put("WNBA", "WNBA");
-        LEAGUE_MAPPING.put("Women's National Basketball Association", "WNBA");
-        LEAGUE_MAPPING.put("NCAA", "NCAA");
-        LEAGUE_MAPPING.put("College Basketball", "NCAA");
-    }
+    private volatile MappingTables mappings = MappingTables.loadDefaults();
+    private volatile long mappingsFileModified;
     
-    // Game status standardization mapping
-    private static final Map<String, String> STATUS_MAPPING = new HashMap<>();
+    @PostConstruct
+    void loadConfiguredMappings() {
+        reloadMappings();
+    }
     
-    static {
-        STATUS_MAPPING.put("Scheduled", "Scheduled");
-        STATUS_MAPPING.put("SCHEDULED", "Scheduled");
-        STATUS_MAPPING.put("upcoming", "Scheduled");
-        STATUS_MAPPING.put("Live", "Live");
-        STATUS_MAPPING.put("LIVE", "Live");
-        STATUS_MAPPING.put("in-progress", "Live");
-        STATUS_MAPPING.put("Final", "Final");
-        STATUS_MAPPING.put("FINAL", "Final");
-        STATUS_MAPPING.put("completed", "Final");
-        STATUS_MAPPING.put("finished", "Final");
-        STATUS_MAPPING.put("Postponed", "Postponed");
-        STATUS_MAPPING.put("POSTPONED", "Postponed");
-        STATUS_MAPPING.put("delayed", "Postponed");
-        STATUS_MAPPING.put("Cancelled", "Cancelled");
-        STATUS_MAPPING.put("CANCELLED", "Cancelled");
-        STATUS_MAPPING.put("canceled", "Cancelled");
+    @Scheduled(fixedDelayString = "${etl.standardization.reload-interval-ms:30000}")
+    public void reloadMappings() {
+        if (mappingsFile == null || mappingsFile.isBlank()) {
+            return;
+        }
+        
+        Path path = Path.of(mappingsFile);
+        try {
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            if (modified == mappingsFileModified) {
+                return;
+            }
+            try (InputStream in = Files.newInputStream(path)) {
+                mappings = MappingTables.load(in);
+            }
+            mappingsFileModified = modified;
+            logger.info("Loaded standardization mappings from {}: {} positions, {} leagues, {} statuses",
+                path, mappings.positions.size(), mappings.leagues.size(), mappings.statuses.size());
+        } catch (IOException | RuntimeException e) {
+            // Keep serving the previous tables rather than failing the transform phase
+            logger.error("Failed to load standardization mappings from {}", path, e);
+        }
     }
     
     public List<Team> standardizeTeams(List<Team> teams) {
@@ -191,101 +182,124 @@ public class DataStandardizer {
         return standardizedGame;
     }
     
-    private String standardizeName(String name) {
-        if (name == null || name.trim().isEmpty()) {
-            return name;
+    // Standardizes the name and position columns of the batch in place and returns it
+    public PlayerBatch standardizePlayers(PlayerBatch players) {
+        String[] names = players.names();
+        String[] positions = players.positions();
+        for (int i = 0; i < players.size(); i++) {
+            names[i] = standardizeName(names[i]);
+        }
+        for (int i = 0; i < players.size(); i++) {
+            positions[i] = standardizePosition(positions[i]);
         }
         
-        // Convert to title case
-        String[] words = name.trim().toLowerCase().split("\\s+");
-        StringBuilder standardized = new StringBuilder();
+        logger.info("Player standardization completed: {} players processed", players.size());
+        return players;
+    }
+    
+    // Standardizes the status column of the batch in place and returns it
+    public GameBatch standardizeGames(GameBatch games) {
+        String[] statuses = games.statuses();
+        for (int i = 0; i < games.size(); i++) {
+            statuses[i] = standardizeGameStatus(statuses[i]);
+        }
         
-        for (int i = 0; i < words.length; i++) {
-            if (i > 0) {
-                standardized.append(" ");
-            }
-            
-            String word = words[i];
-            if (!word.isEmpty()) {
-                standardized.append(Character.toUpperCase(word.charAt(0)));
-                if (word.length() > 1) {
-                    standardized.append(word.substring(1));
-                }
-            }
+        logger.info("Game standardization completed: {} games processed", games.size());
+        return games;
+    }
+    
+    String standardizeName(String name) {
+        if (name == null) {
+            return null;
         }
         
-        return standardized.toString();
+        // Convert to title case; blank names are returned unchanged
+        String standardized = TextNormalizer.titleCase(name);
+        return standardized.isEmpty() ? name : standardized;
     }
     
-    private String standardizePosition(String position) {
+    String standardizePosition(String position) {
         if (position == null || position.trim().isEmpty()) {
             return position;
         }
         
         String trimmed = position.trim();
-        String standardized = POSITION_MAPPING.get(trimmed);
+        String standardized = mappings.positions.lookup(trimmed);
         
         if (standardized != null) {
             return standardized;
         }
         
-        // If no mapping found, try case-insensitive search
-        for (Map.Entry<String, String> entry : POSITION_MAPPING.entrySet()) {
-            if (entry.getKey().equalsIgnoreCase(trimmed)) {
-                return entry.getValue();
-            }
-        }
-        
         // Return original if no standardization found
         logger.debug("No standardization found for position: {}", position);
         return trimmed;
     }
     
-    private String standardizeLeague(String league) {
+    String standardizeLeague(String league) {
         if (league == null || league.trim().isEmpty()) {
             return league;
         }
         
         String trimmed = league.trim();
-        String standardized = LEAGUE_MAPPING.get(trimmed);
+        String standardized = mappings.leagues.lookup(trimmed);
         
         if (standardized != null) {
             return standardized;
         }
         
-        // If no mapping found, try case-insensitive search
-        for (Map.Entry<String, String> entry : LEAGUE_MAPPING.entrySet()) {
-            if (entry.getKey().equalsIgnoreCase(trimmed)) {
-                return entry.getValue();
-            }
-        }
-        
         // Return original if no standardization found
         logger.debug("No standardization found for league: {}", league);
         return trimmed;
     }
     
-    private String standardizeGameStatus(String status) {
+    String standardizeGameStatus(String status) {
         if (status == null || status.trim().isEmpty()) {
             return status;
         }
         
         String trimmed = status.trim();
-        String standardized = STATUS_MAPPING.get(trimmed);
+        String standardized = mappings.statuses.lookup(trimmed);
         
         if (standardized != null) {
             return standardized;
         }
         
-        // If no mapping found, try case-insensitive search
-        for (Map.Entry<String, String> entry : STATUS_MAPPING.entrySet()) {
-            if (entry.getKey().equalsIgnoreCase(trimmed)) {
-                return entry.getValue();
-            }
-        }
-        
         // Return original if no standardization found
         logger.debug("No standardization found for game status: {}", status);
         return trimmed;
     }
-} 
\ No newline at end of file
+    
+    // One consistent set of tables, swapped as a whole on reload
+    private static class MappingTables {
+        private final StandardizationDictionary positions;
+        private final StandardizationDictionary leagues;
+        private final StandardizationDictionary statuses;
+        
+        MappingTables(StandardizationDictionary positions, StandardizationDictionary leagues,
+                      StandardizationDictionary statuses) {
+            this.positions = positions;
+            this.leagues = leagues;
+            this.statuses = statuses;
+        }
+        
+        static MappingTables load(InputStream in) throws IOException {
+            Map<String, Map<String, String>> tables = MAPPER.readValue(in,
+                new TypeReference<Map<String, Map<String, String>>>() {});
+            return new MappingTables(
+                StandardizationDictionary.of(tables.getOrDefault("positions", Map.of())),
+                StandardizationDictionary.of(tables.getOrDefault("leagues", Map.of())),
+                StandardizationDictionary.of(tables.getOrDefault("statuses", Map.of())));
+        }
+        
+        static MappingTables loadDefaults() {
+            try (InputStream in = DataStandardizer.class.getClassLoader().getResourceAsStream(DEFAULT_MAPPINGS)) {
+                if (in == null) {
+                    throw new IllegalStateException("Missing classpath resource " + DEFAULT_MAPPINGS);
+                }
+                return load(in);
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to load default standardization mappings", e);
+            }
+        }
+    }
+}
\ No newline at end of file
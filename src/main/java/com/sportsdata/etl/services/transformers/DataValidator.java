@@ -1,55 +1,76 @@
 package com.sportsdata.etl.services.transformers;
 
 import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.GameBatch;
 import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.PlayerBatch;
 import com.sportsdata.etl.models.Team;
 import com.sportsdata.etl.services.quality.ValidationRules;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 
 @Component
 public class DataValidator {
     
     private static final Logger logger = LoggerFactory.getLogger(DataValidator.class);
     
+    private static final int MIN_GRAIN = 1024;
+    
     @Autowired
     private ValidationRules validationRules;
     
+    @Value("${etl.validation.parallel.enabled:true}")
+    private boolean parallelEnabled;
+    
+    @Value("${etl.validation.parallel.parallelism:0}")
+    private int parallelism;
+    
+    @Value("${etl.validation.parallel.threshold:10000}")
+    private int parallelThreshold;
+    
+    // 0 keeps per-record messages at DEBUG only; N logs one in N failing records
+    @Value("${etl.validation.logging.sample-every:0}")
+    private int logSampleEvery;
+    
+    @Value("${etl.validation.logging.max-per-second:10}")
+    private int logMaxPerSecond;
+    
+    private ForkJoinPool validationPool;
+    private SampledLogGate recordLogGate = new SampledLogGate(0, 0);
+    
     public List<Team> validateTeams(List<Team> teams) {
         if (teams == null || teams.isEmpty()) {
             logger.info("No teams to validate");
             return new ArrayList<>();
         }
         
-        List<Team> validTeams = new ArrayList<>();
-        int errorCount = 0;
-        int warningCount = 0;
+        ValidationDiagnostics diagnostics = new ValidationDiagnostics();
         
         logger.info("Starting validation of {} teams", teams.size());
         
-        for (Team team : teams) {
-            ValidationRules.ValidationResult result = validationRules.validateTeam(team);
-            
-            if (result.isValid()) {
-                validTeams.add(team);
-                if (result.hasWarnings()) {
-                    warningCount += result.getWarningCount();
-                    logger.warn("Team {} has warnings: {}", team.getTeamId(), result.getWarnings());
-                }
-            } else {
-                errorCount += result.getErrorCount();
-                logger.error("Team {} failed validation: {}", team.getTeamId(), result.getErrors());
-            }
-        }
+        List<Team> validTeams = validate(teams, this::checkTeam, diagnostics);
         
         logger.info("Team validation completed: {} valid, {} errors, {} warnings", 
-            validTeams.size(), errorCount, warningCount);
+            validTeams.size(), diagnostics.getErrorCount(), diagnostics.getWarningCount());
+        logFailureSummary("Team", diagnostics);
         
         return validTeams;
     }
@@ -60,29 +81,15 @@ public class DataValidator {
             return new ArrayList<>();
         }
         
-        List<Player> validPlayers = new ArrayList<>();
-        int errorCount = 0;
-        int warningCount = 0;
+        ValidationDiagnostics diagnostics = new ValidationDiagnostics();
         
         logger.info("Starting validation of {} players", players.size());
         
-        for (Player player : players) {
-            ValidationRules.ValidationResult result = validationRules.validatePlayer(player);
-            
-            if (result.isValid()) {
-                validPlayers.add(player);
-                if (result.hasWarnings()) {
-                    warningCount += result.getWarningCount();
-                    logger.warn("Player {} has warnings: {}", player.getPlayerId(), result.getWarnings());
-                }
-            } else {
-                errorCount += result.getErrorCount();
-                logger.error("Player {} failed validation: {}", player.getPlayerId(), result.getErrors());
-            }
-        }
+        List<Player> validPlayers = validate(players, this::checkPlayer, diagnostics);
         
         logger.info("Player validation completed: {} valid, {} errors, {} warnings", 
-            validPlayers.size(), errorCount, warningCount);
+            validPlayers.size(), diagnostics.getErrorCount(), diagnostics.getWarningCount());
+        logFailureSummary("Player", diagnostics);
         
         return validPlayers;
     }
@@ -93,30 +100,272 @@ public class DataValidator {
             return new ArrayList<>();
         }
         
-        List<Game> validGames = new ArrayList<>();
-        int errorCount = 0;
-        int warningCount = 0;
+        ValidationDiagnostics diagnostics = new ValidationDiagnostics();
         
         logger.info("Starting validation of {} games", games.size());
         
-        for (Game game : games) {
-            ValidationRules.ValidationResult result = validationRules.validateGame(game);
+        List<Game> validGames = validate(games, this::checkGame, diagnostics);
+        
+        logger.info("Game validation completed: {} valid, {} errors, {} warnings", 
+            validGames.size(), diagnostics.getErrorCount(), diagnostics.getWarningCount());
+        logFailureSummary("Game", diagnostics);
+        
+        return validGames;
+    }
+    
+    /**
+     * Validates a columnar batch with {@link ValidationRules#checkGames}, which runs each rule over
+     * one column at a time, and returns a new batch holding only the valid games.
+     */
+    public GameBatch validateGames(GameBatch games) {
+        logger.info("Starting columnar validation of {} games", games.size());
+        
+        long[] codes = validationRules.checkGames(games);
+        boolean[] keep = screen("Game", codes, games.gameIds(), games::row);
+        GameBatch validGames = games.select(keep);
+        
+        logger.info("Game validation completed: {} valid of {}", validGames.size(), games.size());
+        return validGames;
+    }
+    
+    public PlayerBatch validatePlayers(PlayerBatch players) {
+        logger.info("Starting columnar validation of {} players", players.size());
+        
+        long[] codes = validationRules.checkPlayers(players);
+        boolean[] keep = screen("Player", codes, players.playerIds(), players::row);
+        PlayerBatch validPlayers = players.select(keep);
+        
+        logger.info("Player validation completed: {} valid of {}", validPlayers.size(), players.size());
+        return validPlayers;
+    }
+    
+    // Turns per-row codes into keep flags, recording failures; rows are only materialized for logging
+    private boolean[] screen(String entityName, long[] codes, String[] ids, IntFunction<Object> row) {
+        ValidationDiagnostics diagnostics = new ValidationDiagnostics();
+        boolean[] keep = new boolean[codes.length];
+        boolean debug = logger.isDebugEnabled();
+        
+        for (int i = 0; i < codes.length; i++) {
+            if (codes[i] == 0L) {
+                keep[i] = true;
+                continue;
+            }
+            diagnostics.record(codes[i], ids[i]);
+            if (debug || recordLogGate.tryAcquire()) {
+                logRecord(entityName, ids[i], codes[i], row.apply(i), debug);
+            }
+            keep[i] = ValidationRules.isValid(codes[i]);
+        }
+        
+        logger.info("{} validation: {} errors, {} warnings", entityName, diagnostics.getErrorCount(), diagnostics.getWarningCount());
+        logFailureSummary(entityName, diagnostics);
+        return keep;
+    }
+    
+    // Runs the per-record check over the input, splitting it across the fork/join pool once it is large enough
+    private <T> List<T> validate(List<T> records, BiPredicate<T, ValidationDiagnostics> check, ValidationDiagnostics diagnostics) {
+        if (!runsInParallel(records.size())) {
+            List<T> valid = new ArrayList<>();
+            for (T record : records) {
+                if (check.test(record, diagnostics)) {
+                    valid.add(record);
+                }
+            }
+            return valid;
+        }
+        
+        List<T> valid = new ArrayList<>(records.size());
+        for (T record : validateAndMap(records, check, Function.identity(), diagnostics)) {
+            if (record != null) {
+                valid.add(record);
+            }
+        }
+        return valid;
+    }
+    
+    // True when a list of this size is split across the validation pool
+    boolean runsInParallel(int recordCount) {
+        return parallelEnabled && recordCount >= parallelThreshold;
+    }
+    
+    /**
+     * Checks every record on the fork/join pool and maps the accepted ones, returning a list
+     * aligned with the input in which rejected records are null. Each leaf fills its own slice
+     * and records into its own ValidationDiagnostics, so workers never share mutable state;
+     * diagnostics are merged in input order as the task tree joins. Used by the fused
+     * {@link RecordTransformer} to run the whole stage in parallel.
+     */
+    @SuppressWarnings("unchecked")
+    <T, R> List<R> validateAndMap(List<T> records, BiPredicate<T, ValidationDiagnostics> check,
+                                  Function<? super T, ? extends R> mapper, ValidationDiagnostics diagnostics) {
+        ForkJoinPool pool = validationPool();
+        Object[] outputs = new Object[records.size()];
+        int grain = Math.max(MIN_GRAIN, records.size() / (pool.getParallelism() * 4));
+        diagnostics.merge(pool.invoke(new ValidationTask<>(records, check, mapper, outputs, 0, records.size(), grain)));
+        return (List<R>) Arrays.asList(outputs);
+    }
+    
+    private synchronized ForkJoinPool validationPool() {
+        if (validationPool == null) {
+            int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+            validationPool = new ForkJoinPool(threads, pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("etl-validate-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            }, null, false);
+        }
+        return validationPool;
+    }
+    
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (validationPool != null) {
+            validationPool.shutdown();
+        }
+    }
+    
+    // Per-record checks shared by the list-based validators and the fused RecordTransformer;
+    // clean records go through the bitmask fast path and never build a ValidationResult
+    boolean checkTeam(Team team, ValidationDiagnostics diagnostics) {
+        long codes = validationRules.checkTeam(team);
+        if (codes == 0L) {
+            return true;
+        }
+        
+        String teamId = team != null ? team.getTeamId() : null;
+        diagnostics.record(codes, teamId);
+        logRecord("Team", teamId, codes, team);
+        return ValidationRules.isValid(codes);
+    }
+    
+    boolean checkPlayer(Player player, ValidationDiagnostics diagnostics) {
+        long codes = validationRules.checkPlayer(player);
+        if (codes == 0L) {
+            return true;
+        }
+        
+        String playerId = player != null ? player.getPlayerId() : null;
+        diagnostics.record(codes, playerId);
+        logRecord("Player", playerId, codes, player);
+        return ValidationRules.isValid(codes);
+    }
+    
+    boolean checkGame(Game game, ValidationDiagnostics diagnostics) {
+        long codes = validationRules.checkGame(game);
+        if (codes == 0L) {
+            return true;
+        }
+        
+        String gameId = game != null ? game.getGameId() : null;
+        diagnostics.record(codes, gameId);
+        logRecord("Game", gameId, codes, game);
+        return ValidationRules.isValid(codes);
+    }
+    
+    // Per-record messages go to DEBUG, or to ERROR/WARN for a sampled, rate-limited subset of failures
+    private void logRecord(String entityName, String recordId, long codes, Object record) {
+        boolean debug = logger.isDebugEnabled();
+        if (debug || recordLogGate.tryAcquire()) {
+            logRecord(entityName, recordId, codes, record, debug);
+        }
+    }
+    
+    private void logRecord(String entityName, String recordId, long codes, Object record, boolean debug) {
+        ValidationRules.ValidationResult result = validationRules.describe(codes, record);
+        if (debug) {
+            logger.debug("{} {} failed rules: errors={}, warnings={}",
+                entityName, recordId, result.getErrors(), result.getWarnings());
+        } else if (result.isValid()) {
+            logger.warn("{} {} has warnings (sampled): {}", entityName, recordId, result.getWarnings());
+        } else {
+            logger.error("{} {} failed validation (sampled): {}", entityName, recordId, result.getErrors());
+        }
+    }
+    
+    static void logFailureSummary(String entityName, ValidationDiagnostics diagnostics) {
+        if (diagnostics.getErrorCount() > 0) {
+            logger.warn("{} validation errors by rule (records dropped): {}", entityName, diagnostics.errorSummary());
+        }
+        if (diagnostics.getWarningCount() > 0) {
+            logger.warn("{} validation warnings by rule (records kept): {}", entityName, diagnostics.warningSummary());
+        }
+    }
+    
+    @PostConstruct
+    void configureRecordLogging() {
+        recordLogGate = new SampledLogGate(logSampleEvery, logMaxPerSecond);
+    }
+    
+    // Lets through every sampleEvery-th call, at most maxPerSecond of them in any wall-clock second
+    public static class SampledLogGate {
+        private final int sampleEvery;
+        private final int maxPerSecond;
+        private final AtomicLong seen = new AtomicLong();
+        private final AtomicInteger emitted = new AtomicInteger();
+        private volatile long currentSecond;
+        
+        public SampledLogGate(int sampleEvery, int maxPerSecond) {
+            this.sampleEvery = sampleEvery;
+            this.maxPerSecond = maxPerSecond;
+        }
+        
+        public boolean tryAcquire() {
+            if (sampleEvery <= 0 || seen.incrementAndGet() % sampleEvery != 0) {
+                return false;
+            }
             
-            if (result.isValid()) {
-                validGames.add(game);
-                if (result.hasWarnings()) {
-                    warningCount += result.getWarningCount();
-                    logger.warn("Game {} has warnings: {}", game.getGameId(), result.getWarnings());
+            long second = System.currentTimeMillis() / 1000;
+            if (second != currentSecond) {
+                synchronized (this) {
+                    if (second != currentSecond) {
+                        emitted.set(0);
+                        currentSecond = second;
+                    }
                 }
-            } else {
-                errorCount += result.getErrorCount();
-                logger.error("Game {} failed validation: {}", game.getGameId(), result.getErrors());
             }
+            return emitted.incrementAndGet() <= maxPerSecond;
         }
+    }
+    
+    private static class ValidationTask<T> extends RecursiveTask<ValidationDiagnostics> {
+        private final List<T> records;
+        private final BiPredicate<T, ValidationDiagnostics> check;
+        private final Function<? super T, ?> mapper;
+        private final Object[] outputs;
+        private final int from;
+        private final int to;
+        private final int grain;
         
-        logger.info("Game validation completed: {} valid, {} errors, {} warnings", 
-            validGames.size(), errorCount, warningCount);
+        ValidationTask(List<T> records, BiPredicate<T, ValidationDiagnostics> check, Function<? super T, ?> mapper,
+                       Object[] outputs, int from, int to, int grain) {
+            this.records = records;
+            this.check = check;
+            this.mapper = mapper;
+            this.outputs = outputs;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
         
-        return validGames;
+        @Override
+        protected ValidationDiagnostics compute() {
+            if (to - from <= grain) {
+                ValidationDiagnostics diagnostics = new ValidationDiagnostics();
+                for (int i = from; i < to; i++) {
+                    T record = records.get(i);
+                    outputs[i] = check.test(record, diagnostics) ? mapper.apply(record) : null;
+                }
+                return diagnostics;
+            }
+            
+            int mid = (from + to) >>> 1;
+            ValidationTask<T> left = new ValidationTask<>(records, check, mapper, outputs, from, mid, grain);
+            left.fork();
+            ValidationDiagnostics right = new ValidationTask<>(records, check, mapper, outputs, mid, to, grain).compute();
+            ValidationDiagnostics diagnostics = left.join();
+            diagnostics.merge(right);
+            return diagnostics;
+        }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.sportsdata.etl.services.transformers;
+
+import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.Team;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Fused transformation stage: validates, cleans and standardizes each record in a single pass
+ * and builds one output object per record. Produces the same output as running
+ * {@link DataValidator}, {@link DataCleaner} and {@link DataStandardizer} one after another.
+ * Lists at or above {@code etl.validation.parallel.threshold} are split across the validation
+ * fork/join pool, as the list-based validator does.
+ */
+@Component
+public class RecordTransformer {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RecordTransformer.class);
+    
+    @Autowired
+    private DataValidator dataValidator;
+    
+    @Autowired
+    private DataCleaner dataCleaner;
+    
+    @Autowired
+    private DataStandardizer dataStandardizer;
+    
+    public List<Team> transformTeams(List<Team> teams) {
+        if (teams == null || teams.isEmpty()) {
+            logger.info("No teams to transform");
+            return new ArrayList<>();
+        }
+        
+        logger.info("Starting fused transformation of {} teams", teams.size());
+        return transformAll(teams, newTeamStage());
+    }
+    
+    public List<Player> transformPlayers(List<Player> players) {
+        if (players == null || players.isEmpty()) {
+            logger.info("No players to transform");
+            return new ArrayList<>();
+        }
+        
+        logger.info("Starting fused transformation of {} players", players.size());
+        return transformAll(players, newPlayerStage());
+    }
+    
+    public List<Game> transformGames(List<Game> games) {
+        if (games == null || games.isEmpty()) {
+            logger.info("No games to transform");
+            return new ArrayList<>();
+        }
+        
+        logger.info("Starting fused transformation of {} games", games.size());
+        return transformAll(games, newGameStage());
+    }
+    
+    /**
+     * Creates a per-record team stage for callers that see records one at a time. Each stage
+     * keeps its own duplicate tracking and counts, so use one stage per run.
+     */
+    public RecordStage<Team> newTeamStage() {
+        return new RecordStage<>("Team", dataValidator::checkTeam, Team::getTeamId, this::transformTeam);
+    }
+    
+    public RecordStage<Player> newPlayerStage() {
+        return new RecordStage<>("Player", dataValidator::checkPlayer, Player::getPlayerId, this::transformPlayer);
+    }
+    
+    public RecordStage<Game> newGameStage() {
+        return new RecordStage<>("Game", dataValidator::checkGame, Game::getGameId, this::transformGame);
+    }
+    
+    private <T> List<T> transformAll(List<T> records, RecordStage<T> stage) {
+        List<T> transformedRecords = new ArrayList<>(records.size());
+        
+        if (dataValidator.runsInParallel(records.size())) {
+            // Validation and transformation run on the pool; duplicates are then dropped in input
+            // order, which keeps the same records as the sequential path since ids are not transformed
+            List<T> outputs = dataValidator.validateAndMap(records, stage.validator, stage.transformer, stage.diagnostics);
+            for (int i = 0; i < outputs.size(); i++) {
+                if (outputs.get(i) != null && stage.acceptUnique(records.get(i))) {
+                    transformedRecords.add(outputs.get(i));
+                }
+            }
+        } else {
+            for (T record : records) {
+                T transformed = stage.apply(record);
+                if (transformed != null) {
+                    transformedRecords.add(transformed);
+                }
+            }
+        }
+        
+        stage.logSummary();
+        return transformedRecords;
+    }
+    
+    private Team transformTeam(Team team) {
+        Team transformedTeam = new Team();
+        transformedTeam.setTeamId(team.getTeamId());
+        transformedTeam.setName(dataStandardizer.standardizeName(dataCleaner.cleanStringField(team.getName())));
+        transformedTeam.setCity(dataStandardizer.standardizeName(dataCleaner.cleanStringField(team.getCity())));
+        transformedTeam.setLeague(dataStandardizer.standardizeLeague(dataCleaner.cleanStringField(team.getLeague())));
+        transformedTeam.setFounded(team.getFounded());
+        transformedTeam.setVenue(dataStandardizer.standardizeName(dataCleaner.cleanStringField(team.getVenue())));
+        
+        return transformedTeam;
+    }
+    
+    private Player transformPlayer(Player player) {
+        Player transformedPlayer = new Player();
+        transformedPlayer.setPlayerId(player.getPlayerId());
+        transformedPlayer.setName(dataStandardizer.standardizeName(dataCleaner.cleanStringField(player.getName())));
+        transformedPlayer.setTeamId(player.getTeamId());
+        transformedPlayer.setPosition(dataStandardizer.standardizePosition(dataCleaner.cleanStringField(player.getPosition())));
+        transformedPlayer.setAge(player.getAge());
+        transformedPlayer.setStatistics(player.getStatistics());
+        
+        return transformedPlayer;
+    }
+    
+    private Game transformGame(Game game) {
+        Game transformedGame = new Game();
+        transformedGame.setGameId(game.getGameId());
+        transformedGame.setHomeTeamId(game.getHomeTeamId());
+        transformedGame.setAwayTeamId(game.getAwayTeamId());
+        transformedGame.setDate(game.getDate());
+        transformedGame.setHomeScore(game.getHomeScore());
+        transformedGame.setAwayScore(game.getAwayScore());
+        transformedGame.setStatus(dataStandardizer.standardizeGameStatus(dataCleaner.cleanStringField(game.getStatus())));
+        
+        return transformedGame;
+    }
+    
+    // Validates, de-duplicates and transforms one record at a time; not thread-safe
+    public static class RecordStage<T> {
+        private final String entityName;
+        private final BiPredicate<T, ValidationDiagnostics> validator;
+        private final Function<T, String> idExtractor;
+        private final UnaryOperator<T> transformer;
+        private final Set<String> seenIds = new HashSet<>();
+        private final ValidationDiagnostics diagnostics = new ValidationDiagnostics();
+        private int acceptedCount;
+        private int duplicateCount;
+        
+        RecordStage(String entityName, BiPredicate<T, ValidationDiagnostics> validator,
+                    Function<T, String> idExtractor, UnaryOperator<T> transformer) {
+            this.entityName = entityName;
+            this.validator = validator;
+            this.idExtractor = idExtractor;
+            this.transformer = transformer;
+        }
+        
+        /**
+         * Returns the transformed record, or null if it failed validation or duplicates an
+         * earlier record.
+         */
+        public T apply(T record) {
+            if (!validator.test(record, diagnostics) || !acceptUnique(record)) {
+                return null;
+            }
+            return transformer.apply(record);
+        }
+        
+        // Counts a valid record as accepted unless its id was already seen
+        private boolean acceptUnique(T record) {
+            String id = idExtractor.apply(record);
+            if (!seenIds.add(id)) {
+                duplicateCount++;
+                logger.debug("Duplicate {} found and removed: {}", entityName.toLowerCase(), id);
+                return false;
+            }
+            
+            acceptedCount++;
+            return true;
+        }
+        
+        public void logSummary() {
+            logger.info("{} transformation completed: {} valid, {} errors, {} warnings, {} duplicates removed",
+                entityName, acceptedCount, diagnostics.getErrorCount(), diagnostics.getWarningCount(), duplicateCount);
+            DataValidator.logFailureSummary(entityName, diagnostics);
+        }
+        
+        public int getAcceptedCount() {
+            return acceptedCount;
+        }
+    }
+}
\ No newline at end of file
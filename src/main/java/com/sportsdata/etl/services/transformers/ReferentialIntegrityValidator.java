@@ -0,0 +1,214 @@
+package com.sportsdata.etl.services.transformers;
+
+import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.GameBatch;
+import com.sportsdata.etl.models.GameView;
+import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.PlayerBatch;
+import com.sportsdata.etl.models.PlayerView;
+import com.sportsdata.etl.models.Team;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+/**
+ * Checks that players and games only reference extracted teams. A compact {@link TeamIdIndex}
+ * is built from the teams once, then players and games are checked against it concurrently.
+ * Streamed runs use a {@link ReferenceCheck} instead, which accepts the entities in any order.
+ * Orphans are reported as counts plus a bounded sample of ids, not dropped.
+ */
+@Component
+public class ReferentialIntegrityValidator {
+    
+    private static final Logger logger = LoggerFactory.getLogger(ReferentialIntegrityValidator.class);
+    private static final int SAMPLE_SIZE = 10;
+    
+    @Value("${etl.validation.team-index.bloom-threshold:1000000}")
+    private int bloomThreshold;
+    
+    public IntegrityResult validate(List<Team> teams, List<Player> players, List<Game> games, Executor executor) {
+        TeamIdIndex index = TeamIdIndex.build(teams != null ? teams : List.of(), bloomThreshold);
+        List<Player> playerList = players != null ? players : List.of();
+        List<Game> gameList = games != null ? games : List.of();
+        
+        CompletableFuture<OrphanTally> orphanPlayers = CompletableFuture.supplyAsync(() -> playerList.parallelStream()
+            .filter(player -> isOrphan(index, player.getTeamId()))
+            .map(Player::getPlayerId)
+            .collect(OrphanTally.collector()), executor);
+        CompletableFuture<OrphanTally> orphanGames = CompletableFuture.supplyAsync(() -> gameList.parallelStream()
+            .filter(game -> isOrphan(index, game.getHomeTeamId()) || isOrphan(index, game.getAwayTeamId()))
+            .map(Game::getGameId)
+            .collect(OrphanTally.collector()), executor);
+        
+        IntegrityResult result = new IntegrityResult(orphanPlayers.join(), orphanGames.join(), index.isApproximate());
+        logResult(result, playerList.size(), gameList.size());
+        return result;
+    }
+    
+    // Same check over columnar batches, reading the team id columns without building rows
+    public IntegrityResult validate(List<Team> teams, PlayerBatch players, GameBatch games, Executor executor) {
+        TeamIdIndex index = TeamIdIndex.build(teams != null ? teams : List.of(), bloomThreshold);
+        String[] playerTeamIds = players.teamIds();
+        String[] homeTeamIds = games.homeTeamIds();
+        String[] awayTeamIds = games.awayTeamIds();
+        
+        CompletableFuture<OrphanTally> orphanPlayers = CompletableFuture.supplyAsync(() -> IntStream.range(0, players.size())
+            .parallel()
+            .filter(i -> isOrphan(index, playerTeamIds[i]))
+            .mapToObj(i -> players.playerIds()[i])
+            .collect(OrphanTally.collector()), executor);
+        CompletableFuture<OrphanTally> orphanGames = CompletableFuture.supplyAsync(() -> IntStream.range(0, games.size())
+            .parallel()
+            .filter(i -> isOrphan(index, homeTeamIds[i]) || isOrphan(index, awayTeamIds[i]))
+            .mapToObj(i -> games.gameIds()[i])
+            .collect(OrphanTally.collector()), executor);
+        
+        IntegrityResult result = new IntegrityResult(orphanPlayers.join(), orphanGames.join(), index.isApproximate());
+        logResult(result, players.size(), games.size());
+        return result;
+    }
+    
+    public ReferenceCheck newReferenceCheck() {
+        return new ReferenceCheck();
+    }
+    
+    private static void logResult(IntegrityResult result, long playerCount, long gameCount) {
+        if (result.getOrphanPlayers() > 0 || result.getOrphanGames() > 0) {
+            logger.warn("Referential integrity check found {} players and {} games referencing unknown teams (e.g. players {}, games {})",
+                result.getOrphanPlayers(), result.getOrphanGames(),
+                result.getSamplePlayerIds(), result.getSampleGameIds());
+        } else {
+            logger.info("Referential integrity check passed for {} players and {} games", playerCount, gameCount);
+        }
+    }
+    
+    // Missing team ids are a validation error of their own, not a broken reference
+    private static boolean isOrphan(TeamIdIndex index, String teamId) {
+        return teamId != null && !index.contains(teamId);
+    }
+    
+    /**
+     * Order-independent check for records that arrive one at a time. Players and games are
+     * tallied by the team ids they reference and resolved against the teams in {@link #finish},
+     * so memory depends on the number of distinct team ids, not on the record count. Each entity
+     * may be added from its own thread; {@code finish} must run after all of them.
+     */
+    public static class ReferenceCheck {
+        private final Set<String> teamIds = new HashSet<>();
+        private final Map<String, OrphanTally> playersByTeam = new HashMap<>();
+        // Keyed by home and away team id, so a game is counted once even if both teams are unknown
+        private final Map<List<String>, OrphanTally> gamesByTeams = new HashMap<>();
+        private long playerCount;
+        private long gameCount;
+        
+        private ReferenceCheck() {}
+        
+        public void addTeam(Team team) {
+            if (team.getTeamId() != null) {
+                teamIds.add(team.getTeamId());
+            }
+        }
+        
+        public void addPlayer(PlayerView player) {
+            playerCount++;
+            if (player.getTeamId() != null) {
+                playersByTeam.computeIfAbsent(player.getTeamId(), teamId -> new OrphanTally()).add(player.getPlayerId());
+            }
+        }
+        
+        public void addGame(GameView game) {
+            gameCount++;
+            gamesByTeams.computeIfAbsent(Arrays.asList(game.getHomeTeamId(), game.getAwayTeamId()), teams -> new OrphanTally())
+                .add(game.getGameId());
+        }
+        
+        public IntegrityResult finish() {
+            OrphanTally orphanPlayers = new OrphanTally();
+            playersByTeam.forEach((teamId, tally) -> {
+                if (!teamIds.contains(teamId)) {
+                    orphanPlayers.merge(tally);
+                }
+            });
+            
+            OrphanTally orphanGames = new OrphanTally();
+            gamesByTeams.forEach((teams, tally) -> {
+                if (isUnknownTeam(teams.get(0)) || isUnknownTeam(teams.get(1))) {
+                    orphanGames.merge(tally);
+                }
+            });
+            
+            IntegrityResult result = new IntegrityResult(orphanPlayers, orphanGames, false);
+            logResult(result, playerCount, gameCount);
+            return result;
+        }
+        
+        private boolean isUnknownTeam(String teamId) {
+            return teamId != null && !teamIds.contains(teamId);
+        }
+    }
+    
+    // Number of ids seen plus the first SAMPLE_SIZE of them
+    private static class OrphanTally {
+        private final List<String> sample = new ArrayList<>();
+        private long count;
+        
+        static Collector<String, OrphanTally, OrphanTally> collector() {
+            return Collector.of(OrphanTally::new, OrphanTally::add, OrphanTally::merge);
+        }
+        
+        void add(String id) {
+            count++;
+            if (sample.size() < SAMPLE_SIZE) {
+                sample.add(id);
+            }
+        }
+        
+        OrphanTally merge(OrphanTally other) {
+            count += other.count;
+            for (String id : other.sample) {
+                if (sample.size() == SAMPLE_SIZE) {
+                    break;
+                }
+                sample.add(id);
+            }
+            return this;
+        }
+    }
+    
+    public static class IntegrityResult {
+        private final long orphanPlayers;
+        private final long orphanGames;
+        private final List<String> samplePlayerIds;
+        private final List<String> sampleGameIds;
+        private final boolean approximate;
+        
+        private IntegrityResult(OrphanTally orphanPlayers, OrphanTally orphanGames, boolean approximate) {
+            this.orphanPlayers = orphanPlayers.count;
+            this.orphanGames = orphanGames.count;
+            this.samplePlayerIds = orphanPlayers.sample;
+            this.sampleGameIds = orphanGames.sample;
+            this.approximate = approximate;
+        }
+        
+        public long getOrphanPlayers() { return orphanPlayers; }
+        public long getOrphanGames() { return orphanGames; }
+        public List<String> getSamplePlayerIds() { return samplePlayerIds; }
+        public List<String> getSampleGameIds() { return sampleGameIds; }
+        // True when the Bloom filter index was used, so counts may be slightly low
+        public boolean isApproximate() { return approximate; }
+    }
+}
\ No newline at end of file
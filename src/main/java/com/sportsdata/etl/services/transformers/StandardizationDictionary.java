@@ -0,0 +1,50 @@
+package com.sportsdata.etl.services.transformers;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable alias-to-canonical lookup table. Keys are normalized to lower case once when the table
+ * is built, so a case-insensitive lookup is a single hash probe however many aliases there are.
+ */
+public final class StandardizationDictionary {
+    
+    private final Map<String, String> exact;
+    private final Map<String, String> normalized;
+    
+    private StandardizationDictionary(Map<String, String> exact, Map<String, String> normalized) {
+        this.exact = exact;
+        this.normalized = normalized;
+    }
+    
+    public static StandardizationDictionary of(Map<String, String> aliases) {
+        Map<String, String> exact = new HashMap<>(aliases.size() * 2);
+        Map<String, String> normalized = new HashMap<>(aliases.size() * 2);
+        
+        for (Map.Entry<String, String> alias : aliases.entrySet()) {
+            String key = alias.getKey().trim();
+            exact.put(key, alias.getValue());
+            // Exact-case spellings still win at lookup time if two aliases differ only by case
+            normalized.putIfAbsent(normalize(key), alias.getValue());
+        }
+        return new StandardizationDictionary(Map.copyOf(exact), Map.copyOf(normalized));
+    }
+    
+    /**
+     * Returns the canonical value for an already trimmed key, or null if the key is not a known alias.
+     */
+    public String lookup(String key) {
+        String canonical = exact.get(key);
+        return canonical != null ? canonical : normalized.get(normalize(key));
+    }
+    
+    public int size() {
+        return exact.size();
+    }
+    
+    // toLowerCase returns the same instance when the key is already lower case
+    private static String normalize(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+}
\ No newline at end of file
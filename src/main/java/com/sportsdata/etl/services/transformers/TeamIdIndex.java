@@ -0,0 +1,101 @@
+package com.sportsdata.etl.services.transformers;
+
+import com.sportsdata.etl.models.Team;
+import com.sportsdata.etl.utils.Hashing;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Read-only membership index over the extracted team ids. Up to the Bloom threshold it is an
+ * exact hash set; beyond that a Bloom filter keeps memory at about ten
+ * bits per id, at the cost of roughly 1% of unknown ids passing as known.
+ */
+public abstract class TeamIdIndex {
+    
+    public static TeamIdIndex build(List<Team> teams, int bloomThreshold) {
+        if (teams.size() > bloomThreshold) {
+            return new BloomFilterIndex(teams);
+        }
+        return new ExactIndex(teams);
+    }
+    
+    public abstract boolean contains(String teamId);
+    
+    // True when a hit may be a false positive
+    public abstract boolean isApproximate();
+    
+    static class ExactIndex extends TeamIdIndex {
+        private final Set<String> teamIds;
+        
+        ExactIndex(List<Team> teams) {
+            this.teamIds = new HashSet<>(teams.size() * 2);
+            for (Team team : teams) {
+                if (team.getTeamId() != null) {
+                    teamIds.add(team.getTeamId());
+                }
+            }
+        }
+        
+        @Override
+        public boolean contains(String teamId) {
+            return teamIds.contains(teamId);
+        }
+        
+        @Override
+        public boolean isApproximate() {
+            return false;
+        }
+    }
+    
+    static class BloomFilterIndex extends TeamIdIndex {
+        private static final double FALSE_POSITIVE_RATE = 0.01;
+        
+        private final long[] bits;
+        private final int bitCount;
+        private final int hashCount;
+        
+        BloomFilterIndex(List<Team> teams) {
+            int expected = Math.max(teams.size(), 1);
+            this.bitCount = (int) Math.ceil(-expected * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)));
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+            this.bits = new long[(bitCount + 63) / 64];
+            for (Team team : teams) {
+                if (team.getTeamId() != null) {
+                    add(team.getTeamId());
+                }
+            }
+        }
+        
+        // The two halves of the FNV-1a hash drive double hashing
+        private void add(String teamId) {
+            long hash = Hashing.fnv1a64(teamId);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                bits[bit >>> 6] |= 1L << bit;
+            }
+        }
+        
+        @Override
+        public boolean contains(String teamId) {
+            long hash = Hashing.fnv1a64(teamId);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashCount; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        @Override
+        public boolean isApproximate() {
+            return true;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.sportsdata.etl.services.transformers;
+
+/**
+ * Single-pass text normalization shared by {@link DataCleaner} and {@link DataStandardizer}: trims,
+ * collapses whitespace runs to one space and optionally title-cases each word. The input instance
+ * is returned as is when nothing changes, and no buffer is allocated until the first changed char.
+ */
+public final class TextNormalizer {
+    
+    private TextNormalizer() {}
+    
+    // Trims and collapses whitespace; returns "" when nothing but whitespace is left
+    public static String normalizeSpace(String value) {
+        return normalize(value, false);
+    }
+    
+    // As normalizeSpace, then upper-cases the first letter of each word and lower-cases the rest
+    public static String titleCase(String value) {
+        return normalize(value, true);
+    }
+    
+    private static String normalize(String value, boolean titleCase) {
+        int length = value.length();
+        char[] out = null;
+        int written = 0;
+        int spaceStart = -1;
+        
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (isSpace(c)) {
+                // Leading whitespace is dropped; inner runs become one space once the next word starts
+                if (written > 0 && spaceStart < 0) {
+                    spaceStart = i;
+                }
+                continue;
+            }
+            
+            boolean wordStart = written == 0 || spaceStart >= 0;
+            if (spaceStart >= 0) {
+                out = emit(value, out, written++, ' ', spaceStart);
+                spaceStart = -1;
+            }
+            if (titleCase) {
+                c = wordStart ? Character.toUpperCase(c) : Character.toLowerCase(c);
+            }
+            out = emit(value, out, written++, c, i);
+        }
+        
+        if (out != null) {
+            return new String(out, 0, written);
+        }
+        // Unchanged prefix: only trailing whitespace was dropped, if anything
+        return written == length ? value : value.substring(0, written);
+    }
+    
+    // Writes c at position, allocating the buffer the first time the output diverges from the input
+    private static char[] emit(String value, char[] out, int position, char c, int sourceIndex) {
+        if (out == null) {
+            if (position == sourceIndex && value.charAt(sourceIndex) == c) {
+                return null;
+            }
+            out = new char[value.length()];
+            value.getChars(0, position, out, 0);
+        }
+        out[position] = c;
+        return out;
+    }
+    
+    // Everything StringUtils.trim or normalizeSpace strips: control chars, Unicode whitespace and non-breaking space
+    private static boolean isSpace(char c) {
+        return c <= ' ' || Character.isWhitespace(c) || c == '\u00A0';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.sportsdata.etl.services.transformers;
+
+import com.sportsdata.etl.services.quality.ValidationCode;
+import com.sportsdata.etl.services.quality.ValidationRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-run validation failures aggregated by rule code, with a bounded sample of record IDs
+ * per code. Not thread-safe; parallel validation keeps one instance per task and merges them.
+ */
+public class ValidationDiagnostics {
+    
+    static final int MAX_SAMPLES = 5;
+    
+    private static final ValidationCode[] CODES = ValidationCode.values();
+    
+    private final long[] codeCounts = new long[CODES.length];
+    private final String[][] samples = new String[CODES.length][];
+    private final int[] sampleCounts = new int[CODES.length];
+    private int errorCount;
+    private int warningCount;
+    
+    // Records the failed rules of one record; does not allocate once a code's sample is full
+    public void record(long codes, String recordId) {
+        errorCount += ValidationRules.errorCount(codes);
+        warningCount += ValidationRules.warningCount(codes);
+        
+        for (long remaining = codes; remaining != 0; remaining &= remaining - 1) {
+            int ordinal = Long.numberOfTrailingZeros(remaining);
+            codeCounts[ordinal]++;
+            addSample(ordinal, recordId);
+        }
+    }
+    
+    public void merge(ValidationDiagnostics other) {
+        errorCount += other.errorCount;
+        warningCount += other.warningCount;
+        
+        for (int ordinal = 0; ordinal < CODES.length; ordinal++) {
+            codeCounts[ordinal] += other.codeCounts[ordinal];
+            for (int i = 0; i < other.sampleCounts[ordinal]; i++) {
+                addSample(ordinal, other.samples[ordinal][i]);
+            }
+        }
+    }
+    
+    private void addSample(int ordinal, String recordId) {
+        if (sampleCounts[ordinal] >= MAX_SAMPLES) {
+            return;
+        }
+        if (samples[ordinal] == null) {
+            samples[ordinal] = new String[MAX_SAMPLES];
+        }
+        samples[ordinal][sampleCounts[ordinal]++] = recordId;
+    }
+    
+    public int getErrorCount() { return errorCount; }
+    public int getWarningCount() { return warningCount; }
+    
+    public boolean hasFailures() {
+        return errorCount > 0 || warningCount > 0;
+    }
+    
+    public Map<ValidationCode, Long> getCodeCounts() {
+        Map<ValidationCode, Long> counts = new EnumMap<>(ValidationCode.class);
+        for (int ordinal = 0; ordinal < CODES.length; ordinal++) {
+            if (codeCounts[ordinal] > 0) {
+                counts.put(CODES[ordinal], codeCounts[ordinal]);
+            }
+        }
+        return counts;
+    }
+    
+    public List<String> getSampleIds(ValidationCode code) {
+        int ordinal = code.ordinal();
+        if (sampleCounts[ordinal] == 0) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(Arrays.asList(samples[ordinal]).subList(0, sampleCounts[ordinal]));
+    }
+    
+    // Failed error rules, whose records were dropped, e.g. "PLAYER_AGE_TOO_YOUNG=12 e.g. [P1, P7]"
+    public String errorSummary() {
+        return summary(true);
+    }
+    
+    // Warning-only rules, whose records were kept
+    public String warningSummary() {
+        return summary(false);
+    }
+    
+    private String summary(boolean errors) {
+        StringBuilder summary = new StringBuilder();
+        for (int ordinal = 0; ordinal < CODES.length; ordinal++) {
+            if (codeCounts[ordinal] == 0 || CODES[ordinal].isError() != errors) {
+                continue;
+            }
+            if (summary.length() > 0) {
+                summary.append(", ");
+            }
+            summary.append(CODES[ordinal]).append('=').append(codeCounts[ordinal])
+                .append(" e.g. ").append(getSampleIds(CODES[ordinal]));
+        }
+        return summary.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.sportsdata.etl.utils;
+
+// Non-cryptographic string hashing shared by the probabilistic sketches and indexes
+public final class Hashing {
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    private Hashing() {}
+    
+    // 64-bit FNV-1a over the characters of the value
+    public static long fnv1a64(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
\ No newline at end of file
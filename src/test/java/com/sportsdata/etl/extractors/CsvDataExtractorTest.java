@@ -12,6 +12,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -131,6 +133,33 @@ class CsvDataExtractorTest {
         assertTrue(teams.isEmpty());
     }
     
+    @Test
+    void testStreamTeams_SkipsInvalidRows() throws IOException {
+        String csvContent = """
+            teamId,name,city,league,founded,venue
+            LAL,Los Angeles Lakers,Los Angeles,NBA,1947-01-01,Crypto.com Arena
+            BAD,Bad Team,Nowhere,NBA,invalid-date,Nowhere Arena
+            GSW,Golden State Warriors,San Francisco,NBA,1946-01-01,Chase Center
+            """;
+        
+        Path csvFile = tempDir.resolve("stream.csv");
+        Files.writeString(csvFile, csvContent);
+        
+        List<String> teamIds;
+        try (Stream<Team> teams = csvExtractor.streamTeams(csvFile.toString())) {
+            teamIds = teams.map(Team::getTeamId).collect(Collectors.toList());
+        }
+        
+        assertEquals(List.of("LAL", "GSW"), teamIds);
+    }
+    
+    @Test
+    void testStreamTeams_NonExistentFile() {
+        try (Stream<Team> teams = csvExtractor.streamTeams("non_existent_file.csv")) {
+            assertEquals(0, teams.count());
+        }
+    }
+    
     @Test
     void testValidateCsvStructure_ValidFile() throws IOException {
         String csvContent = """
@@ -0,0 +1,102 @@
+package com.sportsdata.etl.extractors;
+
+import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.services.extractors.JsonApiExtractor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonApiExtractorTest {
+    
+    private JsonApiExtractor jsonExtractor;
+    
+    @TempDir
+    Path tempDir;
+    
+    @BeforeEach
+    void setUp() {
+        jsonExtractor = new JsonApiExtractor();
+    }
+    
+    @Test
+    void testExtractPlayers_TopLevelArray() throws IOException {
+        String jsonContent = """
+            [
+              {"playerId": "P001", "name": "LeBron James", "teamId": "LAL", "position": "SF", "age": 39,
+               "statistics": {"gamesPlayed": 74, "points": 2168, "assists": 515}},
+              {"playerId": "P002", "name": "Stephen Curry", "teamId": "GSW", "position": "PG", "age": 36}
+            ]
+            """;
+        
+        Path jsonFile = tempDir.resolve("players.json");
+        Files.writeString(jsonFile, jsonContent);
+        
+        List<Player> players = jsonExtractor.extractPlayers(jsonFile.toString());
+        
+        assertEquals(2, players.size());
+        
+        Player lebron = players.get(0);
+        assertEquals("P001", lebron.getPlayerId());
+        assertEquals("LAL", lebron.getTeamId());
+        assertEquals(39, lebron.getAge());
+        assertEquals(2168, lebron.getStatistics().getPoints());
+        
+        Player curry = players.get(1);
+        assertEquals("P002", curry.getPlayerId());
+        assertEquals(0, curry.getStatistics().getGamesPlayed());
+    }
+    
+    @Test
+    void testExtractPlayers_PlayersWrapper() throws IOException {
+        String jsonContent = """
+            {
+              "source": "feed",
+              "players": [
+                {"playerId": "P001", "name": "LeBron James", "teamId": "LAL", "position": "SF", "age": 39},
+                {"playerId": "P002", "name": "", "teamId": "GSW", "position": "PG", "age": 36}
+              ],
+              "meta": {"count": 2}
+            }
+            """;
+        
+        Path jsonFile = tempDir.resolve("wrapped.json");
+        Files.writeString(jsonFile, jsonContent);
+        
+        List<Player> players = jsonExtractor.extractPlayers(jsonFile.toString());
+        
+        assertEquals(1, players.size()); // Should skip player with missing name
+        assertEquals("P001", players.get(0).getPlayerId());
+    }
+    
+    @Test
+    void testExtractPlayers_SingleObject() throws IOException {
+        String jsonContent = """
+            {"playerId": "P001", "name": "LeBron James", "teamId": "LAL", "position": "SF", "age": 39,
+             "statistics": {"gamesPlayed": 74, "points": 2168, "assists": 515}}
+            """;
+        
+        Path jsonFile = tempDir.resolve("single.json");
+        Files.writeString(jsonFile, jsonContent);
+        
+        List<Player> players = jsonExtractor.extractPlayers(jsonFile.toString());
+        
+        assertEquals(1, players.size());
+        assertEquals("LeBron James", players.get(0).getName());
+        assertEquals(515, players.get(0).getStatistics().getAssists());
+    }
+    
+    @Test
+    void testExtractPlayers_NonExistentFile() {
+        List<Player> players = jsonExtractor.extractPlayers("non_existent_file.json");
+        
+        assertTrue(players.isEmpty());
+    }
+}
\ No newline at end of file
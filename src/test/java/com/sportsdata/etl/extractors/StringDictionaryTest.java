@@ -0,0 +1,89 @@
+package com.sportsdata.etl.extractors;
+
+import com.sportsdata.etl.models.Team;
+import com.sportsdata.etl.services.extractors.CsvDataExtractor;
+import com.sportsdata.etl.services.extractors.StringDictionary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringDictionaryTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testCanonicalizeSharesEqualValues() {
+        StringDictionary dictionary = new StringDictionary();
+        String first = new String("Point Guard");
+        String second = new String("Point Guard");
+        
+        assertSame(first, dictionary.canonicalize(first));
+        assertSame(first, dictionary.canonicalize(second));
+        assertNull(dictionary.canonicalize(null));
+        assertEquals(1, dictionary.getDistinctCount());
+        assertEquals(1, dictionary.getSharedCount());
+        assertTrue(dictionary.getBytesSaved() > 0);
+        assertTrue(dictionary.sameValue(first, dictionary.canonicalize(new String("Point Guard"))));
+    }
+    
+    @Test
+    void testExtractedTeamsShareLeagueAndCity() throws IOException {
+        Path csvFile = tempDir.resolve("teams.csv");
+        Files.writeString(csvFile, """
+            teamId,name,city,league,founded,venue
+            LAL,Los Angeles Lakers,Los Angeles,NBA,1947-01-01,Crypto.com Arena
+            LAC,Los Angeles Clippers,Los Angeles,NBA,1970-01-01,Intuit Dome
+            """);
+        
+        StringDictionary dictionary = new StringDictionary();
+        CsvDataExtractor extractor = new CsvDataExtractor();
+        ReflectionTestUtils.setField(extractor, "stringDictionary", dictionary);
+        
+        List<Team> teams = extractor.extractTeams(csvFile.toString());
+        
+        assertEquals(2, teams.size());
+        assertSame(teams.get(0).getLeague(), teams.get(1).getLeague());
+        assertSame(teams.get(0).getCity(), teams.get(1).getCity());
+        assertEquals(2, dictionary.getSharedCount());
+    }
+    
+    @Test
+    void testUsageCountsOnlyItsOwnValues() {
+        StringDictionary dictionary = new StringDictionary();
+        dictionary.canonicalize("NBA");
+        dictionary.canonicalize(new String("NBA"));
+        
+        StringDictionary.Usage usage = dictionary.newUsage();
+        usage.canonicalize(new String("NBA"));
+        usage.canonicalize("WNBA");
+        usage.canonicalize(new String("WNBA"));
+        
+        assertEquals(1, usage.getDistinctAdded());
+        assertEquals(2, usage.getSharedCount());
+        assertEquals(dictionary.getBytesSaved() / 3 * 2, usage.getBytesSaved());
+        assertEquals(2, dictionary.getDistinctCount());
+        assertEquals(3, dictionary.getSharedCount());
+    }
+    
+    @Test
+    void testStopsGrowingAtMaxEntries() {
+        StringDictionary dictionary = new StringDictionary();
+        ReflectionTestUtils.setField(dictionary, "maxEntries", 2);
+        
+        dictionary.canonicalize("NBA");
+        dictionary.canonicalize("WNBA");
+        String overflow = new String("NCAA");
+        
+        assertSame(overflow, dictionary.canonicalize(overflow));
+        assertEquals(2, dictionary.getDistinctCount());
+    }
+}
\ No newline at end of file
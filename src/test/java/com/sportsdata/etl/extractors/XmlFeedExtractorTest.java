@@ -0,0 +1,172 @@
+package com.sportsdata.etl.extractors;
+
+import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.services.extractors.XmlFeedExtractor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XmlFeedExtractorTest {
+    
+    private XmlFeedExtractor xmlExtractor;
+    
+    @TempDir
+    Path tempDir;
+    
+    @BeforeEach
+    void setUp() {
+        xmlExtractor = new XmlFeedExtractor();
+    }
+    
+    @Test
+    void testExtractGames_ValidXml() throws IOException {
+        String xmlContent = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <games>
+                <game>
+                    <gameId>G001</gameId>
+                    <homeTeamId>LAL</homeTeamId>
+                    <awayTeamId>GSW</awayTeamId>
+                    <date>2024-01-15 19:30:00</date>
+                    <homeScore>118</homeScore>
+                    <awayScore>124</awayScore>
+                    <status>Final</status>
+                </game>
+                <game>
+                    <gameId>G002</gameId>
+                    <homeTeamId>BOS</homeTeamId>
+                    <awayTeamId>MIA</awayTeamId>
+                    <date>2024-01-20 20:00:00</date>
+                    <homeScore></homeScore>
+                    <status>Scheduled</status>
+                </game>
+            </games>
+            """;
+        
+        Path xmlFile = tempDir.resolve("games.xml");
+        Files.writeString(xmlFile, xmlContent);
+        
+        List<Game> games = xmlExtractor.extractGames(xmlFile.toString());
+        
+        assertEquals(2, games.size());
+        
+        Game first = games.get(0);
+        assertEquals("G001", first.getGameId());
+        assertEquals(LocalDateTime.of(2024, 1, 15, 19, 30), first.getDate());
+        assertEquals(118, first.getHomeScore());
+        assertEquals(124, first.getAwayScore());
+        
+        Game second = games.get(1);
+        assertNull(second.getHomeScore());
+        assertNull(second.getAwayScore());
+        assertEquals("Scheduled", second.getStatus());
+    }
+    
+    @Test
+    void testExtractGames_SkipsInvalidGames() throws IOException {
+        String xmlContent = """
+            <games>
+                <game>
+                    <gameId>G001</gameId>
+                    <homeTeamId>LAL</homeTeamId>
+                    <awayTeamId>LAL</awayTeamId>
+                    <date>2024-01-15 19:30:00</date>
+                    <status>Final</status>
+                </game>
+                <game>
+                    <gameId>G002</gameId>
+                    <homeTeamId>BOS</homeTeamId>
+                    <awayTeamId>MIA</awayTeamId>
+                    <date>2024-01-15</date>
+                    <status>Final</status>
+                </game>
+                <game>
+                    <gameId>G003</gameId>
+                    <homeTeamId>CHI</homeTeamId>
+                    <awayTeamId>NYK</awayTeamId>
+                    <date>2024-01-16 19:00:00</date>
+                    <homeScore>-1</homeScore>
+                    <status>Final</status>
+                </game>
+                <game>
+                    <gameId>G004</gameId>
+                    <homeTeamId>DEN</homeTeamId>
+                    <date>2024-01-16 19:00:00</date>
+                    <status>Final</status>
+                </game>
+            </games>
+            """;
+        
+        Path xmlFile = tempDir.resolve("invalid_games.xml");
+        Files.writeString(xmlFile, xmlContent);
+        
+        List<Game> games = xmlExtractor.extractGames(xmlFile.toString());
+        
+        assertTrue(games.isEmpty()); // Should skip same teams, bad date, negative score and missing fields
+    }
+    
+    @Test
+    void testExtractGames_TruncatedXmlYieldsNoGames() throws IOException {
+        String xmlContent = """
+            <games>
+                <game>
+                    <gameId>G001</gameId>
+                    <homeTeamId>LAL</homeTeamId>
+                    <awayTeamId>GSW</awayTeamId>
+                    <date>2024-01-15 19:30:00</date>
+                    <status>Final</status>
+                </game>
+                <game>
+                    <gameId>G002</gameId>
+                    <homeTeamId>BOS
+            """;
+        
+        Path xmlFile = tempDir.resolve("truncated_games.xml");
+        Files.writeString(xmlFile, xmlContent);
+        
+        assertTrue(xmlExtractor.extractGames(xmlFile.toString()).isEmpty());
+        assertEquals(0, xmlExtractor.extractGameBatch(xmlFile.toString()).size());
+        try (Stream<Game> games = xmlExtractor.streamGames(xmlFile.toString())) {
+            Iterator<Game> iterator = games.iterator();
+            assertEquals("G001", iterator.next().getGameId());
+            assertThrows(RuntimeException.class, iterator::hasNext);
+        }
+    }
+    
+    @Test
+    void testExtractGames_NonExistentFile() {
+        List<Game> games = xmlExtractor.extractGames("non_existent_file.xml");
+        
+        assertTrue(games.isEmpty());
+    }
+    
+    @Test
+    void testValidateXmlStructure_MissingRequiredField() throws IOException {
+        String xmlContent = """
+            <games>
+                <game>
+                    <gameId>G001</gameId>
+                    <homeTeamId>LAL</homeTeamId>
+                    <date>2024-01-15 19:30:00</date>
+                    <status>Final</status>
+                </game>
+            </games>
+            """;
+        
+        Path xmlFile = tempDir.resolve("missing_field.xml");
+        Files.writeString(xmlFile, xmlContent);
+        
+        assertFalse(xmlExtractor.validateXmlStructure(xmlFile.toString()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.sportsdata.etl.loaders;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Async S3 client double that completes puts after a short delay, recording their order and how many overlapped
+class InMemoryS3AsyncClient implements S3AsyncClient {
+    
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final List<String> completedKeys = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final String failingKeyPart;
+    
+    InMemoryS3AsyncClient() {
+        this(null);
+    }
+    
+    // Puts whose key contains failingKeyPart fail instead of storing the object
+    InMemoryS3AsyncClient(String failingKeyPart) {
+        this.failingKeyPart = failingKeyPart;
+    }
+    
+    Map<String, byte[]> getObjects() {
+        return new TreeMap<>(objects);
+    }
+    
+    List<String> getCompletedKeys() {
+        return new ArrayList<>(completedKeys);
+    }
+    
+    int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+    
+    @Override
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody body) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return read(body).thenApplyAsync(content -> {
+            inFlight.decrementAndGet();
+            if (failingKeyPart != null && request.key().contains(failingKeyPart)) {
+                throw new IllegalStateException("Upload failed: " + request.key());
+            }
+            objects.put(request.key(), content);
+            completedKeys.add(request.key());
+            return PutObjectResponse.builder().build();
+        }, CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS));
+    }
+    
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+    
+    @Override
+    public void close() {
+    }
+    
+    private static CompletableFuture<byte[]> read(AsyncRequestBody body) {
+        CompletableFuture<byte[]> content = new CompletableFuture<>();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        body.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+            
+            @Override
+            public void onNext(ByteBuffer chunk) {
+                byte[] bytes = new byte[chunk.remaining()];
+                chunk.get(bytes);
+                buffer.writeBytes(bytes);
+            }
+            
+            @Override
+            public void onError(Throwable error) {
+                content.completeExceptionally(error);
+            }
+            
+            @Override
+            public void onComplete() {
+                content.complete(buffer.toByteArray());
+            }
+        });
+        return content;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.sportsdata.etl.loaders;
+
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// S3 client double that keeps objects in memory and records multipart upload outcomes
+class InMemoryS3Client implements S3Client {
+    
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, ByteArrayOutputStream> openUploads = new ConcurrentHashMap<>();
+    private final List<String> completedUploads = new ArrayList<>();
+    private final List<String> abortedUploads = new ArrayList<>();
+    private int uploadCount;
+    
+    Map<String, byte[]> getObjects() {
+        return new TreeMap<>(objects);
+    }
+    
+    List<String> getCompletedUploads() {
+        return completedUploads;
+    }
+    
+    List<String> getAbortedUploads() {
+        return abortedUploads;
+    }
+    
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+        objects.put(request.key(), read(body));
+        return PutObjectResponse.builder().build();
+    }
+    
+    @Override
+    public ResponseBytes<GetObjectResponse> getObjectAsBytes(GetObjectRequest request) {
+        byte[] content = objects.get(request.key());
+        if (content == null) {
+            throw NoSuchKeyException.builder().message("No such key: " + request.key()).build();
+        }
+        return ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), content);
+    }
+    
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+    
+    @Override
+    public synchronized CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        String uploadId = request.key() + "#" + (++uploadCount);
+        openUploads.put(uploadId, new ByteArrayOutputStream());
+        return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+    }
+    
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+        openUploads.get(request.uploadId()).writeBytes(read(body));
+        return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+    }
+    
+    @Override
+    public synchronized CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        objects.put(request.key(), openUploads.remove(request.uploadId()).toByteArray());
+        completedUploads.add(request.uploadId());
+        return CompleteMultipartUploadResponse.builder().build();
+    }
+    
+    @Override
+    public synchronized AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        openUploads.remove(request.uploadId());
+        abortedUploads.add(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+    
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+    
+    @Override
+    public void close() {
+    }
+    
+    private static byte[] read(RequestBody body) {
+        try (InputStream content = body.contentStreamProvider().newStream()) {
+            return content.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
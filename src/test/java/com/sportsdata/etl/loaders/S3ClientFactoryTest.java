@@ -0,0 +1,33 @@
+package com.sportsdata.etl.loaders;
+
+import com.sportsdata.etl.services.loaders.S3ClientFactory;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class S3ClientFactoryTest {
+    
+    @Test
+    void testSyncAndAsyncClientsShareRegionAndEndpoint() {
+        try (S3Client syncClient = S3ClientFactory.syncClient("eu-west-1", "http://localhost:9000");
+             S3AsyncClient asyncClient = S3ClientFactory.asyncClient("eu-west-1", "http://localhost:9000")) {
+            
+            assertEquals(Region.EU_WEST_1, syncClient.serviceClientConfiguration().region());
+            assertEquals(Region.EU_WEST_1, asyncClient.serviceClientConfiguration().region());
+            assertEquals(URI.create("http://localhost:9000"), syncClient.serviceClientConfiguration().endpointOverride().orElseThrow());
+            assertEquals(URI.create("http://localhost:9000"), asyncClient.serviceClientConfiguration().endpointOverride().orElseThrow());
+        }
+    }
+    
+    @Test
+    void testBlankEndpointUsesRegionalEndpoint() {
+        try (S3Client client = S3ClientFactory.syncClient("us-east-1", "")) {
+            assertTrue(client.serviceClientConfiguration().endpointOverride().isEmpty());
+        }
+    }
+}
\ No newline at end of file
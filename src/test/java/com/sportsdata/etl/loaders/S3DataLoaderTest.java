@@ -0,0 +1,507 @@
+package com.sportsdata.etl.loaders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.luben.zstd.ZstdInputStream;
+import com.sportsdata.etl.models.CompactGame;
+import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.GameBatch;
+import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.PlayerBatch;
+import com.sportsdata.etl.models.Team;
+import com.sportsdata.etl.services.loaders.OutputCompression;
+import com.sportsdata.etl.services.loaders.OutputFormat;
+import com.sportsdata.etl.services.loaders.S3DataLoader;
+import com.sportsdata.etl.services.pipeline.EtlPipeline;
+import com.sportsdata.etl.services.quality.QualityReport;
+import com.sportsdata.etl.services.quality.S3QualityChecker;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.LocalInputFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class S3DataLoaderTest {
+    
+    private InMemoryS3Client s3Client;
+    private S3DataLoader loader;
+    
+    @BeforeEach
+    void setUp() {
+        s3Client = new InMemoryS3Client();
+        loader = new S3DataLoader();
+        ReflectionTestUtils.setField(loader, "s3Client", s3Client);
+        ReflectionTestUtils.setField(loader, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(loader, "keyPrefix", "sports-data");
+        ReflectionTestUtils.setField(loader, "outputFormat", OutputFormat.NDJSON);
+        ReflectionTestUtils.setField(loader, "outputCompression", OutputCompression.NONE);
+        ReflectionTestUtils.setField(loader, "multipartEnabled", true);
+        ReflectionTestUtils.setField(loader, "multipartPartSizeMb", 5);
+    }
+    
+    @Test
+    void testMultipartLoadCompletesEveryRecord() throws Exception {
+        loader.loadPlayersOnly(players(3000, 2000, -1));
+        
+        assertEquals(1, s3Client.getCompletedUploads().size());
+        assertTrue(s3Client.getAbortedUploads().isEmpty());
+        String[] lines = new String(s3Client.getObjects().values().iterator().next(), StandardCharsets.UTF_8).split("\n");
+        assertEquals(3000, lines.length);
+        assertEquals("P2999", new ObjectMapper().readTree(lines[2999]).get("playerId").asText());
+    }
+    
+    @Test
+    void testSerializationFailureBeforeFirstPartWritesNothing() {
+        assertThrows(RuntimeException.class, () -> loader.loadPlayersOnly(players(10, 10, 3)));
+        
+        // Closing the encoder here would have put the records written so far as a plain object
+        assertTrue(s3Client.getObjects().isEmpty());
+        assertTrue(s3Client.getCompletedUploads().isEmpty());
+    }
+    
+    @Test
+    void testSerializationFailureAfterPartsAbortsUpload() {
+        assertThrows(RuntimeException.class, () -> loader.loadPlayersOnly(players(3000, 2000, 2900)));
+        
+        assertEquals(1, s3Client.getAbortedUploads().size());
+        assertTrue(s3Client.getCompletedUploads().isEmpty());
+        assertTrue(s3Client.getObjects().isEmpty());
+    }
+    
+    @Test
+    void testSerializationFailureLeavesNoObjectInAnyFormat() {
+        for (OutputFormat format : OutputFormat.values()) {
+            InMemoryS3Client client = new InMemoryS3Client();
+            ReflectionTestUtils.setField(loader, "s3Client", client);
+            ReflectionTestUtils.setField(loader, "outputFormat", format);
+            ReflectionTestUtils.setField(loader, "outputCompression", OutputCompression.GZIP);
+            
+            assertThrows(RuntimeException.class, () -> loader.loadPlayersOnly(players(3000, 2000, 2900)));
+            
+            // Discarding the encoder must neither flush it nor close the upload stream, which would complete it
+            assertTrue(client.getCompletedUploads().isEmpty(), format + " completed the upload");
+            assertTrue(client.getObjects().isEmpty(), format + " left an object");
+        }
+    }
+    
+    @Test
+    void testJsonArrayUncompressed() throws IOException {
+        Map.Entry<String, byte[]> object = loadTeams(OutputFormat.JSON, OutputCompression.NONE);
+        
+        assertTrue(object.getKey().endsWith(".json"));
+        JsonNode array = new ObjectMapper().readTree(object.getValue());
+        assertTrue(array.isArray());
+        assertEquals(2, array.size());
+        assertEquals("LAL", array.get(1).get("teamId").asText());
+    }
+    
+    @Test
+    void testNdjsonGzip() throws IOException {
+        Map.Entry<String, byte[]> object = loadTeams(OutputFormat.NDJSON, OutputCompression.GZIP);
+        
+        assertTrue(object.getKey().endsWith(".ndjson.gz"));
+        String text = new String(new GZIPInputStream(new ByteArrayInputStream(object.getValue())).readAllBytes(), StandardCharsets.UTF_8);
+        String[] lines = text.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("BOS", new ObjectMapper().readTree(lines[0]).get("teamId").asText());
+    }
+    
+    @Test
+    void testJsonZstd() throws IOException {
+        Map.Entry<String, byte[]> object = loadTeams(OutputFormat.JSON, OutputCompression.ZSTD);
+        
+        assertTrue(object.getKey().endsWith(".json.zst"));
+        byte[] decoded = new ZstdInputStream(new ByteArrayInputStream(object.getValue())).readAllBytes();
+        assertEquals(2, new ObjectMapper().readTree(decoded).size());
+    }
+    
+    @Test
+    void testParquetDictionaryEncodesLowCardinalityColumns() throws IOException {
+        Map.Entry<String, byte[]> object = loadTeams(OutputFormat.PARQUET, OutputCompression.ZSTD);
+        
+        // Parquet compresses its pages itself, so the key carries no compression extension
+        assertTrue(object.getKey().endsWith(".parquet"));
+        Path file = Files.createTempFile("teams-", ".parquet");
+        try {
+            Files.write(file, object.getValue());
+            try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(file))) {
+                assertEquals(2, reader.getRecordCount());
+                Map<String, ColumnChunkMetaData> columns = new HashMap<>();
+                for (ColumnChunkMetaData column : reader.getFooter().getBlocks().get(0).getColumns()) {
+                    columns.put(column.getPath().toDotString(), column);
+                }
+                assertTrue(columns.get("league").hasDictionaryPage());
+                assertFalse(columns.get("teamId").hasDictionaryPage());
+                assertEquals(CompressionCodecName.ZSTD, columns.get("name").getCodec());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    @Test
+    void testParquetBatchColumnsEncodeLikeTheirRows() {
+        ReflectionTestUtils.setField(loader, "outputFormat", OutputFormat.PARQUET);
+        Player withoutStatistics = new Player("P2", "Rookie", "BOS", "PG", null, null);
+        withoutStatistics.setStatistics(null);
+        PlayerBatch players = PlayerBatch.of(List.of(
+            new Player("P1", "LeBron James", "LAL", "SF", 39, new Player.PlayerStatistics(71, 1822, null)),
+            withoutStatistics));
+        GameBatch games = GameBatch.of(List.of(
+            new Game("G1", "LAL", "BOS", LocalDateTime.of(2024, 1, 15, 19, 30), 118, null, "Final"),
+            new Game("G2", "BOS", "LAL", null, null, null, "Scheduled")));
+        
+        assertArrayEquals(loadedObject(() -> loader.loadPlayersOnly(players.rows())),
+            loadedObject(() -> loader.loadPlayersOnly(players)));
+        assertArrayEquals(loadedObject(() -> loader.loadGamesOnly(games.rows())),
+            loadedObject(() -> loader.loadGamesOnly(games)));
+    }
+    
+    @Test
+    void testPartitionedLoadSplitsTeamsByLeagueAndGamesByDate() {
+        ReflectionTestUtils.setField(loader, "partitioningEnabled", true);
+        
+        loader.loadTeamsOnly(List.of(new Team("BOS", "Celtics", "Boston", "NBA", null, "TD Garden"),
+            new Team("ABL", "Ablers", "Aville", "A/B League", null, "Arena"),
+            new Team("XXX", "Unknown", "Nowhere", null, null, "Arena")));
+        Game undated = game(1);
+        undated.setDate(null);
+        loader.loadGamesOnly(List.of(new Game("G-dated", "BOS", "LAL", LocalDateTime.of(2024, 3, 7, 19, 30), 110, 102, "Final"), undated));
+        loader.loadPlayersOnly(players(2, 5, -1));
+        
+        List<String> directories = s3Client.getObjects().keySet().stream()
+            .map(key -> key.substring(key.indexOf('/', "sports-data/".length()) + 1, key.lastIndexOf('/')))
+            .sorted()
+            .toList();
+        assertEquals(List.of(
+            "games/year=2024/month=03/day=07",
+            "games/year=__HIVE_DEFAULT_PARTITION__/month=__HIVE_DEFAULT_PARTITION__/day=__HIVE_DEFAULT_PARTITION__",
+            "players",
+            "teams/league=A%2FB%20League",
+            "teams/league=NBA",
+            "teams/league=__HIVE_DEFAULT_PARTITION__"), directories);
+    }
+    
+    @Test
+    void testPartitionedWriterUploadsLeastRecentlyWrittenPartitionAtTheBound() throws Exception {
+        ReflectionTestUtils.setField(loader, "partitioningEnabled", true);
+        ReflectionTestUtils.setField(loader, "maxOpenPartitionWriters", 2);
+        
+        // Days 1, 2, 3, then 1 again: day 1 is uploaded when day 3 opens, so its last game starts a
+        // second part, which in turn uploads day 2
+        try (S3DataLoader.EntityWriter writer = loader.openEntityWriter("games", "2024-01-01-00-00-00")) {
+            for (int day : new int[] {1, 1, 2, 3, 3, 1}) {
+                writer.write(game(day));
+            }
+            assertEquals(2, s3Client.getObjects().size());
+            assertEquals(List.of("year=2024/month=03/day=01", "year=2024/month=03/day=02", "year=2024/month=03/day=03"),
+                writer.getPartitions());
+        }
+        
+        Map<String, byte[]> objects = s3Client.getObjects();
+        assertEquals(4, objects.size());
+        assertTrue(objects.containsKey("sports-data/2024-01-01-00-00-00/games/year=2024/month=03/day=01/games-2024-01-01-00-00-00-00001.ndjson"));
+        
+        Set<String> gameIds = new HashSet<>();
+        int lineCount = 0;
+        for (byte[] content : objects.values()) {
+            for (String line : new String(content, StandardCharsets.UTF_8).split("\n")) {
+                gameIds.add(new ObjectMapper().readTree(line).get("gameId").asText());
+                lineCount++;
+            }
+        }
+        assertEquals(6, lineCount);
+        assertEquals(6, gameIds.size());
+    }
+    
+    @Test
+    void testAbortDeletesPartitionsUploadedBeforeTheBound() throws Exception {
+        ReflectionTestUtils.setField(loader, "partitioningEnabled", true);
+        ReflectionTestUtils.setField(loader, "maxOpenPartitionWriters", 1);
+        
+        S3DataLoader.EntityWriter writer = loader.openEntityWriter("games", "2024-01-01-00-00-00");
+        for (int day = 1; day <= 5; day++) {
+            writer.write(game(day));
+        }
+        assertEquals(4, s3Client.getObjects().size());
+        
+        writer.abort();
+        
+        assertTrue(s3Client.getObjects().isEmpty());
+    }
+    
+    @Test
+    void testSpoolLimitFailsWriterInsteadOfFillingDisk() throws Exception {
+        ReflectionTestUtils.setField(loader, "multipartEnabled", false);
+        ReflectionTestUtils.setField(loader, "spoolMaxSizeMb", 1L);
+        
+        S3DataLoader.EntityWriter writer = loader.openEntityWriter("players", "2024-01-01-00-00-00");
+        try {
+            assertThrows(IOException.class, () -> {
+                for (Player player : players(1000, 2000, -1)) {
+                    writer.write(player);
+                }
+            });
+        } finally {
+            writer.abort();
+        }
+        
+        assertTrue(s3Client.getObjects().isEmpty());
+    }
+    
+    @Test
+    void testBatchLoadPartitionsGamesByDateColumn() throws Exception {
+        ReflectionTestUtils.setField(loader, "partitioningEnabled", true);
+        ReflectionTestUtils.setField(loader, "eventPublisher", (ApplicationEventPublisher) event -> {});
+        GameBatch games = GameBatch.of(List.of(game(2), game(1), game(2), game(3), game(1)));
+        games.add(new Game("G-undated", "LAL", "BOS", null, null, null, "Scheduled"));
+        
+        EtlPipeline.LoadResult result = loader.loadAllData(List.of(), PlayerBatch.of(players(3, 5, -1)), games);
+        
+        assertEquals(3, result.getPlayersLoaded());
+        assertEquals(6, result.getGamesLoaded());
+        assertEquals(List.of("year=2024/month=03/day=01", "year=2024/month=03/day=02", "year=2024/month=03/day=03",
+            "year=__HIVE_DEFAULT_PARTITION__/month=__HIVE_DEFAULT_PARTITION__/day=__HIVE_DEFAULT_PARTITION__"),
+            result.getPartitions().get("games"));
+        
+        Map<String, List<String>> gameIdsByDay = new HashMap<>();
+        for (Map.Entry<String, byte[]> object : s3Client.getObjects().entrySet()) {
+            if (object.getKey().contains("/games/year=2024/")) {
+                String day = object.getKey().replaceAll(".*/day=(\\d+)/.*", "$1");
+                for (String line : new String(object.getValue(), StandardCharsets.UTF_8).split("\n")) {
+                    gameIdsByDay.computeIfAbsent(day, key -> new ArrayList<>())
+                        .add(new ObjectMapper().readTree(line).get("gameId").asText());
+                }
+            }
+        }
+        assertEquals(Map.of("01", List.of("G2", "G5"), "02", List.of("G1", "G3"), "03", List.of("G4")), gameIdsByDay);
+    }
+    
+    @Test
+    void testDeltaHoldsInsertedUpdatedAndDeletedRecords() throws IOException {
+        ReflectionTestUtils.setField(loader, "incrementalEnabled", true);
+        ReflectionTestUtils.setField(loader, "compactAfterDeltas", 10);
+        ReflectionTestUtils.setField(loader, "eventPublisher", (ApplicationEventPublisher) event -> {});
+        
+        EtlPipeline.TransformedData first = new EtlPipeline.TransformedData();
+        first.setTeams(List.of(team("BOS", "Boston"), team("LAL", "Los Angeles"), team("MIA", "Miami")));
+        EtlPipeline.LoadResult snapshot = loader.loadAllData(first);
+        
+        assertEquals("FULL", snapshot.getLoadType());
+        JsonNode manifest = new ObjectMapper().readTree(s3Client.getObjects().get("sports-data/_incremental/manifest.json"));
+        assertEquals(3, manifest.get("hashes").get("teams").size());
+        
+        EtlPipeline.TransformedData second = new EtlPipeline.TransformedData();
+        second.setTeams(List.of(team("BOS", "Boston"), team("LAL", "Anaheim"), team("NYK", "New York")));
+        EtlPipeline.LoadResult delta = loader.loadAllData(second);
+        
+        assertEquals("DELTA", delta.getLoadType());
+        assertEquals(3, delta.getTeamsChanged());
+        String deltaKey = s3Client.getObjects().keySet().stream()
+            .filter(key -> key.matches("sports-data/[^/]+/delta-[^/]+\\.json")).findFirst().orElseThrow();
+        JsonNode teams = new ObjectMapper().readTree(s3Client.getObjects().get(deltaKey)).get("teams");
+        assertEquals("NYK", teams.get("inserted").get(0).get("teamId").asText());
+        assertEquals("Anaheim", teams.get("updated").get(0).get("city").asText());
+        assertEquals("MIA", teams.get("deleted").get(0).asText());
+        assertEquals(3, teams.get("inserted").size() + teams.get("updated").size() + teams.get("deleted").size());
+    }
+    
+    @Test
+    void testCompactGamesPartitionAndDiffLikeFullGames() {
+        ReflectionTestUtils.setField(loader, "partitioningEnabled", true);
+        Game game = new Game("G001", "LAL", "GSW", LocalDateTime.of(2024, 1, 15, 19, 30), 118, 124, "Final");
+        
+        loader.loadGamesOnly(List.of(CompactGame.from(game)));
+        assertTrue(s3Client.getObjects().keySet().iterator().next().contains("/games/year=2024/month=01/day=15/"));
+        
+        ReflectionTestUtils.setField(loader, "incrementalEnabled", true);
+        ReflectionTestUtils.setField(loader, "compactAfterDeltas", 10);
+        ReflectionTestUtils.setField(loader, "eventPublisher", (ApplicationEventPublisher) event -> {});
+        EtlPipeline.TransformedData full = new EtlPipeline.TransformedData();
+        full.setGames(List.of(game));
+        loader.loadAllData(full);
+        
+        // The manifest hashes record JSON, which is the same for both forms
+        EtlPipeline.LoadResult delta = loader.loadAllData(List.of(), new PlayerBatch(0), GameBatch.of(List.of(CompactGame.from(game))));
+        assertEquals("DELTA", delta.getLoadType());
+        assertEquals(0, delta.getGamesChanged());
+    }
+    
+    @Test
+    void testNoChangeDeltaKeepsSnapshotTotalsAndQualityReport() {
+        ReflectionTestUtils.setField(loader, "incrementalEnabled", true);
+        ReflectionTestUtils.setField(loader, "compactAfterDeltas", 10);
+        ReflectionTestUtils.setField(loader, "eventPublisher", (ApplicationEventPublisher) event -> {});
+        S3QualityChecker qualityChecker = new S3QualityChecker();
+        ReflectionTestUtils.setField(qualityChecker, "s3Client", s3Client);
+        ReflectionTestUtils.setField(qualityChecker, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(qualityChecker, "keyPrefix", "sports-data");
+        
+        EtlPipeline.TransformedData data = new EtlPipeline.TransformedData();
+        data.setTeams(List.of(new Team("LAL", "Lakers", "Los Angeles", "NBA", null, "Crypto.com Arena")));
+        data.setPlayers(players(5, 10, -1));
+        data.setGames(List.of(game(1), game(2)));
+        
+        EtlPipeline.LoadResult snapshot = loader.loadAllData(data);
+        QualityReport afterSnapshot = qualityChecker.generateQualityReport();
+        
+        EtlPipeline.LoadResult delta = loader.loadAllData(data);
+        QualityReport afterDelta = qualityChecker.generateQualityReport();
+        
+        assertEquals("FULL", snapshot.getLoadType());
+        assertEquals("DELTA", delta.getLoadType());
+        assertEquals(5, delta.getPlayersLoaded());
+        assertEquals(0, delta.getPlayersChanged());
+        
+        assertEquals(1, afterDelta.getTeamCount());
+        assertEquals(5, afterDelta.getPlayerCount());
+        assertEquals(2, afterDelta.getGameCount());
+        assertEquals(afterSnapshot.getOverallQualityScore(), afterDelta.getOverallQualityScore());
+        assertEquals(afterSnapshot.getQualityStatus(), afterDelta.getQualityStatus());
+        assertEquals(afterSnapshot.getQualityMetrics(), afterDelta.getQualityMetrics());
+    }
+    
+    @Test
+    void testAsyncLoadWritesMetadataAfterEveryEntity() throws Exception {
+        InMemoryS3AsyncClient asyncClient = useAsyncClient(new InMemoryS3AsyncClient(), 3);
+        
+        EtlPipeline.LoadResult result = loader.loadAllData(data(5, 1, 2));
+        
+        assertTrue(result.isSuccess());
+        assertEquals(5, result.getPlayersLoaded());
+        assertEquals(2, result.getGamesLoaded());
+        List<String> keys = asyncClient.getCompletedKeys();
+        assertEquals(4, keys.size());
+        assertEquals(Set.of("teams", "players", "games"), Set.of(entityOf(keys.get(0)), entityOf(keys.get(1)), entityOf(keys.get(2))));
+        assertTrue(keys.get(3).endsWith("/metadata.json"));
+        assertTrue(s3Client.getObjects().containsKey("sports-data/_latest.json"));
+        
+        String playersKey = keys.stream().filter(key -> key.contains("/players/")).findFirst().orElseThrow();
+        String[] lines = new String(asyncClient.getObjects().get(playersKey), StandardCharsets.UTF_8).split("\n");
+        assertEquals(5, lines.length);
+        assertEquals("P4", new ObjectMapper().readTree(lines[4]).get("playerId").asText());
+    }
+    
+    @Test
+    void testFailedAsyncEntityUploadWritesNoMetadata() {
+        InMemoryS3AsyncClient asyncClient = useAsyncClient(new InMemoryS3AsyncClient("/players/"), 3);
+        
+        assertThrows(RuntimeException.class, () -> loader.loadAllData(data(5, 1, 2)));
+        
+        assertTrue(asyncClient.getCompletedKeys().stream().noneMatch(key -> key.endsWith("/metadata.json")));
+        assertFalse(s3Client.getObjects().containsKey("sports-data/_latest.json"));
+    }
+    
+    @Test
+    void testAsyncUploadsStayWithinMaxConcurrency() {
+        ReflectionTestUtils.setField(loader, "partitioningEnabled", true);
+        InMemoryS3AsyncClient asyncClient = useAsyncClient(new InMemoryS3AsyncClient(), 2);
+        
+        // One team and one player object plus a games object for each of five days
+        loader.loadAllData(data(5, 1, 5));
+        
+        assertEquals(8, asyncClient.getCompletedKeys().size());
+        assertTrue(asyncClient.getMaxInFlight() <= 2, "max in flight " + asyncClient.getMaxInFlight());
+    }
+    
+    private InMemoryS3AsyncClient useAsyncClient(InMemoryS3AsyncClient asyncClient, int maxConcurrency) {
+        ReflectionTestUtils.setField(loader, "s3AsyncClient", asyncClient);
+        ReflectionTestUtils.setField(loader, "asyncMaxConcurrency", maxConcurrency);
+        ReflectionTestUtils.setField(loader, "eventPublisher", (ApplicationEventPublisher) event -> {});
+        return asyncClient;
+    }
+    
+    // Teams, players and games, one game per day from March 1st
+    private EtlPipeline.TransformedData data(int playerCount, int teamCount, int gameCount) {
+        EtlPipeline.TransformedData data = new EtlPipeline.TransformedData();
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < teamCount; i++) {
+            teams.add(new Team("T" + i, "Team " + i, "City", "NBA", null, "Arena"));
+        }
+        List<Game> games = new ArrayList<>();
+        for (int day = 1; day <= gameCount; day++) {
+            games.add(game(day));
+        }
+        data.setTeams(teams);
+        data.setPlayers(players(playerCount, 10, -1));
+        data.setGames(games);
+        return data;
+    }
+    
+    private static String entityOf(String key) {
+        return key.split("/")[2];
+    }
+    
+    // Runs the load against a fresh client and returns the single object it wrote
+    private byte[] loadedObject(Runnable load) {
+        s3Client = new InMemoryS3Client();
+        ReflectionTestUtils.setField(loader, "s3Client", s3Client);
+        load.run();
+        
+        Map<String, byte[]> objects = s3Client.getObjects();
+        assertEquals(1, objects.size());
+        return objects.values().iterator().next();
+    }
+    
+    // Loads two teams in the given format and returns the single object written
+    private Map.Entry<String, byte[]> loadTeams(OutputFormat format, OutputCompression compression) {
+        ReflectionTestUtils.setField(loader, "outputFormat", format);
+        ReflectionTestUtils.setField(loader, "outputCompression", compression);
+        loader.loadTeamsOnly(List.of(new Team("BOS", "Celtics", "Boston", "NBA", null, "TD Garden"),
+            new Team("LAL", "Lakers", "Los Angeles", "NBA", null, "Crypto.com Arena")));
+        
+        Map<String, byte[]> objects = s3Client.getObjects();
+        assertEquals(1, objects.size());
+        return objects.entrySet().iterator().next();
+    }
+    
+    private static Team team(String teamId, String city) {
+        return new Team(teamId, teamId + " Team", city, "NBA", null, "Arena");
+    }
+    
+    private int gameSequence;
+    
+    private Game game(int day) {
+        return new Game("G" + (++gameSequence), "LAL", "BOS", LocalDateTime.of(2024, 3, day, 19, 30), 100, 98, "FINAL");
+    }
+    
+    // Players with names of the given length; the one at failAt (if any) cannot be serialized
+    private static List<Player> players(int count, int nameLength, int failAt) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String name = "P".repeat(nameLength);
+            players.add(i == failAt ? new UnserializablePlayer("P" + i, name) : new Player("P" + i, name, "LAL", "Guard", 25, null));
+        }
+        return players;
+    }
+    
+    private static class UnserializablePlayer extends Player {
+        UnserializablePlayer(String playerId, String name) {
+            super(playerId, name, "LAL", "Guard", 25, null);
+        }
+        
+        @Override
+        public String getPosition() {
+            throw new IllegalStateException("Position lookup failed");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.sportsdata.etl.models;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactRecordTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    
+    @Test
+    void testCompactGameKeepsValuesAndJson() throws Exception {
+        Game game = new Game("G001", "LAL", "GSW", LocalDateTime.of(2024, 1, 15, 19, 30), 118, null, "Live");
+        CompactGame compact = CompactGame.from(game);
+        
+        assertEquals(118, compact.homeScore());
+        assertFalse(compact.hasAwayScore());
+        assertNull(compact.getAwayScore());
+        assertEquals(game.getDate(), compact.getDate());
+        assertEquals(objectMapper.writeValueAsString(game), objectMapper.writeValueAsString(compact));
+        assertEquals(game.toString(), compact.toGame().toString());
+    }
+    
+    @Test
+    void testCompactPlayerKeepsValuesAndJson() throws Exception {
+        Player player = new Player("P001", "LeBron James", "LAL", "Small Forward", 39,
+            new Player.PlayerStatistics(71, 1822, null));
+        CompactPlayer compact = CompactPlayer.from(player);
+        
+        assertEquals(39, compact.age());
+        assertEquals(CompactPlayer.NO_VALUE, compact.assists());
+        assertEquals(player.points(), compact.points());
+        assertEquals(player.assists(), compact.assists());
+        assertTrue(player.hasStatistics());
+        assertNull(compact.getStatistics().getAssists());
+        assertEquals(objectMapper.writeValueAsString(player), objectMapper.writeValueAsString(compact));
+        assertEquals(player.toString(), compact.toPlayer().toString());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.sportsdata.etl.pipeline;
+
+import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.GameBatch;
+import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.PlayerBatch;
+import com.sportsdata.etl.models.Team;
+import com.sportsdata.etl.services.extractors.CsvDataExtractor;
+import com.sportsdata.etl.services.extractors.JsonApiExtractor;
+import com.sportsdata.etl.services.extractors.XmlFeedExtractor;
+import com.sportsdata.etl.services.loaders.S3DataLoader;
+import com.sportsdata.etl.services.pipeline.EtlPipeline;
+import com.sportsdata.etl.services.quality.PipelineQualityChecker;
+import com.sportsdata.etl.services.quality.ValidationRules;
+import com.sportsdata.etl.services.transformers.DataCleaner;
+import com.sportsdata.etl.services.transformers.DataStandardizer;
+import com.sportsdata.etl.services.transformers.DataValidator;
+import com.sportsdata.etl.services.transformers.RecordTransformer;
+import com.sportsdata.etl.services.transformers.ReferentialIntegrityValidator;
+import com.sportsdata.etl.utils.MetricsCollector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EtlPipelineTest {
+    
+    private final Set<String> completedBranches = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch otherBranchesExtracted = new CountDownLatch(2);
+    private EtlPipeline pipeline;
+    private DataValidator dataValidator;
+    
+    @BeforeEach
+    void setUp() {
+        dataValidator = new DataValidator();
+        ReflectionTestUtils.setField(dataValidator, "validationRules", new ValidationRules());
+        RecordTransformer recordTransformer = new CompletionRecordingTransformer();
+        ReflectionTestUtils.setField(recordTransformer, "dataValidator", dataValidator);
+        ReflectionTestUtils.setField(recordTransformer, "dataCleaner", new DataCleaner());
+        ReflectionTestUtils.setField(recordTransformer, "dataStandardizer", new DataStandardizer());
+        
+        pipeline = new EtlPipeline();
+        ReflectionTestUtils.setField(pipeline, "recordTransformer", recordTransformer);
+        ReflectionTestUtils.setField(pipeline, "fusedTransformation", true);
+        ReflectionTestUtils.setField(pipeline, "csvExtractor", new CsvDataExtractor() {
+            @Override
+            public List<Team> extractTeams(String filePath) {
+                otherBranchesExtracted.countDown();
+                return List.of(new Team("BOS", "Celtics", "Boston", "NBA", null, "TD Garden"));
+            }
+        });
+        ReflectionTestUtils.setField(pipeline, "xmlExtractor", new XmlFeedExtractor() {
+            @Override
+            public List<Game> extractGames(String filePath) {
+                otherBranchesExtracted.countDown();
+                return List.of(new Game("G1", "BOS", "LAL", LocalDateTime.now(), 100, 90, "FINAL"));
+            }
+        });
+        // Fails only once the other two branches are under way, so they are still running when it does
+        ReflectionTestUtils.setField(pipeline, "jsonExtractor", new JsonApiExtractor() {
+            @Override
+            public List<Player> extractPlayers(String filePath) {
+                try {
+                    assertTrue(otherBranchesExtracted.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("Player feed unavailable");
+            }
+        });
+    }
+    
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+    
+    @Test
+    void testFailedBranchIsSurfacedAfterOtherBranchesFinish() {
+        EtlPipeline.PipelineConfig config = new EtlPipeline.PipelineConfig("teams.csv", "players.json", "games.xml");
+        config.setConcurrentExecution(true);
+        
+        EtlPipeline.PipelineResult result = pipeline.executeFullPipeline(config);
+        
+        assertFalse(result.isSuccess());
+        assertEquals("Players extraction failed", result.getErrorMessage());
+        assertEquals(Set.of("teams", "games"), completedBranches);
+        assertNull(result.getLoadResult());
+    }
+    
+    @Test
+    void testColumnarBatchesRunFromExtractionToLoad() {
+        List<Object> loaded = new ArrayList<>();
+        ReflectionTestUtils.setField(pipeline, "columnarBatches", true);
+        ReflectionTestUtils.setField(pipeline, "dataValidator", dataValidator);
+        ReflectionTestUtils.setField(pipeline, "dataCleaner", new DataCleaner());
+        ReflectionTestUtils.setField(pipeline, "dataStandardizer", new DataStandardizer());
+        ReferentialIntegrityValidator integrityValidator = new ReferentialIntegrityValidator();
+        ReflectionTestUtils.setField(integrityValidator, "bloomThreshold", 1000);
+        ReflectionTestUtils.setField(pipeline, "integrityValidator", integrityValidator);
+        ReflectionTestUtils.setField(pipeline, "qualityChecker", new PipelineQualityChecker());
+        MetricsCollector metricsCollector = new MetricsCollector(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(pipeline, "metricsCollector", metricsCollector);
+        ReflectionTestUtils.setField(pipeline, "jsonExtractor", new JsonApiExtractor() {
+            @Override
+            public PlayerBatch extractPlayerBatch(String filePath) {
+                return PlayerBatch.of(List.of(
+                    new Player("P1", "jayson tatum", "BOS", "SF", 26, null),
+                    new Player("P1", "Jayson Tatum", "BOS", "SF", 26, null),
+                    new Player("P2", "Too Young", "BOS", "PG", 12, null),
+                    new Player("P3", "Free Agent", "XXX", "PG", 30, null)));
+            }
+        });
+        ReflectionTestUtils.setField(pipeline, "xmlExtractor", new XmlFeedExtractor() {
+            @Override
+            public GameBatch extractGameBatch(String filePath) {
+                return GameBatch.of(List.of(new Game("G1", "BOS", "LAL", LocalDateTime.now(), 100, 90, "Final")));
+            }
+        });
+        ReflectionTestUtils.setField(pipeline, "s3DataLoader", new S3DataLoader() {
+            @Override
+            public EtlPipeline.LoadResult loadAllData(List<Team> teams, PlayerBatch players, GameBatch games) {
+                loaded.add(players);
+                loaded.add(games);
+                EtlPipeline.LoadResult result = new EtlPipeline.LoadResult();
+                result.setTeamsLoaded(teams.size());
+                result.setPlayersLoaded(players.size());
+                result.setGamesLoaded(games.size());
+                result.setSuccess(true);
+                return result;
+            }
+        });
+        
+        EtlPipeline.PipelineConfig config = new EtlPipeline.PipelineConfig("teams.csv", "players.json", "games.xml");
+        config.setConcurrentExecution(true);
+        EtlPipeline.PipelineResult result = pipeline.executeFullPipeline(config);
+        
+        assertTrue(result.isSuccess(), result.getErrorMessage());
+        PlayerBatch players = (PlayerBatch) loaded.get(0);
+        assertEquals(2, players.size());
+        assertEquals("Jayson Tatum", players.names()[0]);
+        assertEquals("Small Forward", players.positions()[0]);
+        assertEquals(1, ((GameBatch) loaded.get(1)).size());
+        assertEquals(1, result.getReferentialIntegrity().getOrphanPlayers());
+        assertEquals(List.of("P3"), result.getReferentialIntegrity().getSamplePlayerIds());
+        assertEquals(2, result.getQualityReport().getPlayerCount());
+        assertEquals(Set.of("teams", "players", "games"), result.getBranchDurationsMs().keySet());
+        assertEquals(4, result.getExtractedData().getPlayers().size());
+        assertEquals("Small Forward", result.getTransformedData().getPlayers().get(0).getPosition());
+        assertEquals(1, result.getTransformedData().getGames().size());
+        assertEquals(2, metricsCollector.getCustomMetric("transformation.players.processed"));
+    }
+    
+    @Test
+    void testBranchExecutorShutsDownOnPreDestroy() throws Exception {
+        assertNotNull(EtlPipeline.class.getMethod("shutdown").getAnnotation(PreDestroy.class));
+        ExecutorService branchExecutor = (ExecutorService) ReflectionTestUtils.getField(pipeline, "branchExecutor");
+        
+        pipeline.shutdown();
+        
+        assertTrue(branchExecutor.isShutdown());
+        assertTrue(branchExecutor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+    
+    private class CompletionRecordingTransformer extends RecordTransformer {
+        @Override
+        public List<Team> transformTeams(List<Team> teams) {
+            List<Team> transformed = super.transformTeams(teams);
+            completedBranches.add("teams");
+            return transformed;
+        }
+        
+        @Override
+        public List<Game> transformGames(List<Game> games) {
+            List<Game> transformed = super.transformGames(games);
+            completedBranches.add("games");
+            return transformed;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.sportsdata.etl.pipeline;
+
+import com.sportsdata.etl.services.pipeline.RecordChannel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordChannelTest {
+    
+    @Test
+    void testRecordsArriveInOrderUntilClosed() throws Exception {
+        RecordChannel<String> channel = new RecordChannel<>(4, new AtomicBoolean());
+        channel.put("a");
+        channel.put("b");
+        channel.close();
+        
+        assertEquals("a", channel.take());
+        assertEquals("b", channel.take());
+        assertNull(channel.take());
+    }
+    
+    @Test
+    void testFullChannelBlocksProducerUntilConsumerTakes() throws Exception {
+        RecordChannel<Integer> channel = new RecordChannel<>(2, new AtomicBoolean());
+        AtomicInteger putCount = new AtomicInteger();
+        FutureTask<Void> producer = new FutureTask<>(() -> {
+            for (int i = 0; i < 5; i++) {
+                channel.put(i);
+                putCount.incrementAndGet();
+            }
+            channel.close();
+            return null;
+        });
+        Thread producerThread = new Thread(producer, "channel-producer");
+        producerThread.start();
+        
+        // The producer parks on the third record until the consumer makes room
+        awaitBlocked(producerThread);
+        assertEquals(2, putCount.get());
+        
+        List<Integer> taken = new ArrayList<>();
+        Integer record;
+        while ((record = channel.take()) != null) {
+            taken.add(record);
+        }
+        producer.get(5, TimeUnit.SECONDS);
+        
+        assertEquals(List.of(0, 1, 2, 3, 4), taken);
+    }
+    
+    @Test
+    void testCancellationUnblocksWaitingProducer() throws Exception {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        RecordChannel<String> channel = new RecordChannel<>(1, cancelled);
+        channel.put("fills the channel");
+        FutureTask<Void> producer = new FutureTask<>(() -> {
+            channel.put("never delivered");
+            return null;
+        });
+        Thread producerThread = new Thread(producer, "channel-producer");
+        producerThread.start();
+        awaitBlocked(producerThread);
+        
+        cancelled.set(true);
+        
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> producer.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(CancellationException.class, failure.getCause());
+    }
+    
+    @Test
+    void testCancellationUnblocksWaitingConsumer() throws Exception {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        RecordChannel<String> channel = new RecordChannel<>(1, cancelled);
+        FutureTask<String> consumer = new FutureTask<>(channel::take);
+        Thread consumerThread = new Thread(consumer, "channel-consumer");
+        consumerThread.start();
+        awaitBlocked(consumerThread);
+        
+        // A failing producer never closes the channel; the shared flag is what releases the consumer
+        cancelled.set(true);
+        
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> consumer.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(CancellationException.class, failure.getCause());
+    }
+    
+    private static void awaitBlocked(Thread thread) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            assertTrue(System.nanoTime() < deadline, thread.getName() + " did not block");
+            Thread.onSpinWait();
+        }
+    }
+}
\ No newline at end of file
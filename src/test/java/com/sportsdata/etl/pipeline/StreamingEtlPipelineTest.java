@@ -0,0 +1,165 @@
+package com.sportsdata.etl.pipeline;
+
+import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.services.extractors.JsonApiExtractor;
+import com.sportsdata.etl.services.loaders.OutputCompression;
+import com.sportsdata.etl.services.loaders.OutputFormat;
+import com.sportsdata.etl.services.loaders.S3DataLoader;
+import com.sportsdata.etl.services.pipeline.EtlPipeline;
+import com.sportsdata.etl.services.pipeline.StreamingEtlPipeline;
+import com.sportsdata.etl.services.quality.DataProfiler;
+import com.sportsdata.etl.services.quality.ValidationRules;
+import com.sportsdata.etl.services.transformers.DataCleaner;
+import com.sportsdata.etl.services.transformers.DataStandardizer;
+import com.sportsdata.etl.services.transformers.DataValidator;
+import com.sportsdata.etl.services.transformers.RecordTransformer;
+import com.sportsdata.etl.services.transformers.ReferentialIntegrityValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingEtlPipelineTest {
+    
+    private final List<String> uploadedKeys = new CopyOnWriteArrayList<>();
+    private StreamingEtlPipeline streamingPipeline;
+    private ReferentialIntegrityValidator integrityValidator;
+    
+    @BeforeEach
+    void setUp() {
+        S3DataLoader loader = new S3DataLoader();
+        ReflectionTestUtils.setField(loader, "s3Client", new RecordingS3Client());
+        ReflectionTestUtils.setField(loader, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(loader, "keyPrefix", "sports-data");
+        ReflectionTestUtils.setField(loader, "outputFormat", OutputFormat.NDJSON);
+        ReflectionTestUtils.setField(loader, "outputCompression", OutputCompression.NONE);
+        ReflectionTestUtils.setField(loader, "eventPublisher", (ApplicationEventPublisher) event -> {});
+        
+        DataValidator dataValidator = new DataValidator();
+        ReflectionTestUtils.setField(dataValidator, "validationRules", new ValidationRules());
+        RecordTransformer recordTransformer = new RecordTransformer();
+        ReflectionTestUtils.setField(recordTransformer, "dataValidator", dataValidator);
+        ReflectionTestUtils.setField(recordTransformer, "dataCleaner", new DataCleaner());
+        ReflectionTestUtils.setField(recordTransformer, "dataStandardizer", new DataStandardizer());
+        
+        integrityValidator = new ReferentialIntegrityValidator();
+        streamingPipeline = new StreamingEtlPipeline();
+        ReflectionTestUtils.setField(streamingPipeline, "recordTransformer", recordTransformer);
+        ReflectionTestUtils.setField(streamingPipeline, "s3DataLoader", loader);
+        ReflectionTestUtils.setField(streamingPipeline, "queueCapacity", 2);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        streamingPipeline.shutdown();
+    }
+    
+    @Test
+    void testRecordsFlowThroughSmallQueuesToOneObject() {
+        ReflectionTestUtils.setField(streamingPipeline, "jsonExtractor", new FailingPlayerExtractor(50, false));
+        
+        EtlPipeline.LoadResult result = execute();
+        
+        assertTrue(result.isSuccess());
+        assertEquals(50, result.getPlayersLoaded());
+        // The players object, then the run metadata and the _latest pointer
+        assertEquals(3, uploadedKeys.size());
+        assertTrue(uploadedKeys.get(0).endsWith(".ndjson"));
+        assertTrue(uploadedKeys.get(1).endsWith("metadata.json"));
+        assertEquals("sports-data/" + S3DataLoader.LATEST_RUN_OBJECT, uploadedKeys.get(2));
+    }
+    
+    @Test
+    void testProducerFailureReachesTheCallerAndUploadsNothing() {
+        ReflectionTestUtils.setField(streamingPipeline, "jsonExtractor", new FailingPlayerExtractor(50, true));
+        
+        RuntimeException failure = assertThrows(RuntimeException.class, this::execute);
+        
+        // The transform and load stages were released by the cancelled channels instead of hanging
+        assertEquals("Player feed broke after 50 records", rootCause(failure).getMessage());
+        assertTrue(uploadedKeys.isEmpty());
+    }
+    
+    private EtlPipeline.LoadResult execute() {
+        EtlPipeline.PipelineConfig config = new EtlPipeline.PipelineConfig(null, "players.json", null);
+        return streamingPipeline.execute(config, new DataProfiler(Duration.ofDays(7)), integrityValidator.newReferenceCheck());
+    }
+    
+    private static Throwable rootCause(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+    
+    // Streams generated players, optionally failing after the last one instead of ending
+    private static class FailingPlayerExtractor extends JsonApiExtractor {
+        private final int count;
+        private final boolean fail;
+        
+        FailingPlayerExtractor(int count, boolean fail) {
+            this.count = count;
+            this.fail = fail;
+        }
+        
+        @Override
+        public Stream<Player> streamPlayers(String filePath) {
+            Iterator<Player> players = new Iterator<>() {
+                private int next;
+                
+                @Override
+                public boolean hasNext() {
+                    if (next == count && fail) {
+                        throw new IllegalStateException("Player feed broke after " + count + " records");
+                    }
+                    return next < count;
+                }
+                
+                @Override
+                public Player next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    next++;
+                    return new Player("P" + next, "Player " + next, "LAL", "Guard", 25, null);
+                }
+            };
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(players, Spliterator.ORDERED), false);
+        }
+    }
+    
+    private class RecordingS3Client implements S3Client {
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+            uploadedKeys.add(request.key());
+            return PutObjectResponse.builder().build();
+        }
+        
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+        
+        @Override
+        public void close() {
+        }
+    }
+}
\ No newline at end of file
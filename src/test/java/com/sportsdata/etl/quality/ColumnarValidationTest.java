@@ -0,0 +1,83 @@
+package com.sportsdata.etl.quality;
+
+import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.GameBatch;
+import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.PlayerBatch;
+import com.sportsdata.etl.services.quality.ValidationRules;
+import com.sportsdata.etl.services.transformers.DataValidator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarValidationTest {
+    
+    private ValidationRules validationRules;
+    
+    @BeforeEach
+    void setUp() {
+        validationRules = new ValidationRules();
+    }
+    
+    @Test
+    void testCheckGamesMatchesRowChecks() {
+        List<Game> games = List.of(
+            new Game("G1", "LAL", "GSW", LocalDateTime.of(2023, 12, 25, 20, 0), 112, 108, "Final"),
+            new Game("G2", "LAL", "LAL", LocalDateTime.of(2023, 12, 25, 20, 0), null, null, "Scheduled"),
+            new Game("", "BOS", null, null, -3, 250, "Final"),
+            new Game("G4", "MIA", "NYK", LocalDateTime.of(1890, 1, 1, 0, 0), 90, null, "Scheduled"),
+            new Game("G5", " ", "CHI", LocalDateTime.of(2024, 1, 2, 19, 30), null, null, "Postponed"));
+        
+        GameBatch batch = GameBatch.of(games);
+        long[] codes = validationRules.checkGames(batch);
+        
+        assertEquals(games.size(), codes.length);
+        for (int i = 0; i < games.size(); i++) {
+            assertEquals(validationRules.checkGame(games.get(i)), codes[i], "row " + i);
+        }
+    }
+    
+    @Test
+    void testCheckPlayersMatchesRowChecks() {
+        List<Player> players = List.of(
+            new Player("P1", "LeBron James", "LAL", "Forward", 39, new Player.PlayerStatistics(71, 1822, 589)),
+            new Player("P2", "", "LAL", "Striker", 15, null),
+            new Player(null, "Rookie", null, null, null, new Player.PlayerStatistics(0, 10, null)),
+            new Player("P4", "Veteran", "BOS", "Guard", 55, new Player.PlayerStatistics(-1, -2, -3)));
+        
+        PlayerBatch batch = PlayerBatch.of(players);
+        long[] codes = validationRules.checkPlayers(batch);
+        
+        assertEquals(players.size(), codes.length);
+        for (int i = 0; i < players.size(); i++) {
+            assertEquals(validationRules.checkPlayer(players.get(i)), codes[i], "row " + i);
+        }
+    }
+    
+    @Test
+    void testValidateGameBatchKeepsValidRowsInOrder() {
+        DataValidator validator = new DataValidator();
+        ReflectionTestUtils.setField(validator, "validationRules", validationRules);
+        
+        GameBatch batch = new GameBatch(2);
+        for (int i = 0; i < 10; i++) {
+            // Every third game plays itself and must be dropped
+            String awayTeamId = i % 3 == 0 ? "LAL" : "GSW";
+            batch.add(new Game("G" + i, "LAL", awayTeamId, LocalDateTime.of(2024, 1, 1, 20, 0), 100, 99, "Final"));
+        }
+        
+        GameBatch valid = validator.validateGames(batch);
+        
+        assertEquals(6, valid.size());
+        assertEquals("G1", valid.gameIds()[0]);
+        assertEquals("G8", valid.gameIds()[5]);
+        assertEquals(LocalDateTime.of(2024, 1, 1, 20, 0), valid.row(5).getDate());
+        assertEquals(100, valid.row(5).homeScore());
+    }
+}
\ No newline at end of file
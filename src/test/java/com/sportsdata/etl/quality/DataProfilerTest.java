@@ -0,0 +1,125 @@
+package com.sportsdata.etl.quality;
+
+import com.sportsdata.etl.models.CompactPlayer;
+import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.Team;
+import com.sportsdata.etl.services.quality.DataProfile;
+import com.sportsdata.etl.services.quality.DataProfiler;
+import com.sportsdata.etl.services.quality.HyperLogLog;
+import com.sportsdata.etl.services.transformers.ReferentialIntegrityValidator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataProfilerTest {
+    
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 10, 12, 0);
+    
+    @Test
+    void testNullRatesAndDistinctEstimates() {
+        DataProfiler profiler = new DataProfiler(Duration.ofDays(7));
+        profiler.addTeam(new Team("BOS", "Celtics", "Boston", "NBA", null, "TD Garden"));
+        profiler.addTeam(new Team("LAL", "Lakers", "Los Angeles", "NBA", null, " "));
+        
+        DataProfile profile = profiler.finish(NOW);
+        
+        assertEquals(0.0, profile.getNullRates().get("teams.teamId"));
+        assertEquals(1.0, profile.getNullRates().get("teams.founded"));
+        assertEquals(0.5, profile.getNullRates().get("teams.venue"));
+        assertEquals(2L, profile.getDistinctEstimates().get("teams.teamId"));
+        assertEquals(1L, profile.getDistinctEstimates().get("teams.league"));
+        assertFalse(profile.getNullRates().containsKey("players.playerId"));
+    }
+    
+    @Test
+    void testCompactPlayersProfileLikeFullPlayers() {
+        Player withoutStatistics = new Player("P5", "E", "BOS", "PG", 29, null);
+        withoutStatistics.setStatistics(null);
+        List<Player> players = List.of(
+            new Player("P1", "A", "BOS", "PG", 25, new Player.PlayerStatistics(10, 100, 20)),
+            new Player("P2", "B", "BOS", "PG", 26, new Player.PlayerStatistics(10, 100, 20)),
+            new Player("P3", "C", "BOS", "PG", 27, new Player.PlayerStatistics(10, 100, null)),
+            new Player("P4", "D", "BOS", "PG", 28, null),
+            withoutStatistics);
+        DataProfiler full = new DataProfiler(Duration.ofDays(7));
+        DataProfiler compact = new DataProfiler(Duration.ofDays(7));
+        for (Player player : players) {
+            full.addPlayer(player);
+            compact.addPlayer(CompactPlayer.from(player));
+        }
+        
+        DataProfile fullProfile = full.finish(NOW);
+        DataProfile compactProfile = compact.finish(NOW);
+        
+        assertEquals(0.2, fullProfile.getNullRates().get("players.statistics"));
+        assertEquals(3L, fullProfile.getDistinctEstimates().get("players.statistics"));
+        assertEquals(fullProfile.getNullRates(), compactProfile.getNullRates());
+        assertEquals(fullProfile.getDistinctEstimates(), compactProfile.getDistinctEstimates());
+    }
+    
+    @Test
+    void testOrphanCountsTakenFromIntegrityResult() {
+        List<Team> teams = List.of(new Team("BOS", "Celtics", "Boston", "NBA", null, "TD Garden"));
+        List<Player> players = List.of(new Player("P1", "Known", "BOS", "PG", 25, null), new Player("P2", "Orphan", "XXX", "PG", 25, null));
+        ReferentialIntegrityValidator validator = new ReferentialIntegrityValidator();
+        ReflectionTestUtils.setField(validator, "bloomThreshold", 1000);
+        
+        DataProfiler profiler = new DataProfiler(Duration.ofDays(7));
+        players.forEach(profiler::addPlayer);
+        
+        assertEquals(0, profiler.finish(NOW).getOrphanPlayers());
+        DataProfile profile = profiler.finish(NOW, validator.validate(teams, players, List.of(), ForkJoinPool.commonPool()));
+        assertEquals(1, profile.getOrphanPlayers());
+        assertEquals(0, profile.getOrphanGames());
+    }
+    
+    @Test
+    void testScoreDistributionAndFreshness() {
+        DataProfiler profiler = new DataProfiler(Duration.ofDays(7));
+        profiler.addGame(new Game("G1", "BOS", "LAL", NOW.minusDays(14), 105, 98, "COMPLETED"));
+        profiler.addGame(new Game("G2", "BOS", "LAL", NOW.minusDays(28), 250, null, "COMPLETED"));
+        
+        DataProfile profile = profiler.finish(NOW);
+        
+        assertEquals(1L, profile.getScoreDistribution().get("100-109"));
+        assertEquals(1L, profile.getScoreDistribution().get("90-99"));
+        assertEquals(1L, profile.getScoreDistribution().get("200+"));
+        assertEquals(98, profile.getMinScore());
+        assertEquals(250, profile.getMaxScore());
+        assertEquals(NOW.minusDays(14), profile.getLatestGameDate());
+        assertEquals(0.5, profile.getFreshness(), 0.0001);
+    }
+    
+    @Test
+    void testZeroFreshnessWindowScoresPastGamesAsStale() {
+        DataProfiler profiler = new DataProfiler(Duration.ZERO);
+        profiler.addGame(new Game("G1", "BOS", "LAL", NOW.minusSeconds(30), 105, 98, "COMPLETED"));
+        
+        assertEquals(0.0, profiler.finish(NOW).getFreshness());
+        
+        DataProfiler current = new DataProfiler(Duration.ZERO);
+        current.addGame(new Game("G2", "BOS", "LAL", NOW, 105, 98, "COMPLETED"));
+        
+        assertEquals(1.0, current.finish(NOW).getFreshness());
+    }
+    
+    @Test
+    void testHyperLogLogEstimateWithinErrorBound() {
+        HyperLogLog sketch = new HyperLogLog(12);
+        for (int i = 0; i < 100_000; i++) {
+            sketch.add("player-" + i);
+            sketch.add("player-" + i);
+        }
+        
+        long estimate = sketch.estimate();
+        assertTrue(Math.abs(estimate - 100_000) < 5_000, "estimate was " + estimate);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.sportsdata.etl.quality;
+
+import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.Team;
+import com.sportsdata.etl.services.pipeline.EtlPipeline;
+import com.sportsdata.etl.services.quality.PipelineQualityChecker;
+import com.sportsdata.etl.services.quality.QualityReport;
+import com.sportsdata.etl.services.transformers.ReferentialIntegrityValidator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineQualityCheckerTest {
+    
+    private PipelineQualityChecker qualityChecker;
+    
+    @BeforeEach
+    void setUp() {
+        qualityChecker = new PipelineQualityChecker();
+        ReflectionTestUtils.setField(qualityChecker, "freshnessWindowDays", 7);
+    }
+    
+    @Test
+    void testCountsFromTransformedData() {
+        Team boston = new Team("BOS", "Celtics", "Boston", "NBA", LocalDate.of(1946, 6, 6), "TD Garden");
+        Team losAngeles = new Team("LAL", "Lakers", "Los Angeles", "NBA", LocalDate.of(1947, 1, 1), "Crypto.com Arena");
+        Player player = new Player("P1", "Jayson Tatum", "BOS", "SF", 26, new Player.PlayerStatistics(70, 1900, 350));
+        Game game = new Game("G1", "BOS", "LAL", LocalDateTime.now().minusDays(1), 110, 102, "COMPLETED");
+        
+        EtlPipeline.TransformedData transformedData = new EtlPipeline.TransformedData();
+        transformedData.setTeams(List.of(boston, losAngeles));
+        transformedData.setPlayers(Collections.nCopies(30, player));
+        transformedData.setGames(Collections.nCopies(100, game));
+        
+        // Delta load counts must not override the full run counts
+        EtlPipeline.LoadResult loadResult = new EtlPipeline.LoadResult();
+        loadResult.setTeamsLoaded(1);
+        
+        QualityReport report = qualityChecker.generateQualityReport(transformedData, loadResult);
+        
+        assertEquals(2, report.getTeamCount());
+        assertEquals(30, report.getPlayerCount());
+        assertEquals(100, report.getGameCount());
+        assertEquals(1.0, report.getOverallQualityScore(), 0.0001);
+        assertEquals("EXCELLENT", report.getQualityStatus());
+        assertNotNull(report.getDataProfile());
+        assertEquals(1.0, report.getQualityMetrics().get("referential_integrity"));
+    }
+    
+    @Test
+    void testProfileLowersScoreForOrphansAndStaleGames() {
+        EtlPipeline.TransformedData transformedData = new EtlPipeline.TransformedData();
+        transformedData.setTeams(List.of(new Team("BOS", "Celtics", "Boston", "NBA", null, "TD Garden")));
+        transformedData.setPlayers(List.of(new Player("P1", "Unknown", "XXX", "PG", 30, null)));
+        transformedData.setGames(List.of(new Game("G1", "BOS", "BOS", LocalDateTime.now().minusDays(70), 100, 90, "COMPLETED")));
+        
+        ReferentialIntegrityValidator validator = new ReferentialIntegrityValidator();
+        ReflectionTestUtils.setField(validator, "bloomThreshold", 1000);
+        ReferentialIntegrityValidator.IntegrityResult integrity = validator.validate(transformedData.getTeams(),
+            transformedData.getPlayers(), transformedData.getGames(), ForkJoinPool.commonPool());
+        
+        QualityReport report = qualityChecker.generateQualityReport(transformedData, null, integrity);
+        
+        assertEquals(1, report.getOrphanPlayers());
+        assertEquals(0.5, report.getQualityMetrics().get("referential_integrity"), 0.0001);
+        assertEquals(0.1, report.getQualityMetrics().get("data_freshness"), 0.01);
+        assertTrue(report.getOverallQualityScore() < 0.9);
+    }
+    
+    @Test
+    void testCountsFromLoadResultForStreamingRuns() {
+        EtlPipeline.LoadResult loadResult = new EtlPipeline.LoadResult();
+        loadResult.setTeamsLoaded(4);
+        
+        QualityReport report = qualityChecker.generateQualityReport(null, loadResult);
+        
+        assertEquals(4, report.getTeamCount());
+        assertEquals(0, report.getPlayerCount());
+        assertEquals(0.0, report.getQualityMetrics().get("data_availability"));
+        assertEquals("POOR", report.getQualityStatus());
+    }
+}
\ No newline at end of file
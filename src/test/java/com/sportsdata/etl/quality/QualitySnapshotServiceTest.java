@@ -0,0 +1,105 @@
+package com.sportsdata.etl.quality;
+
+import com.sportsdata.etl.services.quality.QualityReport;
+import com.sportsdata.etl.services.quality.QualitySnapshotService;
+import com.sportsdata.etl.services.quality.S3QualityChecker;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QualitySnapshotServiceTest {
+    
+    private CountingQualityChecker qualityChecker;
+    private QualitySnapshotService snapshotService;
+    
+    @BeforeEach
+    void setUp() {
+        qualityChecker = new CountingQualityChecker();
+        snapshotService = new QualitySnapshotService();
+        ReflectionTestUtils.setField(snapshotService, "qualityChecker", qualityChecker);
+        ReflectionTestUtils.setField(snapshotService, "maxAgeSeconds", 60L);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        snapshotService.shutdown();
+    }
+    
+    @Test
+    void testConcurrentCallersShareOneComputation() throws Exception {
+        List<FutureTask<QualitySnapshotService.Snapshot>> callers = new ArrayList<>();
+        List<Thread> callerThreads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            FutureTask<QualitySnapshotService.Snapshot> caller = new FutureTask<>(snapshotService::getSnapshot);
+            callers.add(caller);
+            callerThreads.add(new Thread(caller, "snapshot-caller-" + i));
+        }
+        
+        // The first caller starts the computation, which blocks until released
+        callerThreads.get(0).start();
+        assertTrue(qualityChecker.entered.await(5, TimeUnit.SECONDS));
+        for (Thread thread : callerThreads.subList(1, callerThreads.size())) {
+            thread.start();
+        }
+        
+        // Release only once every caller is parked on the in-flight refresh
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!callerThreads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+            assertTrue(System.nanoTime() < deadline, "callers did not wait on the shared refresh");
+            Thread.onSpinWait();
+        }
+        qualityChecker.release.countDown();
+        
+        QualitySnapshotService.Snapshot first = callers.get(0).get(5, TimeUnit.SECONDS);
+        for (FutureTask<QualitySnapshotService.Snapshot> caller : callers) {
+            assertSame(first, caller.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, qualityChecker.reports.get());
+        assertTrue(first.isS3Connected());
+    }
+    
+    @Test
+    void testFreshSnapshotIsServedWithoutRecomputing() {
+        qualityChecker.release.countDown();
+        
+        QualitySnapshotService.Snapshot first = snapshotService.getSnapshot();
+        QualitySnapshotService.Snapshot second = snapshotService.getSnapshot();
+        
+        assertSame(first, second);
+        assertEquals(1, qualityChecker.reports.get());
+    }
+    
+    private static class CountingQualityChecker extends S3QualityChecker {
+        private final AtomicInteger reports = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        
+        @Override
+        public QualityReport generateQualityReport() {
+            reports.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new QualityReport();
+        }
+        
+        @Override
+        public boolean checkS3Connection() {
+            return true;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.sportsdata.etl.quality;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sportsdata.etl.services.loaders.LoadCompletedEvent;
+import com.sportsdata.etl.services.loaders.S3DataLoader;
+import com.sportsdata.etl.services.quality.QualityReport;
+import com.sportsdata.etl.services.quality.S3QualityChecker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class S3QualityCheckerTest {
+    
+    private CountingS3Client s3Client;
+    private S3QualityChecker qualityChecker;
+    
+    @BeforeEach
+    void setUp() {
+        s3Client = new CountingS3Client();
+        qualityChecker = new S3QualityChecker();
+        ReflectionTestUtils.setField(qualityChecker, "s3Client", s3Client);
+        ReflectionTestUtils.setField(qualityChecker, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(qualityChecker, "keyPrefix", "sports-data");
+        ReflectionTestUtils.setField(qualityChecker, "latestRunCacheTtlSeconds", 60L);
+    }
+    
+    @Test
+    void testPointerCostsOneGetAndFreshCacheCostsNothing() throws Exception {
+        s3Client.putJson("sports-data/_latest.json", metadata("2024-03-01-00-00-00", 30));
+        
+        assertEquals(30, qualityChecker.generateQualityReport().getTeamCount());
+        assertEquals(1, s3Client.getCount);
+        assertEquals(0, s3Client.listCount);
+        
+        assertEquals(30, qualityChecker.generateQualityReport().getTeamCount());
+        assertEquals(1, s3Client.getCount);
+        assertEquals(0, s3Client.listCount);
+    }
+    
+    @Test
+    void testCachedRunExpiresAfterTtl() throws Exception {
+        ReflectionTestUtils.setField(qualityChecker, "latestRunCacheTtlSeconds", 1L);
+        s3Client.putJson("sports-data/_latest.json", metadata("2024-03-01-00-00-00", 30));
+        qualityChecker.generateQualityReport();
+        
+        s3Client.putJson("sports-data/_latest.json", metadata("2024-03-02-00-00-00", 31));
+        assertEquals(30, qualityChecker.generateQualityReport().getTeamCount());
+        
+        Thread.sleep(1100);
+        assertEquals(31, qualityChecker.generateQualityReport().getTeamCount());
+        assertEquals(2, s3Client.getCount);
+    }
+    
+    @Test
+    void testLoadCompletedReplacesCachedRun() throws Exception {
+        s3Client.putJson("sports-data/_latest.json", metadata("2024-03-01-00-00-00", 30));
+        qualityChecker.generateQualityReport();
+        
+        qualityChecker.onLoadCompleted(new LoadCompletedEvent(metadata("2024-03-02-00-00-00", 31)));
+        
+        assertEquals(31, qualityChecker.generateQualityReport().getTeamCount());
+        assertEquals(1, s3Client.getCount);
+    }
+    
+    @Test
+    void testFallbackScanWalksEveryPageAndSkipsNonRunPrefixes() throws Exception {
+        // Two prefixes per page; _incremental/ and zz-archive/ sort after every run and must not win
+        s3Client.putJson("sports-data/2024-01-01-00-00-00/metadata.json", metadata("2024-01-01-00-00-00", 10));
+        s3Client.putJson("sports-data/2024-02-01-00-00-00/metadata.json", metadata("2024-02-01-00-00-00", 20));
+        s3Client.putJson("sports-data/2024-03-01-00-00-00/metadata.json", metadata("2024-03-01-00-00-00", 30));
+        s3Client.putJson("sports-data/_incremental/manifest.json", metadata("2099-01-01-00-00-00", 99));
+        s3Client.putJson("sports-data/zz-archive/metadata.json", metadata("2099-01-01-00-00-00", 99));
+        
+        QualityReport report = qualityChecker.generateQualityReport();
+        
+        assertEquals(30, report.getTeamCount());
+        assertEquals(3, s3Client.listCount);
+    }
+    
+    private static S3DataLoader.Metadata metadata(String timestamp, int teamsCount) {
+        S3DataLoader.Metadata metadata = new S3DataLoader.Metadata();
+        metadata.setTimestamp(timestamp);
+        metadata.setTeamsCount(teamsCount);
+        metadata.setPlayersCount(teamsCount * 10);
+        metadata.setGamesCount(teamsCount * 5);
+        return metadata;
+    }
+    
+    // Counts GETs and list pages, and returns at most two common prefixes per page
+    private static class CountingS3Client implements S3Client {
+        private static final int PAGE_SIZE = 2;
+        private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        private final Map<String, byte[]> objects = new TreeMap<>();
+        private int getCount;
+        private int listCount;
+        
+        void putJson(String key, Object value) throws Exception {
+            objects.put(key, objectMapper.writeValueAsBytes(value));
+        }
+        
+        @Override
+        public ResponseBytes<GetObjectResponse> getObjectAsBytes(GetObjectRequest request) {
+            getCount++;
+            byte[] content = objects.get(request.key());
+            if (content == null) {
+                throw NoSuchKeyException.builder().message("No such key: " + request.key()).build();
+            }
+            return ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), content);
+        }
+        
+        @Override
+        public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+            listCount++;
+            List<String> prefixes = objects.keySet().stream()
+                .filter(key -> key.startsWith(request.prefix()))
+                .map(key -> key.substring(0, key.indexOf(request.delimiter(), request.prefix().length()) + 1))
+                .collect(Collectors.toCollection(TreeSet::new))
+                .stream().toList();
+            
+            int start = request.continuationToken() == null ? 0 : Integer.parseInt(request.continuationToken());
+            int end = Math.min(start + PAGE_SIZE, prefixes.size());
+            boolean truncated = end < prefixes.size();
+            return ListObjectsV2Response.builder()
+                .commonPrefixes(prefixes.subList(start, end).stream()
+                    .map(prefix -> CommonPrefix.builder().prefix(prefix).build()).toList())
+                .isTruncated(truncated)
+                .nextContinuationToken(truncated ? String.valueOf(end) : null)
+                .build();
+        }
+        
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+        
+        @Override
+        public void close() {
+        }
+    }
+}
\ No newline at end of file
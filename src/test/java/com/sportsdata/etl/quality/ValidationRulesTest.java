@@ -3,6 +3,7 @@ package com.sportsdata.etl.quality;
 import com.sportsdata.etl.models.Game;
 import com.sportsdata.etl.models.Player;
 import com.sportsdata.etl.models.Team;
+import com.sportsdata.etl.services.quality.ValidationCode;
 import com.sportsdata.etl.services.quality.ValidationRules;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -303,4 +304,30 @@ class ValidationRulesTest {
         assertEquals(1, result.getWarningCount());
         assertTrue(result.getWarnings().get(0).contains("Game date seems unusually early"));
     }
-} 
\ No newline at end of file
+    
+    @Test
+    void testCheckGame_ValidGameHasNoCodes() {
+        Game game = new Game("G001", "LAL", "GSW", LocalDateTime.of(2024, 1, 15, 19, 30),
+                           118, 124, "Final");
+        
+        assertEquals(0L, validationRules.checkGame(game));
+    }
+    
+    @Test
+    void testCheckPlayer_CodesMatchRenderedResult() {
+        Player player = new Player("P001", "Young Player", "LAL", "Unknown Position", 15, null);
+        
+        long codes = validationRules.checkPlayer(player);
+        
+        assertTrue(ValidationCode.PLAYER_AGE_TOO_YOUNG.isSet(codes));
+        assertTrue(ValidationCode.PLAYER_POSITION_UNKNOWN.isSet(codes));
+        assertFalse(ValidationRules.isValid(codes));
+        assertEquals(1, ValidationRules.errorCount(codes));
+        assertEquals(1, ValidationRules.warningCount(codes));
+        
+        ValidationRules.ValidationResult result = validationRules.describe(codes, player);
+        assertEquals(codes, result.getCodes());
+        assertEquals("Player age is too young: 15", result.getErrors().get(0));
+        assertEquals("Unknown player position: Unknown Position", result.getWarnings().get(0));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.sportsdata.etl.transformers;
+
+import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.services.transformers.DataStandardizer;
+import com.sportsdata.etl.services.transformers.StandardizationDictionary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataStandardizerTest {
+    
+    @Test
+    void testDictionaryLookupIgnoresCase() {
+        StandardizationDictionary dictionary = StandardizationDictionary.of(Map.of(
+            "PG", "Point Guard",
+            "in-progress", "Live"));
+        
+        assertEquals("Point Guard", dictionary.lookup("PG"));
+        assertEquals("Point Guard", dictionary.lookup("pg"));
+        assertEquals("Live", dictionary.lookup("IN-PROGRESS"));
+        assertNull(dictionary.lookup("Coach"));
+    }
+    
+    @Test
+    void testBundledMappingsStandardizeStatusesCaseInsensitively() {
+        DataStandardizer standardizer = new DataStandardizer();
+        
+        List<Game> games = standardizer.standardizeGames(List.of(
+            new Game("G1", "LAL", "GSW", LocalDateTime.of(2024, 1, 15, 19, 30), 100, 99, "CANCELED"),
+            new Game("G2", "LAL", "GSW", LocalDateTime.of(2024, 1, 16, 19, 30), null, null, "Tip-off soon")));
+        
+        assertEquals("Cancelled", games.get(0).getStatus());
+        assertEquals("Tip-off soon", games.get(1).getStatus());
+    }
+    
+    @Test
+    void testMappingsFileIsReloadedWhenChanged(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("mappings.json");
+        Files.writeString(file, "{\"positions\": {\"PG\": \"Point Guard\"}}");
+        
+        DataStandardizer standardizer = new DataStandardizer();
+        ReflectionTestUtils.setField(standardizer, "mappingsFile", file.toString());
+        standardizer.reloadMappings();
+        assertEquals("Guard", standardize(standardizer, "Guard"));
+        assertEquals("Point Guard", standardize(standardizer, "pg"));
+        
+        Files.writeString(file, "{\"positions\": {\"Guard\": \"Combo Guard\"}}");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+        standardizer.reloadMappings();
+        assertEquals("Combo Guard", standardize(standardizer, "guard"));
+        
+        // A broken file leaves the last good tables in place
+        Files.writeString(file, "{not json");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+        standardizer.reloadMappings();
+        assertEquals("Combo Guard", standardize(standardizer, "Guard"));
+    }
+    
+    private String standardize(DataStandardizer standardizer, String position) {
+        Player player = new Player("P1", "Test Player", "LAL", position, 25, null);
+        return standardizer.standardizePlayers(List.of(player)).get(0).getPosition();
+    }
+}
\ No newline at end of file
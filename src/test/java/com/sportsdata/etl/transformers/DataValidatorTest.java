@@ -0,0 +1,62 @@
+package com.sportsdata.etl.transformers;
+
+import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.services.quality.ValidationRules;
+import com.sportsdata.etl.services.transformers.DataValidator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataValidatorTest {
+    
+    private DataValidator sequentialValidator;
+    private DataValidator parallelValidator;
+    
+    @BeforeEach
+    void setUp() {
+        sequentialValidator = new DataValidator();
+        ReflectionTestUtils.setField(sequentialValidator, "validationRules", new ValidationRules());
+        
+        parallelValidator = new DataValidator();
+        ReflectionTestUtils.setField(parallelValidator, "validationRules", new ValidationRules());
+        ReflectionTestUtils.setField(parallelValidator, "parallelEnabled", true);
+        ReflectionTestUtils.setField(parallelValidator, "parallelism", 4);
+        ReflectionTestUtils.setField(parallelValidator, "parallelThreshold", 1);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        parallelValidator.shutdown();
+    }
+    
+    @Test
+    void testParallelValidationKeepsInputOrder() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            // Every seventh player is too young and must be dropped
+            int age = i % 7 == 0 ? 15 : 25;
+            players.add(new Player("P" + i, "Player " + i, "LAL", "Guard", age, null));
+        }
+        
+        List<Player> parallel = parallelValidator.validatePlayers(players);
+        List<Player> sequential = sequentialValidator.validatePlayers(players);
+        
+        assertEquals(sequential.size(), parallel.size());
+        assertEquals(20_000 - 2858, parallel.size());
+        for (int i = 0; i < parallel.size(); i++) {
+            assertSame(sequential.get(i), parallel.get(i));
+        }
+    }
+    
+    @Test
+    void testParallelValidationOfEmptyInput() {
+        assertTrue(parallelValidator.validatePlayers(List.of()).isEmpty());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+package com.sportsdata.etl.transformers;
+
+import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.Team;
+import com.sportsdata.etl.services.quality.ValidationRules;
+import com.sportsdata.etl.services.transformers.DataCleaner;
+import com.sportsdata.etl.services.transformers.DataStandardizer;
+import com.sportsdata.etl.services.transformers.DataValidator;
+import com.sportsdata.etl.services.transformers.RecordTransformer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordTransformerTest {
+    
+    private DataValidator dataValidator;
+    private DataCleaner dataCleaner;
+    private DataStandardizer dataStandardizer;
+    private RecordTransformer recordTransformer;
+    
+    @BeforeEach
+    void setUp() {
+        dataValidator = new DataValidator();
+        ReflectionTestUtils.setField(dataValidator, "validationRules", new ValidationRules());
+        dataCleaner = new DataCleaner();
+        dataStandardizer = new DataStandardizer();
+        
+        recordTransformer = new RecordTransformer();
+        ReflectionTestUtils.setField(recordTransformer, "dataValidator", dataValidator);
+        ReflectionTestUtils.setField(recordTransformer, "dataCleaner", dataCleaner);
+        ReflectionTestUtils.setField(recordTransformer, "dataStandardizer", dataStandardizer);
+    }
+    
+    @Test
+    void testTransformTeams_MatchesThreeStepChain() {
+        List<Team> teams = List.of(
+            new Team("LAL", "  los   angeles LAKERS ", "los angeles", "National Basketball Association",
+                     LocalDate.of(1947, 1, 1), "crypto.com   arena"),
+            new Team("LAL", "Duplicate Lakers", "Los Angeles", "NBA", LocalDate.of(1947, 1, 1), null),
+            new Team("GSW", "", "San Francisco", "nba", LocalDate.of(1946, 1, 1), "Chase Center"),
+            new Team("BOS", "boston celtics", "boston", "nba", null, "  ")
+        );
+        
+        List<Team> expected = dataStandardizer.standardizeTeams(
+            dataCleaner.cleanTeams(dataValidator.validateTeams(teams)));
+        List<Team> actual = recordTransformer.transformTeams(teams);
+        
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+        }
+        assertEquals("Los Angeles Lakers", actual.get(0).getName());
+        assertEquals("NBA", actual.get(1).getLeague());
+    }
+    
+    @Test
+    void testTransformPlayers_MatchesThreeStepChain() {
+        List<Player> players = List.of(
+            new Player("P001", "lebron   JAMES", "LAL", "sf", 39, new Player.PlayerStatistics(74, 2168, 515)),
+            new Player("P002", "Stephen Curry", "GSW", "Point Guard", 15, null),
+            new Player("P001", "Duplicate", "LAL", "SF", 39, null),
+            new Player("P003", "jayson tatum", "BOS", "Wing", 26, null)
+        );
+        
+        List<Player> expected = dataStandardizer.standardizePlayers(
+            dataCleaner.cleanPlayers(dataValidator.validatePlayers(players)));
+        List<Player> actual = recordTransformer.transformPlayers(players);
+        
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+        }
+        assertEquals("Small Forward", actual.get(0).getPosition());
+    }
+    
+    @Test
+    void testTransformGames_MatchesThreeStepChain() {
+        List<Game> games = List.of(
+            new Game("G001", "LAL", "GSW", LocalDateTime.of(2024, 1, 15, 19, 30), 118, 124, " final "),
+            new Game("G002", "BOS", "BOS", LocalDateTime.of(2024, 1, 15, 20, 0), 110, 106, "Final"),
+            new Game("G003", "CHI", "NYK", LocalDateTime.of(2024, 1, 20, 19, 0), null, null, "upcoming")
+        );
+        
+        List<Game> expected = dataStandardizer.standardizeGames(
+            dataCleaner.cleanGames(dataValidator.validateGames(games)));
+        List<Game> actual = recordTransformer.transformGames(games);
+        
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+        }
+        assertEquals("Final", actual.get(0).getStatus());
+        assertEquals("Scheduled", actual.get(1).getStatus());
+    }
+    
+    @Test
+    void testParallelTransformMatchesSequential() {
+        DataValidator parallelValidator = new DataValidator();
+        ReflectionTestUtils.setField(parallelValidator, "validationRules", new ValidationRules());
+        ReflectionTestUtils.setField(parallelValidator, "parallelEnabled", true);
+        ReflectionTestUtils.setField(parallelValidator, "parallelism", 4);
+        ReflectionTestUtils.setField(parallelValidator, "parallelThreshold", 1);
+        RecordTransformer parallelTransformer = new RecordTransformer();
+        ReflectionTestUtils.setField(parallelTransformer, "dataValidator", parallelValidator);
+        ReflectionTestUtils.setField(parallelTransformer, "dataCleaner", dataCleaner);
+        ReflectionTestUtils.setField(parallelTransformer, "dataStandardizer", dataStandardizer);
+        
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            // Every seventh player is too young, and every eleventh repeats an earlier id
+            int age = i % 7 == 0 ? 15 : 25;
+            String playerId = i % 11 == 0 ? "P" + (i / 2) : "P" + i;
+            players.add(new ThreadRecordingPlayer(playerId, "player  " + i, "sf", age, threadNames));
+        }
+        
+        try {
+            List<Player> sequential = recordTransformer.transformPlayers(players);
+            threadNames.clear();
+            List<Player> parallel = parallelTransformer.transformPlayers(players);
+            
+            assertEquals(sequential.size(), parallel.size());
+            for (int i = 0; i < sequential.size(); i++) {
+                assertEquals(sequential.get(i).toString(), parallel.get(i).toString());
+            }
+            assertTrue(threadNames.stream().anyMatch(name -> name.startsWith("etl-validate-")), threadNames.toString());
+        } finally {
+            parallelValidator.shutdown();
+        }
+    }
+    
+    // Records the threads that read the player, to show which path did the work
+    private static class ThreadRecordingPlayer extends Player {
+        private final Set<String> threadNames;
+        
+        ThreadRecordingPlayer(String playerId, String name, String position, int age, Set<String> threadNames) {
+            super(playerId, name, "LAL", position, age, null);
+            this.threadNames = threadNames;
+        }
+        
+        @Override
+        public String getName() {
+            threadNames.add(Thread.currentThread().getName());
+            return super.getName();
+        }
+    }
+}
\ No newline at end of file
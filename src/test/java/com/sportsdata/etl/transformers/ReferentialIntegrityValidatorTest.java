@@ -0,0 +1,108 @@
+package com.sportsdata.etl.transformers;
+
+import com.sportsdata.etl.models.Game;
+import com.sportsdata.etl.models.Player;
+import com.sportsdata.etl.models.Team;
+import com.sportsdata.etl.services.transformers.ReferentialIntegrityValidator;
+import com.sportsdata.etl.services.transformers.TeamIdIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferentialIntegrityValidatorTest {
+    
+    private ReferentialIntegrityValidator validator;
+    
+    @BeforeEach
+    void setUp() {
+        validator = new ReferentialIntegrityValidator();
+        ReflectionTestUtils.setField(validator, "bloomThreshold", 1000);
+    }
+    
+    @Test
+    void testCountsOrphanPlayersAndGames() {
+        List<Team> teams = List.of(team("BOS"), team("LAL"));
+        List<Player> players = List.of(
+            new Player("P1", "Known", "BOS", "PG", 25, null),
+            new Player("P2", "Orphan", "XXX", "PG", 25, null),
+            new Player("P3", "No Team", null, "PG", 25, null));
+        List<Game> games = List.of(
+            new Game("G1", "BOS", "LAL", LocalDateTime.now(), 100, 90, "COMPLETED"),
+            new Game("G2", "BOS", "YYY", LocalDateTime.now(), 100, 90, "COMPLETED"));
+        
+        ReferentialIntegrityValidator.IntegrityResult result = validator.validate(teams, players, games, ForkJoinPool.commonPool());
+        
+        assertEquals(1, result.getOrphanPlayers());
+        assertEquals(List.of("P2"), result.getSamplePlayerIds());
+        assertEquals(1, result.getOrphanGames());
+        assertEquals(List.of("G2"), result.getSampleGameIds());
+        assertFalse(result.isApproximate());
+    }
+    
+    @Test
+    void testSampleIdsAreBounded() {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            players.add(new Player("P" + i, "Orphan", "XXX", "PG", 25, null));
+        }
+        
+        ReferentialIntegrityValidator.IntegrityResult result = validator.validate(List.of(team("BOS")), players, List.of(), ForkJoinPool.commonPool());
+        
+        assertEquals(500, result.getOrphanPlayers());
+        assertEquals(List.of("P0", "P1", "P2", "P3", "P4", "P5", "P6", "P7", "P8", "P9"), result.getSamplePlayerIds());
+    }
+    
+    @Test
+    void testReferenceCheckResolvesRegardlessOfOrder() {
+        ReferentialIntegrityValidator.ReferenceCheck references = validator.newReferenceCheck();
+        // Players and games arrive before the teams they reference
+        references.addPlayer(new Player("P1", "Known", "BOS", "PG", 25, null));
+        references.addPlayer(new Player("P2", "Orphan", "XXX", "PG", 25, null));
+        references.addPlayer(new Player("P3", "No Team", null, "PG", 25, null));
+        references.addGame(new Game("G1", "BOS", "LAL", LocalDateTime.now(), 100, 90, "COMPLETED"));
+        references.addGame(new Game("G2", "XXX", "YYY", LocalDateTime.now(), 100, 90, "COMPLETED"));
+        references.addTeam(team("BOS"));
+        references.addTeam(team("LAL"));
+        
+        ReferentialIntegrityValidator.IntegrityResult result = references.finish();
+        
+        assertEquals(1, result.getOrphanPlayers());
+        assertEquals(List.of("P2"), result.getSamplePlayerIds());
+        assertEquals(1, result.getOrphanGames());
+        assertEquals(List.of("G2"), result.getSampleGameIds());
+    }
+    
+    @Test
+    void testBloomFilterIndexForLargeTeamSets() {
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            teams.add(team("T" + i));
+        }
+        
+        TeamIdIndex index = TeamIdIndex.build(teams, 1000);
+        assertTrue(index.isApproximate());
+        for (Team team : teams) {
+            assertTrue(index.contains(team.getTeamId()));
+        }
+        
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (index.contains("UNKNOWN-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+    
+    private Team team(String teamId) {
+        return new Team(teamId, teamId + " Team", "City", "NBA", null, "Arena");
+    }
+}
\ No newline at end of file
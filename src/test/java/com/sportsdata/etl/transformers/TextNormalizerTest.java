@@ -0,0 +1,32 @@
+package com.sportsdata.etl.transformers;
+
+import com.sportsdata.etl.services.transformers.TextNormalizer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextNormalizerTest {
+    
+    @Test
+    void testNormalizeSpaceTrimsAndCollapses() {
+        assertEquals("Los Angeles Lakers", TextNormalizer.normalizeSpace("  Los   Angeles\t\nLakers  "));
+        assertEquals("Lakers", TextNormalizer.normalizeSpace("Lakers   "));
+        assertEquals("", TextNormalizer.normalizeSpace(" \t "));
+    }
+    
+    @Test
+    void testTitleCase() {
+        assertEquals("Golden State Warriors", TextNormalizer.titleCase(" golden   STATE warriors"));
+        assertEquals("O'neal", TextNormalizer.titleCase("O'NEAL"));
+    }
+    
+    @Test
+    void testUnchangedInputReturnsSameInstance() {
+        String clean = "Crypto.com Arena";
+        assertSame(clean, TextNormalizer.normalizeSpace(clean));
+        
+        String titled = "Point Guard";
+        assertSame(titled, TextNormalizer.titleCase(titled));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.sportsdata.etl.transformers;
+
+import com.sportsdata.etl.services.quality.ValidationCode;
+import com.sportsdata.etl.services.transformers.DataValidator;
+import com.sportsdata.etl.services.transformers.ValidationDiagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationDiagnosticsTest {
+    
+    @Test
+    void testAggregatesByCodeWithBoundedSamples() {
+        ValidationDiagnostics diagnostics = new ValidationDiagnostics();
+        for (int i = 0; i < 8; i++) {
+            diagnostics.record(ValidationCode.PLAYER_AGE_TOO_YOUNG.bit() | ValidationCode.PLAYER_POSITION_UNKNOWN.bit(), "P" + i);
+        }
+        diagnostics.record(ValidationCode.PLAYER_ID_REQUIRED.bit(), null);
+        
+        assertEquals(9, diagnostics.getErrorCount());
+        assertEquals(8, diagnostics.getWarningCount());
+        assertEquals(8L, diagnostics.getCodeCounts().get(ValidationCode.PLAYER_AGE_TOO_YOUNG));
+        assertEquals(List.of("P0", "P1", "P2", "P3", "P4"), diagnostics.getSampleIds(ValidationCode.PLAYER_AGE_TOO_YOUNG));
+        assertTrue(diagnostics.errorSummary().startsWith("PLAYER_ID_REQUIRED=1 e.g. [null], "));
+        assertTrue(diagnostics.errorSummary().contains("PLAYER_AGE_TOO_YOUNG=8"));
+        assertFalse(diagnostics.errorSummary().contains("PLAYER_POSITION_UNKNOWN"));
+        assertEquals("PLAYER_POSITION_UNKNOWN=8 e.g. [P0, P1, P2, P3, P4]", diagnostics.warningSummary());
+    }
+    
+    @Test
+    void testMergeKeepsSampleOrder() {
+        ValidationDiagnostics left = new ValidationDiagnostics();
+        left.record(ValidationCode.GAME_STATUS_UNKNOWN.bit(), "G1");
+        ValidationDiagnostics right = new ValidationDiagnostics();
+        right.record(ValidationCode.GAME_STATUS_UNKNOWN.bit(), "G2");
+        right.record(ValidationCode.GAME_SAME_TEAMS.bit(), "G3");
+        
+        left.merge(right);
+        
+        assertEquals(1, left.getErrorCount());
+        assertEquals(2, left.getWarningCount());
+        assertEquals(List.of("G1", "G2"), left.getSampleIds(ValidationCode.GAME_STATUS_UNKNOWN));
+        assertTrue(left.getSampleIds(ValidationCode.GAME_ID_REQUIRED).isEmpty());
+    }
+    
+    @Test
+    void testLogGateSamplesAndCapsPerSecond() {
+        DataValidator.SampledLogGate disabled = new DataValidator.SampledLogGate(0, 10);
+        assertFalse(disabled.tryAcquire());
+        
+        DataValidator.SampledLogGate gate = new DataValidator.SampledLogGate(2, 3);
+        int passed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (gate.tryAcquire()) {
+                passed++;
+            }
+        }
+        // 50 sampled calls, capped at 3 unless the loop straddled a second boundary
+        assertTrue(passed >= 3 && passed <= 6);
+    }
+}
\ No newline at end of file